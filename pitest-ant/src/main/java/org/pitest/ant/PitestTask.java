@@ -132,6 +132,22 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.THREADS, value);
   }
 
+  public void setAgents(final String value) {
+    this.setOption(ConfigOption.AGENTS, value);
+  }
+
+  public void setAgentToken(final String value) {
+    this.setOption(ConfigOption.AGENT_TOKEN, value);
+  }
+
+  public void setSampleRate(final String value) {
+    this.setOption(ConfigOption.SAMPLE_RATE, value);
+  }
+
+  public void setSampleSeed(final String value) {
+    this.setOption(ConfigOption.SAMPLE_SEED, value);
+  }
+
   public void setDetectInlinedCode(final String value) {
     this.setOption(ConfigOption.USE_INLINED_CODE_DETECTION, value);
   }
@@ -244,6 +260,18 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.MAX_SURVIVING, value);
   }
 
+  public void setMaxRunTime(final String value) {
+    this.setOption(ConfigOption.MAX_RUN_TIME, value);
+  }
+
+  public void setEarlyTermination(final String value) {
+    this.setOption(ConfigOption.EARLY_TERMINATION, value);
+  }
+
+  public void setExportTrace(final String value) {
+    this.setOption(ConfigOption.EXPORT_TRACE, value);
+  }
+
   public void setCoverageThreshold(final String value) {
     this.setOption(ConfigOption.COVERAGE_THRESHOLD, value);
   }
@@ -256,6 +284,14 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.FULL_MUTATION_MATRIX, value);
   }
 
+  public void setMutantSchemata(final String value) {
+    this.setOption(ConfigOption.MUTANT_SCHEMATA, value);
+  }
+
+  public void setClassDataSharing(final String value) {
+    this.setOption(ConfigOption.CLASS_DATA_SHARING, value);
+  }
+
   public void setJVM(String value) {
     this.setOption(ConfigOption.JVM_PATH, value);
   }
@@ -454,6 +454,55 @@ public class PitestTaskTest {
     verify(this.arg).setValue("--maxSurviving=42");
   }
 
+  @Test
+  public void shouldPassMaxRunTimeToJavaTask() {
+    this.pitestTask.setMaxRunTime("15m");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--maxRunTime=15m");
+  }
+
+  @Test
+  public void shouldPassEarlyTerminationToJavaTask() {
+    this.pitestTask.setEarlyTermination("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--earlyTermination=true");
+  }
+
+  @Test
+  public void shouldPassAgentsToJavaTask() {
+    this.pitestTask.setAgents("hosta:8123,hostb:8123");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--agents=hosta:8123,hostb:8123");
+  }
+
+  @Test
+  public void shouldPassAgentTokenToJavaTask() {
+    this.pitestTask.setAgentToken("secret");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--agentToken=secret");
+  }
+
+  @Test
+  public void shouldPassSampleRateToJavaTask() {
+    this.pitestTask.setSampleRate("10");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--sampleRate=10");
+  }
+
+  @Test
+  public void shouldPassSampleSeedToJavaTask() {
+    this.pitestTask.setSampleSeed("42");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--sampleSeed=42");
+  }
+
+  @Test
+  public void shouldPassExportTraceToJavaTask() {
+    this.pitestTask.setExportTrace("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--exportTrace=true");
+  }
+
   @Test
   public void shouldPassCoverageThresholdToJavaTask() {
     this.pitestTask.setCoverageThreshold("42");
@@ -488,6 +537,20 @@ public class PitestTaskTest {
     this.pitestTask.execute(this.java);
     verify(this.arg).setValue("--fullMutationMatrix=true");
   }
+
+  @Test
+  public void shouldPassMutantSchemataToJavaTask() {
+    this.pitestTask.setMutantSchemata("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--mutantSchemata=true");
+  }
+
+  @Test
+  public void shouldPassClassDataSharingToJavaTask() {
+    this.pitestTask.setClassDataSharing("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--classDataSharing=true");
+  }
   
   private static class PathMatcher extends ArgumentMatcher<Path> {
 
@@ -24,6 +24,7 @@ import joptsimple.util.KeyValuePair;
 import org.pitest.classpath.ClassPath;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.config.ConfigOption;
+import org.pitest.mutationtest.config.Durations;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
@@ -41,18 +42,23 @@ import java.util.Properties;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import static org.pitest.mutationtest.config.ConfigOption.AGENTS;
+import static org.pitest.mutationtest.config.ConfigOption.AGENT_TOKEN;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
+import static org.pitest.mutationtest.config.ConfigOption.EARLY_TERMINATION;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_METHOD;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.EXPORT_TRACE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
@@ -63,7 +69,9 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_RUN_TIME;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
@@ -71,6 +79,8 @@ import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLE_RATE;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLE_SEED;
 import static org.pitest.mutationtest.config.ConfigOption.SKIP_FAILING_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
@@ -98,6 +108,10 @@ public class OptionsParser {
   private final OptionSpec<String>                   avoidCallsSpec;
   private final OptionSpec<Integer>                  depth;
   private final OptionSpec<Integer>                  threadsSpec;
+  private final OptionSpec<String>                   agentsSpec;
+  private final OptionSpec<String>                   agentTokenSpec;
+  private final OptionSpec<Integer>                  sampleRateSpec;
+  private final OptionSpec<Integer>                  sampleSeedSpec;
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
   private final OptionSpec<File>                     historyInputSpec;
@@ -120,6 +134,8 @@ public class OptionsParser {
   private final OptionSpec<String>                   includedGroupsSpec;
   private final OptionSpec<String>                   includedTestMethodsSpec;
   private final OptionSpec<Boolean>                  fullMutationMatrixSpec;
+  private final OptionSpec<Boolean>                  mutantSchemataSpec;
+  private final OptionSpec<Boolean>                  classDataSharingSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
@@ -127,8 +143,11 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Integer> testStrengthThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> coverageThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> maxSurvivingSpec;
+  private final ArgumentAcceptingOptionSpec<String>  maxRunTimeSpec;
+  private final OptionSpec<Boolean>                  earlyTerminationSpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> exportTraceSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
@@ -182,11 +201,28 @@ public class OptionsParser {
         .ofType(Integer.class).defaultsTo(THREADS.getDefault(Integer.class))
         .describedAs("number of threads to use for testing");
 
+    this.agentsSpec = parserAccepts(AGENTS).withRequiredArg()
+        .ofType(String.class).withValuesSeparatedBy(',')
+        .describedAs(
+            "comma separated list of host:port of agents to launch minions on");
+
+    this.agentTokenSpec = parserAccepts(AGENT_TOKEN).withRequiredArg()
+        .ofType(String.class)
+        .describedAs("token shared with the agents");
+
     parserAccepts(MAX_MUTATIONS_PER_CLASS)
         .withRequiredArg().ofType(Integer.class)
         .defaultsTo(MAX_MUTATIONS_PER_CLASS.getDefault(Integer.class))
         .describedAs("No longer supported. Use CLASSLIMIT(limit[42]) feature instead");
 
+    this.sampleRateSpec = parserAccepts(SAMPLE_RATE).withRequiredArg()
+        .ofType(Integer.class).defaultsTo(SAMPLE_RATE.getDefault(Integer.class))
+        .describedAs("percentage of mutants to analyse");
+
+    this.sampleSeedSpec = parserAccepts(SAMPLE_SEED).withRequiredArg()
+        .ofType(Integer.class).defaultsTo(SAMPLE_SEED.getDefault(Integer.class))
+        .describedAs("seed from which the sample of mutants is drawn");
+
     this.sourceDirSpec = parserAccepts(SOURCE_DIR).withRequiredArg()
         .ofType(File.class).withValuesSeparatedBy(',')
         .describedAs("comma separated list of source directories").required();
@@ -256,6 +292,13 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.exportTraceSpec = parserAccepts(EXPORT_TRACE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to write a trace of where time was spent to disk");
+
     this.useClasspathJarSpec = parserAccepts(USE_CLASSPATH_JAR)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(false)
         .describedAs("support large classpaths by creating a classpath jar");
@@ -313,6 +356,20 @@ public class OptionsParser {
             "Whether to create a full mutation matrix")
         .defaultsTo(FULL_MUTATION_MATRIX.getDefault(Boolean.class));
 
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withRequiredArg()
+        .ofType(Boolean.class)
+        .describedAs(
+            "Whether to switch between mutants without hot swapping classes")
+        .defaultsTo(MUTANT_SCHEMATA.getDefault(Boolean.class));
+
+    this.classDataSharingSpec = parserAccepts(CLASS_DATA_SHARING)
+        .withRequiredArg()
+        .ofType(Boolean.class)
+        .describedAs(
+            "Whether to start minions from a cached class data sharing archive")
+        .defaultsTo(CLASS_DATA_SHARING.getDefault(Boolean.class));
+
     this.mutationUnitSizeSpec = parserAccepts(MUTATION_UNIT_SIZE)
         .withRequiredArg()
         .ofType(Integer.class)
@@ -343,6 +400,16 @@ public class OptionsParser {
         .describedAs("Maximum number of surviving mutants to allow without throwing an error")
         .defaultsTo(MAX_SURVIVING.getDefault(Integer.class));
 
+    this.maxRunTimeSpec = parserAccepts(MAX_RUN_TIME)
+        .withRequiredArg().ofType(String.class)
+        .describedAs("Time after which no further mutations are analysed, such as 15m or 90s")
+        .defaultsTo(MAX_RUN_TIME.getDefault(String.class));
+
+    this.earlyTerminationSpec = parserAccepts(EARLY_TERMINATION)
+        .withRequiredArg().ofType(Boolean.class)
+        .describedAs("Whether to stop once the outcome of the thresholds is certain")
+        .defaultsTo(EARLY_TERMINATION.getDefault(Boolean.class));
+
     this.coverageThreshHoldSpec = parserAccepts(COVERAGE_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Line coverage below which to throw an error")
@@ -399,6 +466,8 @@ public class OptionsParser {
     data.addChildJVMArgs(this.jvmArgs.values(userArgs));
     
     data.setFullMutationMatrix(this.fullMutationMatrixSpec.value(userArgs));
+    data.setMutantSchemata(this.mutantSchemataSpec.value(userArgs));
+    data.setClassDataSharing(this.classDataSharingSpec.value(userArgs));
 
 
     data.setDetectInlinedCode(userArgs.has(this.detectInlinedCode)
@@ -412,6 +481,10 @@ public class OptionsParser {
     data.setShouldCreateTimestampedReports(userArgs
         .valueOf(this.timestampedReportsSpec));
     data.setNumberOfThreads(this.threadsSpec.value(userArgs));
+    data.setAgents(this.agentsSpec.values(userArgs));
+    data.setAgentToken(this.agentTokenSpec.value(userArgs));
+    data.setSampleRate(this.sampleRateSpec.value(userArgs));
+    data.setSampleSeed(this.sampleSeedSpec.value(userArgs));
     data.setTimeoutFactor(this.timeoutFactorSpec.value(userArgs));
     data.setTimeoutConstant(this.timeoutConstSpec.value(userArgs));
     data.setLoggingClasses(this.avoidCallsSpec.values(userArgs));
@@ -433,6 +506,8 @@ public class OptionsParser {
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setTestStrengthThreshold(this.testStrengthThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
+    data.setMaxRunTime(Durations.toMillis(this.maxRunTimeSpec.value(userArgs)));
+    data.setEarlyTermination(this.earlyTerminationSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
     data.setFreeFormProperties(listToProperties(this.pluginPropertiesSpec
@@ -440,6 +515,8 @@ public class OptionsParser {
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
         && userArgs.valueOf(this.exportLineCoverageSpec));
+    data.setExportTrace(userArgs.has(this.exportTraceSpec)
+        && userArgs.valueOf(this.exportTraceSpec));
 
     setClassPath(userArgs, data);
 
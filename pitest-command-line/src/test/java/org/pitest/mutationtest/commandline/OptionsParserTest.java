@@ -412,6 +412,32 @@ public class OptionsParserTest {
     assertEquals(42, actual.getMaximumAllowedSurvivors());
   }
 
+  @Test
+  public void shouldNotLimitRunTimeByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(0, actual.getMaxRunTime());
+  }
+
+  @Test
+  public void shouldParseMaxRunTime() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxRunTime",
+        "15m");
+    assertEquals(15 * 60 * 1000, actual.getMaxRunTime());
+  }
+
+  @Test
+  public void shouldNotTerminateEarlyByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isEarlyTermination());
+  }
+
+  @Test
+  public void shouldParseEarlyTerminationFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--earlyTermination=true");
+    assertTrue(actual.isEarlyTermination());
+  }
+
   @Test
   public void shouldParseCoverageThreshold() {
     final ReportOptions actual = parseAddingRequiredArgs("--coverageThreshold",
@@ -456,6 +482,53 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldParseCommaSeparatedListOfAgents() {
+    final ReportOptions actual = parseAddingRequiredArgs("--agents",
+        "hosta:8123,hostb:8123");
+    assertThat(actual.getAgents()).containsExactly("hosta:8123",
+        "hostb:8123");
+  }
+
+  @Test
+  public void shouldParseAgentToken() {
+    final ReportOptions actual = parseAddingRequiredArgs("--agentToken",
+        "secret");
+    assertThat(actual.getAgentToken()).isEqualTo("secret");
+  }
+
+  @Test
+  public void shouldDefaultToNoAgents() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertThat(actual.getAgents()).isEmpty();
+  }
+
+  @Test
+  public void shouldParseSampleRateAndSeed() {
+    final ReportOptions actual = parseAddingRequiredArgs("--sampleRate", "10",
+        "--sampleSeed", "42");
+    assertEquals(10, actual.getSampleRate());
+    assertEquals(42, actual.getSampleSeed());
+  }
+
+  @Test
+  public void shouldDefaultToAnalysingAllMutants() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(100, actual.getSampleRate());
+  }
+
+  @Test
+  public void shouldParseExportTraceFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--exportTrace");
+    assertTrue(actual.shouldExportTrace());
+  }
+
+  @Test
+  public void shouldNotExportTraceWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldExportTrace());
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -536,6 +609,30 @@ public class OptionsParserTest {
     final ReportOptions actual = parseAddingRequiredArgs("--fullMutationMatrix=true");
     assertTrue(actual.isFullMutationMatrix());
   }
+
+  @Test
+  public void shouldNotUseMutantSchemataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata=true");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldNotUseClassDataSharingByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isClassDataSharing());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--classDataSharing=true");
+    assertTrue(actual.isClassDataSharing());
+  }
   
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
@@ -0,0 +1,16 @@
+package org.pitest.coverage;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassInfo;
+
+/**
+ * Supplies coverage results gathered for a test class in an earlier run, if
+ * they can be reused in place of running its tests again.
+ */
+public interface CoverageCache {
+
+  Optional<Collection<CoverageResult>> getResults(ClassInfo testClass);
+
+}
@@ -21,6 +21,7 @@ import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -39,6 +40,7 @@ import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
@@ -53,7 +55,9 @@ public class CoverageData implements CoverageDatabase {
   private final Map<InstructionLocation, Set<TestInfo>>       instructionCoverage;
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
   private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
+  private final Map<ClassName, Map<Location, BigInteger>>     methodCoverage = new HashMap<>();
   private final Map<String, Collection<ClassInfo>>            classesForFile;
+  private final Map<ClassName, List<CoverageResult>>          testClassResults = new HashMap<>();
 
   private final CodeSource                                    code;
 
@@ -61,13 +65,27 @@ public class CoverageData implements CoverageDatabase {
 
   private final List<Description>                             failingTestDescriptions = new ArrayList<>();
 
+  // results are only needed when they are written to the history
+  private final boolean                                       keepTestClassResults;
+
   public CoverageData(final CodeSource code, final LineMap lm) {
-    this(code, lm, new LinkedHashMap<>());
+    this(code, lm, new LinkedHashMap<>(), false);
   }
 
+  public CoverageData(final CodeSource code, final LineMap lm,
+      final boolean keepTestClassResults) {
+    this(code, lm, new LinkedHashMap<>(), keepTestClassResults);
+  }
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<InstructionLocation, Set<TestInfo>> instructionCoverage) {
+    this(code, lm, instructionCoverage, false);
+  }
+
+  private CoverageData(final CodeSource code, final LineMap lm,
+      final Map<InstructionLocation, Set<TestInfo>> instructionCoverage,
+      final boolean keepTestClassResults) {
     this.instructionCoverage = instructionCoverage;
+    this.keepTestClassResults = keepTestClassResults;
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
@@ -123,9 +141,17 @@ public class CoverageData implements CoverageDatabase {
             .collect(toCollection(() -> new TreeSet<>(new TestInfoNameComparator())));
   }
 
+  @Override
+  public Collection<CoverageResult> getResultsForTestClass(
+      final ClassName testClass) {
+    return this.testClassResults.getOrDefault(testClass,
+        Collections.emptyList());
+  }
+
   public void calculateClassCoverage(final CoverageResult cr) {
 
     checkForFailedTest(cr);
+    recordTestClassResult(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
     for (final BlockLocation each : cr.getCoverage()) {
@@ -136,6 +162,17 @@ public class CoverageData implements CoverageDatabase {
     }
   }
 
+  private void recordTestClassResult(final CoverageResult cr) {
+    if (!this.keepTestClassResults) {
+      return;
+    }
+    final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+    if (testClass != null) {
+      this.testClassResults.computeIfAbsent(ClassName.fromString(testClass),
+          k -> new ArrayList<>()).add(cr);
+    }
+  }
+
   private void addTestsToBlockMap(final TestInfo ti, InstructionLocation each) {
     Set<TestInfo> tests = this.instructionCoverage.get(each);
     if (tests == null) {
@@ -155,6 +192,30 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
+  @Override
+  public BigInteger getCoverageIdForMethod(final Location method) {
+    return this.methodCoverage
+        .computeIfAbsent(method.getClassName(), this::coverageIdsForMethods)
+        .getOrDefault(method, BigInteger.ZERO);
+  }
+
+  private Map<Location, BigInteger> coverageIdsForMethods(final ClassName clazz) {
+    final Map<Location, Set<ClassName>> testClasses = new HashMap<>();
+    for (final Entry<InstructionLocation, Set<TestInfo>> each : FCollection
+        .filter(this.instructionCoverage.entrySet(), isFor(clazz))) {
+      FCollection.mapTo(each.getValue(), TestInfo.toDefiningClassName(),
+          testClasses.computeIfAbsent(
+              each.getKey().getBlockLocation().getLocation(),
+              k -> new HashSet<>()));
+    }
+
+    final Map<Location, BigInteger> ids = new HashMap<>();
+    for (final Entry<Location, Set<ClassName>> each : testClasses.entrySet()) {
+      ids.put(each.getKey(), sumOfDeepHashes(each.getValue()));
+    }
+    return ids;
+  }
+
   public List<BlockCoverage> createCoverage() {
     return FCollection.map(this.instructionCoverage.entrySet(), toBlockCoverage());
   }
@@ -187,14 +248,16 @@ public class CoverageData implements CoverageDatabase {
 
   private BigInteger generateCoverageNumber(
       final Map<ClassLine, Set<TestInfo>> coverage) {
-    BigInteger coverageNumber = BigInteger.ZERO;
     final Set<ClassName> testClasses = new HashSet<>();
     FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
+    return sumOfDeepHashes(testClasses);
+  }
 
-    for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
+  private BigInteger sumOfDeepHashes(final Collection<ClassName> classes) {
+    BigInteger coverageNumber = BigInteger.ZERO;
+    for (final ClassInfo each : this.code.getClassInfo(classes)) {
       coverageNumber = coverageNumber.add(each.getDeepHash());
     }
-
     return coverageNumber;
   }
 
@@ -5,6 +5,7 @@ import java.util.Collection;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
 
 public interface CoverageDatabase {
 
@@ -14,12 +15,21 @@ public interface CoverageDatabase {
 
   Collection<TestInfo> getTestsForClass(ClassName clazz);
 
+  /**
+   * The coverage results of the tests defined in a test class. Results are
+   * only kept when they will be written to the history, otherwise none are
+   * returned.
+   */
+  Collection<CoverageResult> getResultsForTestClass(ClassName testClass);
+
   Collection<TestInfo> getTestsForInstructionLocation(InstructionLocation location);
 
   Collection<TestInfo> getTestsForClassLine(ClassLine classLine);
 
   BigInteger getCoverageIdForClass(ClassName clazz);
 
+  BigInteger getCoverageIdForMethod(Location method);
+
   Collection<ClassInfo> getClassesForFile(String sourceFile, String packageName);
 
   CoverageSummary createSummary();
@@ -0,0 +1,14 @@
+package org.pitest.coverage;
+
+import java.util.List;
+
+import org.pitest.classinfo.ClassInfo;
+
+/**
+ * Chooses which test classes coverage needs to be gathered for.
+ */
+public interface TestSelector {
+
+  List<ClassInfo> selectTests(List<ClassInfo> tests);
+
+}
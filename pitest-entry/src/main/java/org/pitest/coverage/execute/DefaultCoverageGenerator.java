@@ -18,9 +18,13 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -28,10 +32,12 @@ import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageCache;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.CoverageGenerator;
 import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestSelector;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -46,6 +52,8 @@ import org.pitest.util.PitError;
 import org.pitest.util.SocketFinder;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
+import org.pitest.util.Tracer;
+import org.pitest.util.Tracer.Span;
 import org.pitest.util.Unchecked;
 
 public class DefaultCoverageGenerator implements CoverageGenerator {
@@ -59,11 +67,52 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final TestSelector     testSelector;
+  private final CoverageCache    cache;
+  private final boolean          keepTestClassResults;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, tests -> tests);
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final TestSelector testSelector) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, testSelector, test -> Optional.empty());
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final TestSelector testSelector, final CoverageCache cache) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, testSelector, cache, false);
+  }
+
+  /**
+   * @param cache
+   *          source of results for test classes that need not be run again
+   * @param keepTestClassResults
+   *          whether the coverage data should keep the results of each test
+   *          class, as is needed to write them to the history
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final TestSelector testSelector, final CoverageCache cache,
+      final boolean keepTestClassResults) {
+    this.testSelector = testSelector;
+    this.cache = cache;
+    this.keepTestClassResults = keepTestClassResults;
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -79,14 +128,19 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       final long t0 = System.currentTimeMillis();
 
       this.timings.registerStart(Timings.Stage.SCAN_CLASS_PATH);
-      final Collection<ClassInfo> tests = this.code.getTests();
+      final Collection<ClassInfo> tests = this.testSelector
+          .selectTests(this.code.getTests());
       this.timings.registerEnd(Timings.Stage.SCAN_CLASS_PATH);
 
       final CoverageData coverage = new CoverageData(this.code, new LineMapper(
-          this.code));
+          this.code), this.keepTestClassResults);
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      final Collection<ClassInfo> testsToRun = restoreCachedCoverage(tests,
+          coverage);
+      if (!testsToRun.isEmpty() || tests.isEmpty()) {
+        gatherCoverageData(testsToRun, coverage);
+      }
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
       final long time = (System.currentTimeMillis() - t0) / 1000;
@@ -106,6 +160,25 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private Collection<ClassInfo> restoreCachedCoverage(
+      final Collection<ClassInfo> tests, final CoverageData coverage) {
+    final List<ClassInfo> testsToRun = new ArrayList<>();
+    for (final ClassInfo each : tests) {
+      final Optional<Collection<CoverageResult>> cached = this.cache
+          .getResults(each);
+      if (cached.isPresent()) {
+        cached.get().forEach(coverage::calculateClassCoverage);
+      } else {
+        testsToRun.add(each);
+      }
+    }
+    if (testsToRun.size() != tests.size()) {
+      LOG.info("Reused coverage for " + (tests.size() - testsToRun.size())
+          + " of " + tests.size() + " test classes from history");
+    }
+    return testsToRun;
+  }
+
   private static void verifyBuildSuitableForMutationTesting(final CoverageData coverage) {
     if (!coverage.allTestsGreen()) {
       LOG.severe("Tests failing without mutation: " + StringUtil.newLine()
@@ -133,9 +206,13 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
         socket, filteredTests, handler);
 
-    process.start();
-
-    final ExitCode exitCode = process.waitToDie();
+    final ExitCode exitCode;
+    try (Span span = this.timings.tracer().start(Tracer.MINION,
+        "coverage minion")) {
+      process.start();
+      exitCode = process.waitToDie();
+      span.arg("exitCode", exitCode);
+    }
 
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains modern JUnit 4 or PIT test plugin for other test tool "
@@ -180,6 +257,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       @Override
       public void accept(final CoverageResult cr) {
+        traceTest(cr);
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
         }
@@ -192,6 +270,16 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     };
   }
 
+  // the minion reports only how long each test took, so the test is assumed to
+  // have ended as its result was received
+  private void traceTest(final CoverageResult cr) {
+    final Tracer tracer = this.timings.tracer();
+    final long end = tracer.now();
+    tracer.record(Tracer.TEST, cr.getTestUnitDescription().getQualifiedName(),
+        end - TimeUnit.MILLISECONDS.toNanos(cr.getExecutionTime()), end,
+        Collections.singletonMap("green", "" + cr.isGreenTest()));
+  }
+
   @Override
   public TestPluginArguments getConfiguration() {
     return this.coverageOptions.getPitConfig();
@@ -1,21 +1,63 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.mutationtest.engine.Location;
 
 public class ClassHistory implements Serializable {
 
   private static final long serialVersionUID = 1L;
 
-  private final HierarchicalClassId id;
-  private final String              coverageId;
+  private final HierarchicalClassId       id;
+  private final String                    coverageId;
+  // null when read from a history file written before covering tests were
+  // recorded
+  private final HashSet<ClassName>        coveringTests;
+  // null when read from a history file written before methods were recorded
+  private final HashMap<Location, String> methodIds;
+  private final HashMap<Location, String> methodCoverageIds;
+  // null when read from a history file written before test coverage was
+  // recorded, or for classes that are not tests
+  private final TestClassCoverage         testCoverage;
 
   public ClassHistory(final HierarchicalClassId id, final String coverageId) {
+    this(id, coverageId, Collections.emptySet());
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Collection<ClassName> coveringTests) {
+    this(id, coverageId, coveringTests, Collections.emptyMap(),
+        Collections.emptyMap());
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Collection<ClassName> coveringTests,
+      final Map<Location, String> methodIds,
+      final Map<Location, String> methodCoverageIds) {
+    this(id, coverageId, coveringTests, methodIds, methodCoverageIds, null);
+  }
+
+  public ClassHistory(final HierarchicalClassId id, final String coverageId,
+      final Collection<ClassName> coveringTests,
+      final Map<Location, String> methodIds,
+      final Map<Location, String> methodCoverageIds,
+      final TestClassCoverage testCoverage) {
     this.id = id;
     this.coverageId = coverageId;
+    this.coveringTests = new HashSet<>(coveringTests);
+    this.methodIds = new HashMap<>(methodIds);
+    this.methodCoverageIds = new HashMap<>(methodCoverageIds);
+    this.testCoverage = testCoverage;
   }
 
   public HierarchicalClassId getId() {
@@ -26,6 +68,46 @@ public class ClassHistory implements Serializable {
     return this.coverageId;
   }
 
+  /**
+   * The test classes that covered this class when the history was recorded, if
+   * known.
+   */
+  public Optional<Set<ClassName>> getCoveringTests() {
+    if (this.coveringTests == null) {
+      return Optional.empty();
+    }
+    return Optional.of(Collections.unmodifiableSet(this.coveringTests));
+  }
+
+  /**
+   * The hash of a method's bytecode when the history was recorded, if known.
+   */
+  public Optional<String> getMethodId(final Location method) {
+    if (this.methodIds == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.methodIds.get(method));
+  }
+
+  /**
+   * The coverage id of the tests that covered a method when the history was
+   * recorded, if known.
+   */
+  public Optional<String> getMethodCoverageId(final Location method) {
+    if (this.methodCoverageIds == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(this.methodCoverageIds.get(method));
+  }
+
+  /**
+   * The coverage recorded for the tests in this class, if it is a test class
+   * whose coverage was recorded.
+   */
+  public Optional<TestClassCoverage> getTestCoverage() {
+    return Optional.ofNullable(this.testCoverage);
+  }
+
   public ClassName getName() {
     return this.id.getName();
   }
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,6 +59,25 @@ public final class MutationResult {
     return this.status;
   }
 
+  /**
+   * @return this result followed by a copy of it for each mutant that
+   *         duplicates this one, and, if this mutant was killed, for each
+   *         mutant it subsumes
+   */
+  public List<MutationResult> andDuplicates() {
+    final List<MutationResult> results = new ArrayList<>();
+    results.add(this);
+    for (final MutationDetails each : this.details.getDuplicates()) {
+      results.addAll(new MutationResult(each, this.status).andDuplicates());
+    }
+    if (getStatus() == DetectionStatus.KILLED) {
+      for (final MutationDetails each : this.details.getSubsumed()) {
+        results.addAll(new MutationResult(each, this.status).andDuplicates());
+      }
+    }
+    return results;
+  }
+
   public String getStatusDescription() {
     return getStatus().name();
   }
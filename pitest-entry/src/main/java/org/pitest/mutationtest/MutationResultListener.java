@@ -8,4 +8,12 @@ public interface MutationResultListener {
 
   void runEnd();
 
+  /**
+   * Listeners that can handle results from more than one thread at once may
+   * be sent results in parallel.
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
+
 }
@@ -50,8 +50,8 @@ public class MutationStatusMap {
   }
 
   public List<MutationResult> createMutationResults() {
-    return FCollection.map(this.mutationMap.entrySet(),
-        detailsToMutationResults());
+    return FCollection.flatMap(FCollection.map(this.mutationMap.entrySet(),
+        detailsToMutationResults()), MutationResult::andDuplicates);
 
   }
 
@@ -90,6 +90,31 @@ public class MutationStatusMap {
     return a -> a.getValue().getStatus().equals(status);
   }
 
+  /**
+   * Mutants subsumed by a killed mutant are given its result when results are
+   * created. Those subsumed by a mutant that was analysed but not killed are
+   * added to be run, or given its status if it was not run.
+   */
+  public void resolveSubsumedMutations() {
+    final List<Entry<MutationDetails, MutationStatusTestPair>> analysed = this.mutationMap
+        .entrySet().stream()
+        .filter(hasStatus(DetectionStatus.NOT_STARTED)
+            .or(hasStatus(DetectionStatus.STARTED))
+            .or(hasStatus(DetectionStatus.KILLED)).negate())
+        .collect(Collectors.toList());
+    for (final Entry<MutationDetails, MutationStatusTestPair> each : analysed) {
+      final DetectionStatus status = each.getValue().getStatus();
+      for (final MutationDetails subsumed : each.getKey().getSubsumed()) {
+        if (!this.mutationMap.containsKey(subsumed)) {
+          final boolean notRun = (status == DetectionStatus.NO_COVERAGE)
+              || (status == DetectionStatus.NOT_RUN);
+          setStatusForMutation(subsumed,
+              notRun ? status : DetectionStatus.NOT_STARTED);
+        }
+      }
+    }
+  }
+
   public void markUncoveredMutations() {
     setStatusForMutations(
         FCollection.filter(this.mutationMap.keySet(), hasNoCoverage()),
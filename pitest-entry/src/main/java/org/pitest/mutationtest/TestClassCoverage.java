@@ -0,0 +1,70 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.Description;
+
+/**
+ * The coverage results of the tests in a test class, together with the ids of
+ * the classes they covered, as recorded in the history.
+ */
+public class TestClassCoverage implements Serializable {
+
+  private static final long                             serialVersionUID = 1L;
+
+  private final HashMap<ClassName, HierarchicalClassId> coveredClasses;
+  private final ArrayList<Result>                       results;
+
+  public TestClassCoverage(final Collection<CoverageResult> results,
+      final Map<ClassName, HierarchicalClassId> coveredClasses) {
+    this.coveredClasses = new HashMap<>(coveredClasses);
+    this.results = new ArrayList<>(results.size());
+    for (final CoverageResult each : results) {
+      this.results.add(new Result(each));
+    }
+  }
+
+  public Map<ClassName, HierarchicalClassId> getCoveredClasses() {
+    return Collections.unmodifiableMap(this.coveredClasses);
+  }
+
+  public List<CoverageResult> getResults() {
+    final List<CoverageResult> results = new ArrayList<>(this.results.size());
+    for (final Result each : this.results) {
+      results.add(each.toCoverageResult());
+    }
+    return results;
+  }
+
+  private static class Result implements Serializable {
+    private static final long              serialVersionUID = 1L;
+
+    private final Description              description;
+    private final int                      executionTime;
+    private final boolean                  green;
+    private final ArrayList<BlockLocation> blocks;
+
+    Result(final CoverageResult result) {
+      this.description = result.getTestUnitDescription();
+      this.executionTime = result.getExecutionTime();
+      this.green = result.isGreenTest();
+      this.blocks = new ArrayList<>(result.getCoverage());
+    }
+
+    CoverageResult toCoverageResult() {
+      return new CoverageResult(this.description, this.executionTime,
+          this.green, this.blocks);
+    }
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.build;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
@@ -22,8 +23,20 @@ public class CompoundInterceptorFactory {
   public MutationInterceptor createInterceptor(
       ReportOptions data,
       ClassByteArraySource source) {
+    return createInterceptor(data, source, Collections.emptyList());
+  }
+
+  /**
+   * Creates an interceptor that also applies the supplied interceptors, which
+   * run after any features of the same type
+   */
+  public MutationInterceptor createInterceptor(
+      ReportOptions data,
+      ClassByteArraySource source,
+      List<? extends MutationInterceptor> additional) {
     final List<MutationInterceptor> interceptors = FCollection.map(this.features.getActiveFeatures(),
         toInterceptor(this.features, data, source));
+    interceptors.addAll(additional);
     return new CompoundMutationInterceptor(interceptors);
   }
 
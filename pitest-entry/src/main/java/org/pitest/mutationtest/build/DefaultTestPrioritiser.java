@@ -2,8 +2,11 @@ package org.pitest.mutationtest.build;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
@@ -11,6 +14,7 @@ import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
 import org.pitest.coverage.InstructionLocation;
 import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestList;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
@@ -31,13 +35,32 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
 
   private final CoverageDatabase coverage;
 
+  // mutants within the same block are covered by the same tests, so the sorted
+  // lists are pooled and shared. Order depends on the mutated class, so the
+  // pool is cleared when mutations for a new class are assigned.
+  private final Map<Set<TestInfo>, TestList> pool = new HashMap<>();
+  private ClassName                          pooledClass;
+
   public DefaultTestPrioritiser(CoverageDatabase coverage) {
     this.coverage = coverage;
   }
 
   @Override
   public List<TestInfo> assignTests(MutationDetails mutation) {
-    return prioritizeTests(mutation.getClassName(), pickTests(mutation));
+    final ClassName clazz = mutation.getClassName();
+    if (!clazz.equals(this.pooledClass)) {
+      this.pool.clear();
+      this.pooledClass = clazz;
+    }
+    final Collection<TestInfo> tests = pickTests(mutation);
+    if (tests.isEmpty()) {
+      return TestList.empty();
+    }
+    if (!(tests instanceof Set)) {
+      return prioritizeTests(clazz, tests);
+    }
+    return this.pool.computeIfAbsent((Set<TestInfo>) tests,
+        k -> prioritizeTests(clazz, k));
   }
 
   private Collection<TestInfo> pickTests(MutationDetails mutation) {
@@ -65,11 +88,11 @@ public class DefaultTestPrioritiser implements TestPrioritiser {
     }
   }
 
-  private List<TestInfo> prioritizeTests(ClassName clazz,
+  private TestList prioritizeTests(ClassName clazz,
       Collection<TestInfo> testsForMutant) {
     final List<TestInfo> sortedTis = new ArrayList<>(testsForMutant);
     sortedTis.sort(new TestInfoPriorisationComparator(clazz, TIME_WEIGHTING_FOR_DIRECT_UNIT_TESTS));
-    return sortedTis;
+    return TestList.of(sortedTis);
   }
 
 }
@@ -3,6 +3,7 @@ package org.pitest.mutationtest.build;
 import java.util.List;
 import java.util.logging.Logger;
 
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.util.Log;
@@ -14,7 +15,8 @@ public class KnownStatusMutationTestUnit implements MutationAnalysisUnit {
   private final List<MutationResult> mutations;
 
   public KnownStatusMutationTestUnit(final List<MutationResult> mutations) {
-    this.mutations = mutations;
+    this.mutations = FCollection.flatMap(mutations,
+        MutationResult::andDuplicates);
   }
 
   @Override
@@ -25,6 +27,16 @@ public class KnownStatusMutationTestUnit implements MutationAnalysisUnit {
 
   }
 
+  @Override
+  public int numberOfMutations() {
+    return this.mutations.size();
+  }
+
+  @Override
+  public MutationMetaData notRun() {
+    return new MutationMetaData(this.mutations);
+  }
+
   @Override
   public int priority() {
     return Integer.MAX_VALUE;
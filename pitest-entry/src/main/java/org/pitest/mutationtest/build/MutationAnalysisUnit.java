@@ -11,4 +11,18 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * @return the number of mutations in the unit
+   */
+  int numberOfMutations();
+
+  /**
+   * Results for this unit when analysis stops before it is run. Mutations
+   * whose status is known without running them keep that status, the others
+   * are {@link org.pitest.mutationtest.DetectionStatus#NOT_RUN}.
+   *
+   * @return results for each mutation in the unit
+   */
+  MutationMetaData notRun();
+
 }
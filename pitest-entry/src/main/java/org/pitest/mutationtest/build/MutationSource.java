@@ -80,6 +80,20 @@ public class MutationSource {
         LOG.fine("According to coverage no tests hit the mutation " + mutation);
       }
       mutation.addTestsInOrder(testDetails);
+      shareTests(mutation, testDetails);
+    }
+  }
+
+  // duplicated and subsumed mutants are in the same block as the mutant they
+  // are attached to, so are covered by the same tests
+  private static void shareTests(final MutationDetails mutation,
+      final List<TestInfo> tests) {
+    for (final MutationDetails each : mutation.getDuplicates()) {
+      each.addTestsInOrder(tests);
+    }
+    for (final MutationDetails each : mutation.getSubsumed()) {
+      each.addTestsInOrder(tests);
+      shareTests(each, tests);
     }
   }
 
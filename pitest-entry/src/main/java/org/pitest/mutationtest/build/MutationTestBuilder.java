@@ -18,8 +18,10 @@ import static java.util.Comparator.comparing;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -40,15 +42,29 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final Optional<Comparator<Collection<MutationDetails>>> unitOrder;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper, Optional.empty());
+  }
+
+  /**
+   * @param unitOrder
+   *          order in which to run units of mutations. When not supplied the
+   *          largest units are run first.
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser, final MutationSource mutationSource,
+      final MutationGrouper grouper,
+      final Optional<Comparator<Collection<MutationDetails>>> unitOrder) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.unitOrder = unitOrder;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
@@ -71,18 +87,29 @@ public class MutationTestBuilder {
     final List<MutationResult> analysed = FCollection.filter(analysedMutations,
         Prelude.not(statusNotKnown()));
 
+    // mutants subsumed by one known not to be killed must still be run
+    analysed.stream()
+        .filter(r -> r.getStatus() != DetectionStatus.KILLED)
+        .forEach(r -> needAnalysis.addAll(r.getDetails().getSubsumed()));
+
     if (!analysed.isEmpty()) {
       tus.add(makePreAnalysedUnit(analysed));
     }
 
     if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needAnalysis)) {
+      final List<List<MutationDetails>> groups = this.grouper
+          .groupMutations(codeClasses, needAnalysis);
+      this.unitOrder.ifPresent(groups::sort);
+      for (final Collection<MutationDetails> ms : groups) {
         tus.add(makeUnanalysedUnit(ms));
       }
     }
 
-    tus.sort(new AnalysisPriorityComparator());
+    // units with a known status are first in either order, as they take no
+    // time to run
+    if (!this.unitOrder.isPresent()) {
+      tus.sort(new AnalysisPriorityComparator());
+    }
     return tus;
   }
 
@@ -17,6 +17,7 @@ package org.pitest.mutationtest.build;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
@@ -26,6 +27,8 @@ import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
+import org.pitest.util.Tracer;
+import org.pitest.util.Tracer.Span;
 
 public class MutationTestUnit implements MutationAnalysisUnit {
 
@@ -51,9 +54,38 @@ public class MutationTestUnit implements MutationAnalysisUnit {
         DetectionStatus.NOT_STARTED);
 
     mutations.markUncoveredMutations();
+    mutations.resolveSubsumedMutations();
+
+    final Tracer tracer = this.workerFactory.getTracer();
+    // the description is only built when it will be recorded
+    try (Span span = tracer.start(Tracer.UNIT,
+        tracer.isEnabled() ? describeUnit() : "")) {
+      span.arg("mutations", this.availableMutations.size());
+      runTestsInSeperateProcess(mutations);
+    }
+
+    return reportResults(mutations);
+  }
+
+  private String describeUnit() {
+    return this.availableMutations.stream()
+        .map(m -> m.getClassName().asJavaName()).distinct()
+        .collect(Collectors.joining(", "));
+  }
 
-    runTestsInSeperateProcess(mutations);
+  @Override
+  public int numberOfMutations() {
+    return this.availableMutations.stream()
+        .mapToInt(MutationDetails::getNumberOfMutants).sum();
+  }
 
+  @Override
+  public MutationMetaData notRun() {
+    final MutationStatusMap mutations = new MutationStatusMap();
+    mutations.setStatusForMutations(this.availableMutations,
+        DetectionStatus.NOT_RUN);
+    mutations.markUncoveredMutations();
+    mutations.resolveSubsumedMutations();
     return reportResults(mutations);
   }
 
@@ -86,6 +118,7 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     worker.results(mutations);
 
     correctResultForProcessExitCode(mutations, exitCode);
+    mutations.resolveSubsumedMutations();
   }
 
   private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
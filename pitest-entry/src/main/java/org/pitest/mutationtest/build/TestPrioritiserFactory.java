@@ -4,6 +4,7 @@ import java.util.Properties;
 
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.HistoryStore;
 import org.pitest.plugin.ToolClasspathPlugin;
 
 public interface TestPrioritiserFactory extends ToolClasspathPlugin {
@@ -11,4 +12,13 @@ public interface TestPrioritiserFactory extends ToolClasspathPlugin {
   TestPrioritiser makeTestPrioritiser(Properties props, CodeSource code,
       CoverageDatabase coverage);
 
+  /**
+   * Creates a prioritiser that may use the results of previous analyses. By
+   * default the history is ignored.
+   */
+  default TestPrioritiser makeTestPrioritiser(Properties props,
+      CodeSource code, CoverageDatabase coverage, HistoryStore history) {
+    return makeTestPrioritiser(props, code, coverage);
+  }
+
 }
@@ -13,11 +13,14 @@ import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.LocalMinionHost;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionHost;
 import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
+import org.pitest.util.Tracer;
 
 public class WorkerFactory {
 
@@ -27,8 +30,11 @@ public class WorkerFactory {
   private final TimeoutLengthStrategy timeoutStrategy;
   private final boolean               verbose;
   private final boolean               fullMutationMatrix;
+  private final boolean               mutantSchemata;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final Tracer                tracer;
+  private final MinionHost            host;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -37,15 +43,35 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final boolean verbose,
       final boolean fullMutationMatrix,
+      final boolean mutantSchemata,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, mutantSchemata, classPath, Tracer.disabled(),
+        new LocalMinionHost());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final boolean mutantSchemata,
+      final String classPath,
+      final Tracer tracer,
+      final MinionHost host) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.mutantSchemata = mutantSchemata;
     this.classPath = classPath;
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.tracer = tracer;
+    this.host = host;
   }
 
   public MutationTestProcess createWorker(
@@ -53,7 +79,8 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.isVerbose(), this.fullMutationMatrix, this.pitConfig);
+        Log.isVerbose(), this.fullMutationMatrix, this.mutantSchemata,
+        this.pitConfig);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
@@ -62,10 +89,14 @@ public class WorkerFactory {
 
     final SocketFinder sf = new SocketFinder();
     final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), args, fileArgs, this.tracer, this.host);
     return worker;
   }
 
+  public Tracer getTracer() {
+    return this.tracer;
+  }
+
   private Consumer<String> captureStdOutIfVerbose() {
     if (this.verbose) {
       return Prelude.printWith("stdout ");
@@ -0,0 +1,149 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.pitest.classinfo.ClassName;
+
+/**
+ * The lines added or modified in a set of source files, as described by a
+ * unified diff. Files may also be added as new, in which case all their lines
+ * are changed.
+ */
+public final class ChangedLines {
+
+  private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@.*");
+
+  // changed files keyed by file name, so lookups need only compare the
+  // package part of the path for files of matching name
+  private final Map<String, List<ChangedFile>> files = new HashMap<>();
+
+  private ChangedLines() {
+  }
+
+  public static ChangedLines fromUnifiedDiff(Reader diff) throws IOException {
+    final ChangedLines changes = new ChangedLines();
+    final BufferedReader reader = new BufferedReader(diff);
+    ChangedFile current = null;
+    int line = 0;
+    int oldRemaining = 0;
+    int newRemaining = 0;
+    String each;
+    while ((each = reader.readLine()) != null) {
+      if (oldRemaining > 0 || newRemaining > 0) {
+        if (each.startsWith("+")) {
+          if (current != null) {
+            current.lines.set(line);
+          }
+          line++;
+          newRemaining--;
+        } else if (each.startsWith("-")) {
+          oldRemaining--;
+        } else if (!each.startsWith("\\")) {
+          line++;
+          oldRemaining--;
+          newRemaining--;
+        }
+      } else if (each.startsWith("+++ ")) {
+        current = changes.addFile(parsePath(each.substring(4)));
+      } else {
+        final Matcher m = HUNK_HEADER.matcher(each);
+        if (m.matches()) {
+          oldRemaining = count(m.group(1));
+          line = Integer.parseInt(m.group(2));
+          newRemaining = count(m.group(3));
+        }
+      }
+    }
+    return changes;
+  }
+
+  private static int count(String group) {
+    if (group == null) {
+      return 1;
+    }
+    return Integer.parseInt(group);
+  }
+
+  /**
+   * Records a file that is not described by the diff, such as one not yet
+   * tracked by git, with every line treated as changed.
+   */
+  void addNewFile(String path) {
+    final ChangedFile file = addFile(path.replace('\\', '/'));
+    file.allLines = true;
+  }
+
+  public boolean isEmpty() {
+    return this.files.isEmpty();
+  }
+
+  /**
+   * Returns true if the given line of the source file of a class in the given
+   * package was added or modified.
+   */
+  public boolean isChanged(ClassName clazz, String fileName, int line) {
+    final List<ChangedFile> candidates = this.files.get(fileName);
+    if (candidates == null) {
+      return false;
+    }
+    final String packagePath = clazz.getPackage().asInternalName();
+    for (final ChangedFile each : candidates) {
+      if (each.isInPackage(packagePath)
+          && (each.allLines || each.lines.get(line))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ChangedFile addFile(String path) {
+    if (path == null) {
+      return null;
+    }
+    final ChangedFile file = new ChangedFile(path);
+    this.files.computeIfAbsent(file.name, k -> new ArrayList<>()).add(file);
+    return file;
+  }
+
+  private static String parsePath(String header) {
+    // strip any trailing timestamp
+    String path = header.split("\t")[0].trim();
+    if (path.equals("/dev/null")) {
+      return null;
+    }
+    if (path.startsWith("b/")) {
+      path = path.substring(2);
+    }
+    return path.replace('\\', '/');
+  }
+
+  private static final class ChangedFile {
+    private final String path;
+    private final String name;
+    private final BitSet lines = new BitSet();
+    private boolean allLines;
+
+    ChangedFile(String path) {
+      this.path = path;
+      this.name = path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    boolean isInPackage(String packagePath) {
+      final String dir = this.path.substring(0, this.path.length() - this.name.length());
+      if (packagePath.isEmpty()) {
+        return true;
+      }
+      return dir.equals(packagePath + "/") || dir.endsWith("/" + packagePath + "/");
+    }
+  }
+
+}
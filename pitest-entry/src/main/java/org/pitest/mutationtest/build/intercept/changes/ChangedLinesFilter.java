@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Filters out mutations on lines that have not been added or modified.
+ */
+public class ChangedLinesFilter implements MutationInterceptor {
+
+  private final ChangedLines changes;
+
+  public ChangedLinesFilter(ChangedLines changes) {
+    this.changes = changes;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    // noop
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    return mutations.stream()
+        .filter(a -> this.changes.isChanged(a.getClassName(), a.getFilename(), a.getLineNumber()))
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void end() {
+    // noop
+  }
+
+}
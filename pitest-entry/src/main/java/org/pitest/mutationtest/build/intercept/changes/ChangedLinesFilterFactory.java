@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+import org.pitest.plugin.FeatureParameter;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+public class ChangedLinesFilterFactory implements MutationInterceptorFactory {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final FeatureParameter DIFF = FeatureParameter.named("diff")
+      .withDescription("Unified diff file describing the changes to mutate. If not supplied the changes are read from git");
+
+  private static final FeatureParameter BASE = FeatureParameter.named("base")
+      .withDescription("Git revision to compare the working tree against (defaults to HEAD). Untracked files that are not ignored are treated as wholly changed");
+
+  private static final FeatureParameter REPO = FeatureParameter.named("repo")
+      .withDescription("Directory of the git repository (defaults to the working directory)");
+
+  @Override
+  public String description() {
+    return "Changed lines filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("CHANGES")
+        .withDescription("Only mutates lines added or modified in a unified diff or in git")
+        .withParameter(DIFF)
+        .withParameter(BASE)
+        .withParameter(REPO);
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    final ChangedLines changes = readChanges(params);
+    if (changes.isEmpty()) {
+      LOG.info("No changed lines found. No mutations will be created.");
+    }
+    return new ChangedLinesFilter(changes);
+  }
+
+  static ChangedLines readChanges(InterceptorParameters params) {
+    final Optional<String> diff = params.getString(DIFF);
+    try {
+      if (diff.isPresent()) {
+        try (Reader r = Files.newBufferedReader(new File(diff.get()).toPath(), StandardCharsets.UTF_8)) {
+          return ChangedLines.fromUnifiedDiff(r);
+        }
+      }
+      return readFromGit(new File(params.getString(REPO).orElse(".")),
+          params.getString(BASE).orElse("HEAD"));
+    } catch (final IOException e) {
+      throw new PitError("Could not read changed lines", e);
+    }
+  }
+
+  private static ChangedLines readFromGit(File repo, String base) throws IOException {
+    final ChangedLines changes = git(repo, ChangedLines::fromUnifiedDiff,
+        "diff", "--no-color", "--no-ext-diff", "--unified=0", base, "--");
+    // new files are not in the diff until they are added to the index
+    final List<String> untracked = git(repo,
+        r -> new BufferedReader(r).lines().collect(Collectors.toList()),
+        "ls-files", "--others", "--exclude-standard");
+    untracked.forEach(changes::addNewFile);
+    return changes;
+  }
+
+  private static <T> T git(File repo, GitOutputReader<T> reader, String... args) throws IOException {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add("git");
+    cmd.addAll(Arrays.asList(args));
+    LOG.fine("Reading changes with " + cmd + " in " + repo);
+    final Process process = new ProcessBuilder(cmd)
+        .directory(repo)
+        .redirectError(ProcessBuilder.Redirect.INHERIT)
+        .start();
+    final T result;
+    try (Reader r = new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)) {
+      result = reader.read(r);
+    }
+    try {
+      final int exit = process.waitFor();
+      if (exit != 0) {
+        throw new PitError(String.join(" ", cmd) + " in " + repo + " exited with " + exit);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while reading changes from git", e);
+    }
+    return result;
+  }
+
+  private interface GitOutputReader<T> {
+    T read(Reader r) throws IOException;
+  }
+
+}
@@ -0,0 +1,132 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.PitError;
+
+/**
+ * Trivial compiler equivalence. Generates each mutant and compares the mutated
+ * method, ignoring line numbers, frames and the identity of labels.
+ *
+ * Mutants identical to the unmutated method are removed. Mutants identical to
+ * another mutant in the same block are attached to it as duplicates, so only
+ * one of them is run and its result is given to the others.
+ */
+public class EquivalentBytecodeFilter implements MutationInterceptor {
+
+  private ClassTree currentClass;
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<Location, ByteBuffer> originals = new HashMap<>();
+    final Map<List<Object>, List<MutationDetails>> groups = new LinkedHashMap<>();
+
+    for (final MutationDetails each : mutations) {
+      final Location location = each.getId().getLocation();
+      final Optional<MethodTree> mutant = ClassTree
+          .fromBytes(m.getMutation(each.getId()).getBytes()).method(location);
+      if (!mutant.isPresent()) {
+        groups.put(Collections.singletonList(each.getId()),
+            new ArrayList<>(Collections.singletonList(each)));
+        continue;
+      }
+
+      final ByteBuffer hash = hash(mutant.get().rawNode());
+      final ByteBuffer original = originals.computeIfAbsent(location,
+          l -> this.currentClass.method(l).map(t -> hash(t.rawNode()))
+              .orElse(null));
+      if (hash.equals(original)) {
+        continue;
+      }
+
+      groups.computeIfAbsent(Arrays.asList(location, each.getBlock(), hash),
+          k -> new ArrayList<>()).add(each);
+    }
+
+    final List<MutationDetails> representatives = new ArrayList<>();
+    for (final List<MutationDetails> each : groups.values()) {
+      final MutationDetails first = each.get(0);
+      if (each.size() == 1) {
+        representatives.add(first);
+      } else {
+        final List<MutationDetails> duplicates = new ArrayList<>(
+            first.getDuplicates());
+        duplicates.addAll(each.subList(1, each.size()));
+        representatives.add(first.withDuplicates(duplicates));
+      }
+    }
+    return representatives;
+  }
+
+  @Override
+  public void end() {
+    this.currentClass = null;
+  }
+
+  // the textual form names labels in the order they are first seen, so
+  // methods that differ only in label identity produce the same text
+  private static ByteBuffer hash(final MethodNode method) {
+    final Textifier text = new Textifier();
+    final TraceMethodVisitor visitor = new TraceMethodVisitor(text);
+    for (final AbstractInsnNode each : method.instructions) {
+      if ((each.getType() != AbstractInsnNode.LINE)
+          && (each.getType() != AbstractInsnNode.FRAME)) {
+        each.accept(visitor);
+      }
+    }
+    for (final TryCatchBlockNode each : method.tryCatchBlocks) {
+      each.accept(visitor);
+    }
+
+    final StringBuilder sb = new StringBuilder();
+    for (final Object each : text.getText()) {
+      sb.append(each);
+    }
+    return ByteBuffer.wrap(sha256(sb.toString()));
+  }
+
+  private static byte[] sha256(final String value) {
+    try {
+      return MessageDigest.getInstance("SHA-256")
+          .digest(value.getBytes(StandardCharsets.UTF_8));
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-256 not available", ex);
+    }
+  }
+
+}
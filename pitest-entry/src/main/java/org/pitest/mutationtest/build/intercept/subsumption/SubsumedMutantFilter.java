@@ -0,0 +1,206 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Runs only the dominating mutants of a conditional jump.
+ *
+ * A comparison has three outcomes, less than, equal and greater than, and a
+ * conditional jump is taken for some subset of them. Mutants of the jump (from
+ * the conditional, boundary, remove conditional and ROR mutators) replace that
+ * subset with another. A test can kill a mutant only if the comparison takes
+ * an outcome on which the original and mutant disagree, so a mutant whose
+ * outcomes of disagreement contain those of another is treated as subsumed by
+ * it.
+ *
+ * Subsumed mutants are attached to the mutant that subsumes them. They take its
+ * result if it is killed, and are run if it is not.
+ */
+public class SubsumedMutantFilter implements MutationInterceptor {
+
+  private static final int                   LT     = 1;
+  private static final int                   EQ     = 2;
+  private static final int                   GT     = 4;
+  private static final int                   NEVER  = 0;
+  private static final int                   ALWAYS = LT | EQ | GT;
+
+  private static final Map<Integer, Integer> TAKEN = new HashMap<>();
+
+  static {
+    taken(EQ, Opcodes.IFEQ, Opcodes.IF_ICMPEQ, Opcodes.IF_ACMPEQ,
+        Opcodes.IFNULL);
+    taken(LT | GT, Opcodes.IFNE, Opcodes.IF_ICMPNE, Opcodes.IF_ACMPNE,
+        Opcodes.IFNONNULL);
+    taken(LT, Opcodes.IFLT, Opcodes.IF_ICMPLT);
+    taken(LT | EQ, Opcodes.IFLE, Opcodes.IF_ICMPLE);
+    taken(GT, Opcodes.IFGT, Opcodes.IF_ICMPGT);
+    taken(EQ | GT, Opcodes.IFGE, Opcodes.IF_ICMPGE);
+  }
+
+  private ClassTree currentClass;
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<List<Object>, List<Difference>> byInstruction = new LinkedHashMap<>();
+    final List<MutationDetails> unaffected = new ArrayList<>();
+
+    for (final MutationDetails each : mutations) {
+      final Optional<Difference> difference = difference(each, m);
+      if (difference.isPresent()) {
+        byInstruction.computeIfAbsent(Arrays.asList(each.getId().getLocation(),
+            each.getInstructionIndex()), k -> new ArrayList<>())
+            .add(difference.get());
+      } else {
+        unaffected.add(each);
+      }
+    }
+
+    final List<MutationDetails> result = new ArrayList<>(unaffected);
+    for (final List<Difference> each : byInstruction.values()) {
+      result.addAll(dominators(each));
+    }
+    return result;
+  }
+
+  @Override
+  public void end() {
+    this.currentClass = null;
+  }
+
+  // mutants are considered in order of how few outcomes they disagree on, so
+  // any that could subsume a mutant are seen before it
+  private static List<MutationDetails> dominators(
+      final List<Difference> differences) {
+    differences.sort(Comparator
+        .comparingInt((Difference d) -> Integer.bitCount(d.outcomes))
+        .thenComparing(d -> d.mutation.getId()));
+
+    final List<Difference> dominators = new ArrayList<>();
+    final Map<Difference, List<MutationDetails>> subsumed = new HashMap<>();
+    for (final Difference each : differences) {
+      final Optional<Difference> dominator = dominators.stream()
+          .filter(d -> (d.outcomes & each.outcomes) == d.outcomes).findFirst();
+      if (dominator.isPresent()) {
+        subsumed.get(dominator.get()).add(each.mutation);
+      } else {
+        dominators.add(each);
+        subsumed.put(each, new ArrayList<>());
+      }
+    }
+
+    final List<MutationDetails> result = new ArrayList<>();
+    for (final Difference each : dominators) {
+      final List<MutationDetails> others = subsumed.get(each);
+      result.add(others.isEmpty() ? each.mutation
+          : each.mutation.withSubsumed(others));
+    }
+    return result;
+  }
+
+  private Optional<Difference> difference(final MutationDetails mutation,
+      final Mutater m) {
+    final Location location = mutation.getId().getLocation();
+    final int index = mutation.getInstructionIndex();
+    final Optional<MethodTree> original = this.currentClass.method(location);
+    if (!original.isPresent() || (mutation.getId().getIndexes().size() != 1)
+        || (index < 0) || (index >= original.get().instructions().size())) {
+      return Optional.empty();
+    }
+
+    final Integer taken = TAKEN.get(original.get().instruction(index)
+        .getOpcode());
+    if (taken == null) {
+      return Optional.empty();
+    }
+
+    final Optional<MethodTree> mutant = ClassTree
+        .fromBytes(m.getMutation(mutation.getId()).getBytes())
+        .method(location);
+    if (!mutant.isPresent()) {
+      return Optional.empty();
+    }
+
+    final int position = realInstructions(
+        original.get().instructions().subList(0, index)).size();
+    return takenByMutant(realInstructions(mutant.get().instructions()),
+        position)
+        .filter(t -> t != taken.intValue())
+        .map(t -> new Difference(mutation, t ^ taken));
+  }
+
+  // labels and frames may come and go with the jumps that target them, so
+  // instructions are located ignoring them
+  private static List<AbstractInsnNode> realInstructions(
+      final List<AbstractInsnNode> instructions) {
+    return instructions.stream().filter(i -> i.getOpcode() != -1)
+        .collect(Collectors.toList());
+  }
+
+  // jumps replaced with another conditional jump, or removed by popping the
+  // compared values and then either jumping or carrying on
+  private static Optional<Integer> takenByMutant(
+      final List<AbstractInsnNode> instructions, final int index) {
+    if (index >= instructions.size()) {
+      return Optional.empty();
+    }
+    final AbstractInsnNode replacement = instructions.get(index);
+    if (replacement instanceof JumpInsnNode) {
+      return Optional.ofNullable(TAKEN.get(replacement.getOpcode()));
+    }
+    if ((replacement.getOpcode() == Opcodes.POP)
+        || (replacement.getOpcode() == Opcodes.POP2)) {
+      final boolean jumps = (index + 1 < instructions.size())
+          && (instructions.get(index + 1).getOpcode() == Opcodes.GOTO);
+      return Optional.of(jumps ? ALWAYS : NEVER);
+    }
+    return Optional.empty();
+  }
+
+  private static void taken(final int outcomes, final int... opcodes) {
+    for (final int each : opcodes) {
+      TAKEN.put(each, outcomes);
+    }
+  }
+
+  private static final class Difference {
+    private final MutationDetails mutation;
+    private final int             outcomes;
+
+    Difference(final MutationDetails mutation, final int outcomes) {
+      this.mutation = mutation;
+      this.outcomes = outcomes;
+    }
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class SubsumedMutantFilterFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Subsumed conditional mutant filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FSUBSUME")
+        .withOnByDefault(false)
+        .withDescription("Runs mutants of a conditional jump only if a mutant subsuming them is not killed");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new SubsumedMutantFilter();
+  }
+
+}
@@ -66,6 +66,18 @@ public enum ConfigOption {
    * Number of threads to use
    */
   THREADS("threads", 1),
+
+  /**
+   * Addresses (host:port) of minion agents on which to run mutation analysis.
+   * Minions are launched locally when none are given.
+   */
+  AGENTS("agents"),
+
+  /**
+   * Token sent to minion agents with each request. Must match the
+   * PIT_AGENT_TOKEN environment variable the agents were started with.
+   */
+  AGENT_TOKEN("agentToken"),
   /**
    * Multiple of normal runtime to allow before considering a mutation to have
    * timed out
@@ -94,6 +106,14 @@ public enum ConfigOption {
    * Maximum number of mutations to allow per class
    */
   MAX_MUTATIONS_PER_CLASS("maxMutationsPerClass", 0),
+  /**
+   * Percentage of mutants to analyse, sampled by class, method and mutator
+   */
+  SAMPLE_RATE("sampleRate", 100),
+  /**
+   * Seed from which the sample of mutants is drawn
+   */
+  SAMPLE_SEED("sampleSeed", 0),
   /**
    * Flag to indicate if verbose logging should be enabled
    */
@@ -154,6 +174,20 @@ public enum ConfigOption {
    */
   FULL_MUTATION_MATRIX("fullMutationMatrix", false),
 
+  /**
+   * Whether to switch between mutants using a single instrumented class
+   * rather than hot swapping each mutant in turn.
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
+  /**
+   * Whether to start minions from a cached class data sharing archive. Jars
+   * following a directory on the class path are shared only if the JVM
+   * accepts an archive whose class path skips the directory, otherwise only
+   * the jars before the first directory are.
+   */
+  CLASS_DATA_SHARING("classDataSharing", false),
+
   /**
    * Maximum number of mutations to include within a single unit of analysis.
    */
@@ -165,7 +199,12 @@ public enum ConfigOption {
   USE_INLINED_CODE_DETECTION("detectInlinedCode", true),
 
   /**
-   * Location to read history from for incremental analysis
+   * Location to read history from for incremental analysis. Coverage is then
+   * gathered only for tests that previously reached the classes under test, or
+   * that reached a class in the history which has since changed. Changes to
+   * classes that are not recorded in the history, such as helpers outside the
+   * classes under test and their tests or classes in libraries, are not
+   * detected.
    */
   HISTORY_INPUT_LOCATION("historyInputLocation"),
 
@@ -189,6 +228,18 @@ public enum ConfigOption {
    */
   MAX_SURVIVING("maxSurviving", -1),
 
+  /**
+   * Stop analysing mutations once the mutation and test strength thresholds
+   * and maximum surviving mutants are certain to pass or to fail
+   */
+  EARLY_TERMINATION("earlyTermination", false),
+
+  /**
+   * Time after which no further mutations are analysed, such as 15m or 90s.
+   * Zero for no limit.
+   */
+  MAX_RUN_TIME("maxRunTime", "0"),
+
   /**
    * Line coverage score below which to throw an error
    */
@@ -204,6 +255,12 @@ public enum ConfigOption {
    */
   EXPORT_LINE_COVERAGE("exportLineCoverage", false),
 
+  /**
+   * Write a Chrome trace event file of where time was spent to the report
+   * directory, and summarise the slowest units, classes and tests
+   */
+  EXPORT_TRACE("exportTrace", false),
+
   /**
    * Include launch classpath in analysis
    */
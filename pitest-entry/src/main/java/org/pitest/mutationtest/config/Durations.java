@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.pitest.help.Help;
+import org.pitest.help.PitHelpError;
+
+/**
+ * Parses durations given in configuration, such as 15m, 90s or 1h. A number
+ * without a unit is taken to be minutes.
+ */
+public final class Durations {
+
+  private static final Pattern DURATION = Pattern
+      .compile("(\\d+)\\s*(ms|s|m|h)?");
+
+  private Durations() {
+  }
+
+  public static long toMillis(final String duration) {
+    final Matcher m = DURATION.matcher(duration.trim().toLowerCase());
+    if (!m.matches()) {
+      throw new PitHelpError(Help.BAD_DURATION, duration);
+    }
+    return unit(m.group(2)).toMillis(Long.parseLong(m.group(1)));
+  }
+
+  private static TimeUnit unit(final String unit) {
+    if (unit == null) {
+      return TimeUnit.MINUTES;
+    }
+    switch (unit) {
+    case "ms":
+      return TimeUnit.MILLISECONDS;
+    case "s":
+      return TimeUnit.SECONDS;
+    case "h":
+      return TimeUnit.HOURS;
+    default:
+      return TimeUnit.MINUTES;
+    }
+  }
+
+}
@@ -97,6 +97,8 @@ public class ReportOptions {
 
   private final List<String>             jvmArgs                        = new ArrayList<>(DEFAULT_CHILD_JVM_ARGS);
   private int                            numberOfThreads                = 0;
+  private Collection<String>             agents                         = new ArrayList<>();
+  private String                         agentToken;
   private float                          timeoutFactor                  = PercentAndConstantTimeoutStrategy.DEFAULT_FACTOR;
   private long                           timeoutConstant                = PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT;
 
@@ -105,6 +107,8 @@ public class ReportOptions {
   private Collection<String>             loggingClasses                 = new ArrayList<>();
 
   private int                            maxMutationsPerClass;
+  private int                            sampleRate                     = 100;
+  private int                            sampleSeed;
 
   private boolean                        verbose                        = false;
   private boolean                        failWhenNoMutations            = false;
@@ -115,11 +119,14 @@ public class ReportOptions {
   private TestGroupConfig                groupConfig;
 
   private boolean                        fullMutationMatrix            = false;
+  private boolean                        mutantSchemata                 = false;
+  private boolean                        classDataSharing               = false;
 
   private int                            mutationUnitSize;
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
+  private boolean                        exportTrace                    = false;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
   private int                            testStrengthThreshold;
@@ -132,7 +139,10 @@ public class ReportOptions {
 
   private Properties                     properties;
 
-  private int maxSurvivors;
+  private int                            maxSurvivors                   = -1;
+  private boolean                        earlyTermination;
+
+  private long                           maxRunTime;
 
   private Collection<String>             excludedRunners                = new ArrayList<>();
   private Collection<String>             includedTestMethods            = new ArrayList<>();
@@ -284,6 +294,28 @@ public class ReportOptions {
     this.numberOfThreads = numberOfThreads;
   }
 
+  /**
+   * @return addresses, as host:port, of the agents on which to launch minions
+   */
+  public Collection<String> getAgents() {
+    return this.agents;
+  }
+
+  public void setAgents(final Collection<String> agents) {
+    this.agents = agents;
+  }
+
+  /**
+   * @return token shared with the agents, or null if none is set
+   */
+  public String getAgentToken() {
+    return this.agentToken;
+  }
+
+  public void setAgentToken(final String agentToken) {
+    this.agentToken = agentToken;
+  }
+
   public float getTimeoutFactor() {
     return this.timeoutFactor;
   }
@@ -437,6 +469,22 @@ public class ReportOptions {
     return fullMutationMatrix;
   }
 
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setClassDataSharing(final boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public int getMutationUnitSize() {
     return this.mutationUnitSize;
   }
@@ -524,6 +572,30 @@ public class ReportOptions {
     return this.exportLineCoverage;
   }
 
+  public void setExportTrace(final boolean value) {
+    this.exportTrace = value;
+  }
+
+  public boolean shouldExportTrace() {
+    return this.exportTrace;
+  }
+
+  public int getSampleRate() {
+    return this.sampleRate;
+  }
+
+  public void setSampleRate(final int sampleRate) {
+    this.sampleRate = sampleRate;
+  }
+
+  public int getSampleSeed() {
+    return this.sampleSeed;
+  }
+
+  public void setSampleSeed(final int sampleSeed) {
+    this.sampleSeed = sampleSeed;
+  }
+
   public int getMutationThreshold() {
     return this.mutationThreshold;
   }
@@ -589,6 +661,26 @@ public class ReportOptions {
     this.maxSurvivors = maxSurvivors;
   }
 
+  public boolean isEarlyTermination() {
+    return this.earlyTermination;
+  }
+
+  public void setEarlyTermination(boolean earlyTermination) {
+    this.earlyTermination = earlyTermination;
+  }
+
+  /**
+   * @return milliseconds after the start of the run at which no further
+   *         mutations are analysed, or zero for no limit
+   */
+  public long getMaxRunTime() {
+    return this.maxRunTime;
+  }
+
+  public void setMaxRunTime(long maxRunTime) {
+    this.maxRunTime = maxRunTime;
+  }
+
   public Collection<String> getExcludedRunners() {
     return this.excludedRunners;
   }
@@ -641,19 +733,26 @@ public class ReportOptions {
         + ", mutators=" + mutators + ", features=" + features
         + ", dependencyAnalysisMaxDistance=" + dependencyAnalysisMaxDistance
         + ", jvmArgs=" + jvmArgs + ", numberOfThreads=" + numberOfThreads
+        + ", agents=" + agents
         + ", timeoutFactor=" + timeoutFactor + ", timeoutConstant="
         + timeoutConstant + ", targetTests=" + targetTests + ", loggingClasses="
         + loggingClasses + ", maxMutationsPerClass=" + maxMutationsPerClass
+        + ", sampleRate=" + sampleRate + ", sampleSeed=" + sampleSeed
         + ", verbose=" + verbose + ", failWhenNoMutations="
         + failWhenNoMutations + ", outputs=" + outputs + ", groupConfig="
-        + groupConfig + ", fullMutationMatrix=" + fullMutationMatrix + ", mutationUnitSize=" + mutationUnitSize
+        + groupConfig + ", fullMutationMatrix=" + fullMutationMatrix
+        + ", mutantSchemata=" + mutantSchemata
+        + ", classDataSharing=" + classDataSharing + ", mutationUnitSize=" + mutationUnitSize
         + ", shouldCreateTimestampedReports=" + shouldCreateTimestampedReports
         + ", detectInlinedCode=" + detectInlinedCode + ", exportLineCoverage="
-        + exportLineCoverage + ", mutationThreshold=" + mutationThreshold + ", testStrengthThreshold=" + testStrengthThreshold
+        + exportLineCoverage + ", exportTrace=" + exportTrace
+        + ", mutationThreshold=" + mutationThreshold + ", testStrengthThreshold=" + testStrengthThreshold
         + ", coverageThreshold=" + coverageThreshold + ", mutationEngine="
         + mutationEngine + ", javaExecutable=" + javaExecutable
         + ", includeLaunchClasspath=" + includeLaunchClasspath + ", properties="
-        + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
+        + properties + ", maxSurvivors=" + maxSurvivors + ", maxRunTime=" + maxRunTime
+        + ", earlyTermination=" + earlyTermination
+        + ", excludedRunners="
         + excludedRunners + ", includedTestMethods=" + includedTestMethods
         + ", testPlugin=" + testPlugin + ", useClasspathJar=" + useClasspathJar
         + ", skipFailingTests=" + skipFailingTests + "]";
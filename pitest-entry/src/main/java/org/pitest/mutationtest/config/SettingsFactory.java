@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Properties;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -18,10 +19,11 @@ import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
-import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
+import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.incremental.HistoricTestPrioritiserFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParser;
 import org.pitest.plugin.FeatureSelector;
@@ -111,7 +113,16 @@ public class SettingsFactory {
   public TestPrioritiserFactory getTestPrioritiser() {
     final Collection<? extends TestPrioritiserFactory> testPickers = this.plugins
         .findTestPrioritisers();
-    return firstOrDefault(testPickers, new DefaultTestPrioritiserFactory());
+    return firstOrDefault(testPickers, defaultTestPrioritiser());
+  }
+
+  private TestPrioritiserFactory defaultTestPrioritiser() {
+    final Properties props = this.options.getFreeFormProperties();
+    if (props != null && Boolean.parseBoolean(
+        props.getProperty(HistoricTestPrioritiserFactory.ENABLE_PROPERTY))) {
+      return new HistoricTestPrioritiserFactory();
+    }
+    return new DefaultTestPrioritiserFactory();
   }
 
   public CoverageOptions createCoverageOptions() {
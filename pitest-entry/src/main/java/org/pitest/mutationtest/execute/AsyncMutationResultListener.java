@@ -0,0 +1,142 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Delivers results to a listener from its own consumer threads, so that a slow
+ * listener does not delay the harvesting of results or their delivery to other
+ * listeners.
+ *
+ * Results are held in a bounded queue, and are blocked from being added to it
+ * while it is full. If every consumer has stopped, as when interrupted, adding
+ * results fails instead so that the run aborts rather than hangs. The run ends
+ * only once the queue has drained. A listener
+ * that is not thread safe should be given a single consumer, so that it
+ * receives results one at a time and in the order they were handled.
+ */
+class AsyncMutationResultListener implements MutationResultListener {
+
+  private static final ClassMutationResults         END     = new ClassMutationResults(
+      Collections.emptyList());
+
+  private final MutationResultListener              child;
+  private final BlockingQueue<ClassMutationResults> queue;
+  private final int                                 consumers;
+  private final List<Thread>                        threads = new ArrayList<>();
+  private final AtomicReference<Throwable>          error   = new AtomicReference<>();
+  private final AtomicInteger                       running = new AtomicInteger();
+
+  AsyncMutationResultListener(final MutationResultListener child,
+      final int capacity, final int consumers) {
+    this.child = child;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+    this.consumers = consumers;
+  }
+
+  @Override
+  public void runStart() {
+    this.child.runStart();
+    for (int i = 0; i != this.consumers; i++) {
+      final Thread t = new Thread(this::consume,
+          "pit-listener-" + this.child.getClass().getSimpleName() + "-" + i);
+      t.setDaemon(true);
+      this.threads.add(t);
+      this.running.incrementAndGet();
+      t.start();
+    }
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    put(results);
+  }
+
+  @Override
+  public void runEnd() {
+    for (int i = 0; i != this.consumers; i++) {
+      put(END);
+    }
+    try {
+      for (final Thread each : this.threads) {
+        each.join();
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+    this.threads.clear();
+    rethrowError();
+    this.child.runEnd();
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  private void put(final ClassMutationResults results) {
+    try {
+      while (!this.queue.offer(results, 100, TimeUnit.MILLISECONDS)) {
+        if (this.running.get() == 0) {
+          rethrowError();
+          throw new PitError("Result listener " + this.child
+              + " is no longer consuming results");
+        }
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  // once the listener has failed, results are still taken from the queue so
+  // that the executor is not left blocked on a full queue
+  private void consume() {
+    try {
+      ClassMutationResults next = this.queue.take();
+      while (next != END) {
+        if (this.error.get() == null) {
+          deliver(next);
+        }
+        next = this.queue.take();
+      }
+    } catch (final InterruptedException e) {
+      this.error.compareAndSet(null, e);
+    } finally {
+      this.running.decrementAndGet();
+    }
+  }
+
+  private void deliver(final ClassMutationResults results) {
+    try {
+      this.child.handleMutationResult(results);
+    } catch (final RuntimeException | Error e) {
+      this.error.compareAndSet(null, e);
+    }
+  }
+
+  private void rethrowError() {
+    final Throwable t = this.error.get();
+    if (t == null) {
+      return;
+    }
+    if (t instanceof RuntimeException) {
+      throw (RuntimeException) t;
+    }
+    if (t instanceof Error) {
+      throw (Error) t;
+    }
+    throw new PitError("Error while reporting results", t);
+  }
+
+}
@@ -0,0 +1,22 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+
+/**
+ * Launches minions as child processes of this one.
+ */
+public class LocalMinionHost implements MinionHost {
+
+  @Override
+  public Minion launch(final int port, final ProcessArgs args)
+      throws IOException {
+    final WrappingProcess process = new WrappingProcess(port, args,
+        MutationTestMinion.class);
+    process.start();
+    return process::destroy;
+  }
+
+}
@@ -0,0 +1,28 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+
+import org.pitest.process.ProcessArgs;
+
+/**
+ * Somewhere that mutation testing minions can be launched.
+ */
+public interface MinionHost {
+
+  /**
+   * Launches a minion that will connect back to this process on the given
+   * port.
+   *
+   * @param port
+   *          port on which this process is listening for the minion
+   * @param args
+   *          arguments with which to launch the minion
+   * @return the launched minion
+   */
+  Minion launch(int port, ProcessArgs args) throws IOException;
+
+  interface Minion {
+    void destroy();
+  }
+
+}
@@ -0,0 +1,57 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.process.ProcessArgs;
+
+/**
+ * Launches each minion on whichever host is running the fewest minions.
+ */
+public class MinionHostPool implements MinionHost {
+
+  private final List<MinionHost> hosts;
+  private final int[]            running;
+
+  public MinionHostPool(final List<? extends MinionHost> hosts) {
+    this.hosts = new ArrayList<>(hosts);
+    this.running = new int[hosts.size()];
+  }
+
+  @Override
+  public Minion launch(final int port, final ProcessArgs args)
+      throws IOException {
+    final int host = reserveLeastBusy();
+    final Minion minion;
+    try {
+      minion = this.hosts.get(host).launch(port, args);
+    } catch (final IOException | RuntimeException e) {
+      release(host);
+      throw e;
+    }
+    return () -> {
+      try {
+        minion.destroy();
+      } finally {
+        release(host);
+      }
+    };
+  }
+
+  private synchronized int reserveLeastBusy() {
+    int leastBusy = 0;
+    for (int i = 1; i != this.running.length; i++) {
+      if (this.running[i] < this.running[leastBusy]) {
+        leastBusy = i;
+      }
+    }
+    this.running[leastBusy]++;
+    return leastBusy;
+  }
+
+  private synchronized void release(final int host) {
+    this.running[host]--;
+  }
+
+}
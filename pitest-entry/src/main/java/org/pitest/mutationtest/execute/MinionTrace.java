@@ -0,0 +1,81 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Tracer;
+
+/**
+ * Records the lifecycle of a mutation testing minion as it is seen from the
+ * parent process. This is its launch, the handshake until it describes its
+ * first mutant, the time taken for each mutant to be hotswapped in and have its
+ * tests run, and its exit after the last mutant is reported.
+ *
+ * The launch and exit are recorded from the thread that runs the minion, and
+ * the mutants from the thread that communicates with it.
+ */
+class MinionTrace {
+
+  private final Tracer       tracer;
+
+  private volatile long      launching;
+  private volatile long      lastEvent;
+  private volatile boolean   described;
+  private MutationIdentifier current;
+  private long               mutantStart;
+
+  MinionTrace(final Tracer tracer) {
+    this.tracer = tracer;
+  }
+
+  void launching() {
+    this.launching = this.tracer.now();
+  }
+
+  void launched() {
+    this.lastEvent = this.tracer.now();
+    this.tracer.record(Tracer.MINION, "launch", this.launching,
+        this.lastEvent, Collections.emptyMap());
+  }
+
+  void mutantStarted(final MutationIdentifier id) {
+    final long now = this.tracer.now();
+    if (!this.described) {
+      this.described = true;
+      this.tracer.record(Tracer.MINION, "handshake", this.lastEvent, now,
+          Collections.emptyMap());
+    }
+    this.current = id;
+    this.mutantStart = now;
+  }
+
+  void mutantReported(final MutationIdentifier id,
+      final MutationStatusTestPair status) {
+    final long now = this.tracer.now();
+    final long start = id.equals(this.current) ? this.mutantStart
+        : this.lastEvent;
+    final Map<String, String> args = new LinkedHashMap<>();
+    args.put("class", id.getClassName().asJavaName());
+    args.put("method", id.getLocation().getMethodName().name());
+    args.put("mutator", id.getMutator());
+    args.put("status", status.getStatus().name());
+    args.put("tests", "" + status.getNumberOfTestsRun());
+    final String name = id.getClassName().getNameWithoutPackage().asJavaName()
+        + "." + id.getLocation().describe();
+    this.tracer.record(Tracer.MUTANT, name, start, now, args);
+    this.lastEvent = now;
+  }
+
+  void exited(final ExitCode exitCode) {
+    final long now = this.tracer.now();
+    this.tracer.record(Tracer.MINION, "exit", this.lastEvent, now,
+        Collections.singletonMap("exitCode", exitCode.name()));
+    this.tracer.record(Tracer.MINION, "minion", this.launching, now,
+        Collections.emptyMap());
+  }
+
+}
@@ -2,15 +2,20 @@ package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
@@ -19,14 +24,37 @@ import org.pitest.util.Unchecked;
 
 public class MutationAnalysisExecutor {
 
-  private static final Logger                LOG = Log.getLogger();
+  private static final Logger                LOG         = Log.getLogger();
+
+  // number of class results a listener may fall behind by before the
+  // harvesting of further results waits for it
+  private static final int                   QUEUE_SIZE  = 100;
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final BooleanSupplier              stop;
+  private final AtomicInteger                unitsNotRun = new AtomicInteger();
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
-    this.listeners = listeners;
+    this(numberOfThreads, listeners, () -> false);
+  }
+
+  /**
+   * Each listener is sent results from its own threads, with thread safe
+   * listeners sent results by as many threads as run the analysis.
+   *
+   * @param stop
+   *          checked before each unit is started. Once true, units that have
+   *          not yet started are reported as not run.
+   */
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, BooleanSupplier stop) {
+    this.listeners = listeners.stream()
+        .map(l -> new AsyncMutationResultListener(l, QUEUE_SIZE,
+            l.isThreadSafe() ? numberOfThreads : 1))
+        .collect(Collectors.toList());
+    this.stop = stop;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
         Executors.defaultThreadFactory());
@@ -43,7 +71,7 @@ public class MutationAnalysisExecutor {
         testUnits.size());
 
     for (final MutationAnalysisUnit unit : testUnits) {
-      results.add(this.executor.submit(unit));
+      results.add(this.executor.submit(unlessStopped(unit)));
     }
 
     this.executor.shutdown();
@@ -56,10 +84,27 @@ public class MutationAnalysisExecutor {
       throw Unchecked.translateCheckedException(e);
     }
 
+    if (this.unitsNotRun.get() != 0) {
+      LOG.info("Analysis stopped before " + this.unitsNotRun.get()
+          + " units were run. Their mutations are reported as "
+          + DetectionStatus.NOT_RUN);
+    }
+
     signalRunEndToAllListeners();
 
   }
 
+  private Callable<MutationMetaData> unlessStopped(
+      final MutationAnalysisUnit unit) {
+    return () -> {
+      if (this.stop.getAsBoolean()) {
+        this.unitsNotRun.incrementAndGet();
+        return unit.notRun();
+      }
+      return unit.call();
+    };
+  }
+
   private void processResult(List<Future<MutationMetaData>> results)
       throws InterruptedException, ExecutionException {
     for (final Future<MutationMetaData> f : results) {
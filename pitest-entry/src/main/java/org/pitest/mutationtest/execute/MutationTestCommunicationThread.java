@@ -28,6 +28,7 @@ import org.pitest.util.Log;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Tracer;
 
 public class MutationTestCommunicationThread extends CommunicationThread {
 
@@ -42,7 +43,7 @@ public class MutationTestCommunicationThread extends CommunicationThread {
 
     @Override
     public void accept(final SafeDataOutputStream dos) {
-      dos.write(this.arguments);
+      new MinionDataWriter(dos).writeArguments(this.arguments);
       dos.flush();
     }
   }
@@ -50,33 +51,42 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final MinionTrace                                     trace;
+    private MinionDataReader                                      data;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final MinionTrace trace) {
       this.idMap = idMap;
+      this.trace = trace;
     }
 
     @Override
     public void apply(final byte control, final SafeDataInputStream is) {
+      if (this.data == null) {
+        // the reader's dictionaries must last for the whole conversation
+        this.data = new MinionDataReader(is);
+      }
       switch (control) {
       case Id.DESCRIBE:
-        handleDescribe(is);
+        handleDescribe();
         break;
       case Id.REPORT:
-        handleReport(is);
+        handleReport();
         break;
       }
     }
 
-    private void handleReport(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+    private void handleReport() {
+      final MutationIdentifier mutation = this.data.readMutationIdentifier();
+      final MutationStatusTestPair value = this.data.readStatus();
       this.idMap.put(mutation, value);
+      this.trace.mutantReported(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
-    private void handleDescribe(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+    private void handleDescribe() {
+      final MutationIdentifier mutation = this.data.readMutationIdentifier();
+      this.trace.mutantStarted(mutation);
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
           DetectionStatus.STARTED));
     }
@@ -88,7 +98,14 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, new MinionTrace(Tracer.disabled()));
+  }
+
+  MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final MinionTrace trace) {
+    super(socket, new SendData(arguments), new Receive(idMap, trace));
     this.idMap = idMap;
   }
 
@@ -9,26 +9,41 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.process.ProcessArgs;
-import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
+import org.pitest.util.Tracer;
 
 public class MutationTestProcess {
 
-  private final WrappingProcess                 process;
+  private final int                             port;
+  private final ProcessArgs                     processArgs;
+  private final MinionHost                      host;
   private final MutationTestCommunicationThread thread;
+  private final MinionTrace                     trace;
+  private MinionHost.Minion                     minion;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
-        MutationTestMinion.class);
+    this(socket, processArgs, arguments, Tracer.disabled(),
+        new LocalMinionHost());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final Tracer tracer, final MinionHost host) {
+    this.port = socket.getLocalPort();
+    this.processArgs = processArgs;
+    this.host = host;
+    this.trace = new MinionTrace(tracer);
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-        new HashMap<MutationIdentifier, MutationStatusTestPair>());
+        new HashMap<MutationIdentifier, MutationStatusTestPair>(), this.trace);
 
   }
 
   public void start() throws IOException, InterruptedException {
+    this.trace.launching();
     this.thread.start();
-    this.process.start();
+    this.minion = this.host.launch(this.port, this.processArgs);
+    this.trace.launched();
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
@@ -43,10 +58,13 @@ public class MutationTestProcess {
   }
 
   public ExitCode waitToDie() {
+    ExitCode exitCode = ExitCode.UNKNOWN_ERROR;
     try {
-      return this.thread.waitToFinish();
+      exitCode = this.thread.waitToFinish();
+      return exitCode;
     } finally {
-      this.process.destroy();
+      this.minion.destroy();
+      this.trace.exited(exitCode);
     }
 
   }
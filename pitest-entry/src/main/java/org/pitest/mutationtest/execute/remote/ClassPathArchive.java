@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.execute.remote;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Content addressed copies of the elements of a class path, so that they can be
+ * sent to, and cached by, minion agents.
+ *
+ * Directories are archived as jars with fixed timestamps, so that unchanged
+ * directories produce unchanged archives. Each element is hashed only once,
+ * however many minions it is sent to.
+ */
+public class ClassPathArchive {
+
+  private final ConcurrentMap<String, Element> elements = new ConcurrentHashMap<>();
+
+  public List<Element> elementsOf(final String classPath) {
+    final List<Element> found = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File file = new File(each);
+      if (file.exists()) {
+        found.add(this.elements.computeIfAbsent(file.getAbsolutePath(),
+            k -> archive(file)));
+      }
+    }
+    return found;
+  }
+
+  private static Element archive(final File file) {
+    try {
+      if (file.isDirectory()) {
+        final byte[] jar = jarDirectory(file.toPath());
+        return new Element(hash(jar), file, jar);
+      }
+      return new Element(hash(Files.readAllBytes(file.toPath())), file, null);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static byte[] jarDirectory(final Path dir) throws IOException {
+    final List<Path> files;
+    try (Stream<Path> walk = Files.walk(dir)) {
+      files = walk.filter(Files::isRegularFile).sorted()
+          .collect(Collectors.toList());
+    }
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (JarOutputStream jar = new JarOutputStream(bos)) {
+      for (final Path each : files) {
+        final JarEntry entry = new JarEntry(
+            dir.relativize(each).toString().replace(File.separatorChar, '/'));
+        entry.setTime(0);
+        jar.putNextEntry(entry);
+        jar.write(Files.readAllBytes(each));
+        jar.closeEntry();
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  private static String hash(final byte[] bytes) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      final StringBuilder sb = new StringBuilder();
+      for (final byte each : digest.digest(bytes)) {
+        sb.append(String.format("%02x", each));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-256 not available", ex);
+    }
+  }
+
+  public static final class Element {
+    private final String hash;
+    private final File   file;
+    private final byte[] archived;
+
+    private Element(final String hash, final File file, final byte[] archived) {
+      this.hash = hash;
+      this.file = file;
+      this.archived = archived;
+    }
+
+    public String getHash() {
+      return this.hash;
+    }
+
+    public File getFile() {
+      return this.file;
+    }
+
+    /**
+     * @return the element as a jar
+     */
+    public byte[] bytes() throws IOException {
+      if (this.archived != null) {
+        return this.archived;
+      }
+      return Files.readAllBytes(this.file.toPath());
+    }
+  }
+
+}
@@ -0,0 +1,250 @@
+package org.pitest.mutationtest.execute.remote;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.pitest.mutationtest.execute.MutationTestMinion;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.DefaultJavaExecutableLocator;
+import org.pitest.process.JavaAgent;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Long running process that launches mutation testing minions on behalf of a
+ * {@link RemoteMinionHost}, so that the analysis of a single run can be spread
+ * over several machines. Launched minions connect back to the host that
+ * requested them.
+ *
+ * Class path elements are cached by the hash of their content, so each is sent
+ * to an agent only once, however many minions or runs use it.
+ *
+ * Agents run whatever code they are sent. They listen on the loopback address
+ * unless another is given, and serve only requests that start with the token
+ * held in the PIT_AGENT_TOKEN environment variable. They must still only be
+ * reachable by trusted hosts, as the token is sent unencrypted.
+ *
+ * Usage : MinionAgent port [cache directory] [bind address]
+ */
+public class MinionAgent implements AutoCloseable {
+
+  public static final String   TOKEN_VARIABLE = "PIT_AGENT_TOKEN";
+
+  private static final Logger  LOG            = Log.getLogger();
+
+  // hex encoded digests, as produced by ClassPathArchive
+  private static final Pattern HASH           = Pattern.compile("[0-9a-f]{40,64}");
+
+  private final ServerSocket   socket;
+  private final byte[]         token;
+  private final Path           cache;
+  private final JavaAgent      javaAgent;
+
+  public MinionAgent(final ServerSocket socket, final String token,
+      final Path cache, final JavaAgent javaAgent) {
+    if (token == null || token.isEmpty()) {
+      throw new IllegalArgumentException("A minion agent requires a token");
+    }
+    this.socket = socket;
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+    this.cache = cache;
+    this.javaAgent = javaAgent;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final String token = System.getenv(TOKEN_VARIABLE);
+    if (token == null || token.isEmpty()) {
+      System.err.println(TOKEN_VARIABLE + " must be set to the token hosts will"
+          + " send with each request");
+      System.exit(1);
+    }
+    final int port = Integer.parseInt(args[0]);
+    final Path cache = args.length > 1 ? new File(args[1]).toPath()
+        : Files.createTempDirectory("pit-agent");
+    final InetAddress address = args.length > 2 ? InetAddress.getByName(args[2])
+        : InetAddress.getLoopbackAddress();
+    final MinionAgent agent = new MinionAgent(new ServerSocket(port, 50,
+        address), token, cache, new JarCreatingJarFinder());
+    LOG.info("Minion agent listening on " + address + ":" + port
+        + " caching class path in " + cache);
+    agent.run();
+  }
+
+  public int getPort() {
+    return this.socket.getLocalPort();
+  }
+
+  /**
+   * Accepts requests on a background thread
+   */
+  public void start() {
+    final Thread t = new Thread(this::run, "pit-minion-agent");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  /**
+   * Accepts requests until the agent is closed
+   */
+  public void run() {
+    while (!this.socket.isClosed()) {
+      try {
+        final Socket request = this.socket.accept();
+        final Thread t = new Thread(() -> serve(request),
+            "pit-minion-agent-" + request.getRemoteSocketAddress());
+        t.setDaemon(true);
+        t.start();
+      } catch (final SocketException e) {
+        LOG.fine("Minion agent closed");
+      } catch (final IOException e) {
+        LOG.log(Level.WARNING, "Error accepting minion request", e);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.socket.close();
+    this.javaAgent.close();
+  }
+
+  private void serve(final Socket request) {
+    try (Socket s = request) {
+      final SafeDataInputStream in = new SafeDataInputStream(
+          s.getInputStream());
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          new BufferedOutputStream(s.getOutputStream()));
+
+      final boolean accepted = MessageDigest.isEqual(this.token,
+          in.readString().getBytes(StandardCharsets.UTF_8));
+      out.writeBoolean(accepted);
+      out.flush();
+      if (!accepted) {
+        LOG.warning("Rejected minion request with invalid token from "
+            + s.getRemoteSocketAddress());
+        return;
+      }
+
+      final int minionPort = in.readInt();
+      final List<String> jvmArgs = readStrings(in);
+      final Map<String, String> environment = readEnvironment(in);
+      final List<String> hashes = readStrings(in);
+
+      final List<String> missing = hashes.stream().distinct()
+          .filter(h -> !Files.exists(cached(h))).collect(Collectors.toList());
+      out.writeInt(missing.size());
+      missing.forEach(out::writeString);
+      out.flush();
+      for (final String each : missing) {
+        store(each, in.readBytes());
+      }
+
+      final WrappingProcess minion;
+      try {
+        minion = launch(minionPort, s.getInetAddress().getHostAddress(),
+            jvmArgs, environment, hashes);
+      } catch (final IOException | RuntimeException e) {
+        out.writeBoolean(false);
+        out.writeString(e.toString());
+        out.flush();
+        throw e;
+      }
+      out.writeBoolean(true);
+      out.flush();
+
+      awaitClose(s.getInputStream());
+      minion.destroy();
+    } catch (final IOException | RuntimeException e) {
+      LOG.log(Level.WARNING, "Error serving minion request", e);
+    }
+  }
+
+  private WrappingProcess launch(final int minionPort, final String host,
+      final List<String> jvmArgs, final Map<String, String> environment,
+      final List<String> hashes) throws IOException {
+    final String classPath = hashes.stream()
+        .map(h -> cached(h).toAbsolutePath().toString())
+        .collect(Collectors.joining(File.pathSeparator));
+    final ProcessArgs args = ProcessArgs.withClassPath(classPath)
+        .andBaseDir(this.cache.toFile())
+        .andLaunchOptions(new LaunchOptions(this.javaAgent,
+            new DefaultJavaExecutableLocator(), jvmArgs, environment))
+        .andStdout(s -> LOG.fine("MINION : " + s))
+        .andStderr(s -> LOG.info("MINION : " + s));
+    final WrappingProcess minion = new WrappingProcess(minionPort, host, args,
+        MutationTestMinion.class);
+    minion.start();
+    return minion;
+  }
+
+  // the connection is held open for as long as the minion is wanted
+  private static void awaitClose(final InputStream in) {
+    try {
+      while (in.read() != -1) {
+        // nothing else is sent
+      }
+    } catch (final IOException e) {
+      LOG.fine("Connection for minion closed with " + e);
+    }
+  }
+
+  private Path cached(final String hash) {
+    // hashes are names within the cache, so must not be able to escape it
+    if (!HASH.matcher(hash).matches()) {
+      throw new IllegalArgumentException("Not a class path hash : " + hash);
+    }
+    return this.cache.resolve(hash + ".jar");
+  }
+
+  // written to a temporary file first, as other requests may be reading the
+  // same element
+  private void store(final String hash, final byte[] bytes) throws IOException {
+    final Path temp = Files.createTempFile(this.cache, hash, ".tmp");
+    Files.write(temp, bytes);
+    Files.move(temp, cached(hash), StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static List<String> readStrings(final SafeDataInputStream in) {
+    final int count = in.readInt();
+    final List<String> values = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      values.add(in.readString());
+    }
+    return values;
+  }
+
+  private static Map<String, String> readEnvironment(
+      final SafeDataInputStream in) {
+    final int count = in.readInt();
+    final Map<String, String> env = new HashMap<>();
+    for (int i = 0; i != count; i++) {
+      env.put(in.readString(), in.readString());
+    }
+    return env;
+  }
+
+}
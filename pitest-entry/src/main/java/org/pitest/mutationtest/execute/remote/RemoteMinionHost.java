@@ -0,0 +1,133 @@
+package org.pitest.mutationtest.execute.remote;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import org.pitest.mutationtest.execute.MinionHost;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Launches minions through a {@link MinionAgent}. The agent is sent the
+ * elements of the class path it does not already hold, and launches a minion
+ * that connects back to this host. Each request starts with the token shared
+ * with the agent.
+ *
+ * The minion runs until the connection to the agent is closed.
+ */
+public class RemoteMinionHost implements MinionHost {
+
+  private final String           host;
+  private final int              port;
+  private final String           token;
+  private final ClassPathArchive archive;
+
+  public RemoteMinionHost(final String host, final int port,
+      final String token, final ClassPathArchive archive) {
+    this.host = host;
+    this.port = port;
+    this.token = token;
+    this.archive = archive;
+  }
+
+  /**
+   * @param address
+   *          address of an agent in the form host:port
+   */
+  public static RemoteMinionHost fromAddress(final String address,
+      final String token, final ClassPathArchive archive) {
+    final int separator = address.lastIndexOf(':');
+    try {
+      return new RemoteMinionHost(address.substring(0, separator),
+          Integer.parseInt(address.substring(separator + 1)), token, archive);
+    } catch (final RuntimeException e) {
+      throw new PitError("Agent address " + address
+          + " is not of the form host:port", e);
+    }
+  }
+
+  @Override
+  public Minion launch(final int minionPort, final ProcessArgs args)
+      throws IOException {
+    final Socket socket = new Socket(this.host, this.port);
+    try {
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          new BufferedOutputStream(socket.getOutputStream()));
+      final SafeDataInputStream in = new SafeDataInputStream(
+          socket.getInputStream());
+
+      final List<ClassPathArchive.Element> elements = this.archive
+          .elementsOf(args.getLaunchClassPath());
+      final Map<String, ClassPathArchive.Element> byHash = new HashMap<>();
+      elements.forEach(e -> byHash.put(e.getHash(), e));
+
+      out.writeString(this.token);
+      out.flush();
+      if (!in.readBoolean()) {
+        throw new PitError("Agent at " + this + " rejected the agent token");
+      }
+
+      out.writeInt(minionPort);
+      writeStrings(out, args.getJvmArgs(), Function.identity());
+      writeEnvironment(out, args.getEnvironmentVariables());
+      writeStrings(out, elements, ClassPathArchive.Element::getHash);
+      out.flush();
+
+      final int missing = in.readInt();
+      for (int i = 0; i != missing; i++) {
+        out.writeBytes(byHash.get(in.readString()).bytes());
+      }
+      out.flush();
+
+      if (!in.readBoolean()) {
+        throw new PitError("Agent at " + this + " could not launch minion : "
+            + in.readString());
+      }
+    } catch (final IOException | RuntimeException e) {
+      socket.close();
+      throw e;
+    }
+
+    return () -> {
+      try {
+        socket.close();
+      } catch (final IOException e) {
+        // the agent destroys the minion however the connection ends
+      }
+    };
+  }
+
+  private static <T> void writeStrings(final SafeDataOutputStream out,
+      final List<T> values, final Function<T, String> f) {
+    out.writeInt(values.size());
+    for (final T each : values) {
+      out.writeString(f.apply(each));
+    }
+  }
+
+  private static void writeEnvironment(final SafeDataOutputStream out,
+      final Map<String, String> environment) {
+    final Map<String, String> env = environment != null ? environment
+        : Collections.<String, String> emptyMap();
+    out.writeInt(env.size());
+    for (final Entry<String, String> each : env.entrySet()) {
+      out.writeString(each.getKey());
+      out.writeString(each.getValue());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return this.host + ":" + this.port;
+  }
+
+}
@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Selects a reproducible random sample of mutants, stratified by class, method
+ * and mutator so that every part of the code is represented in proportion to
+ * the mutants it produces.
+ *
+ * Each mutant is selected with the same probability, so the score of the
+ * sample is an unbiased estimate of the score of all mutants. The sample
+ * depends only on the seed and the mutants, not on the order in which classes
+ * are processed.
+ */
+public class StratifiedSampleFilter implements MutationInterceptor {
+
+  private final int        percent;
+  private final long       seed;
+  private final AtomicLong population = new AtomicLong();
+  private final AtomicLong sampled    = new AtomicLong();
+
+  public StratifiedSampleFilter(final int percent, final long seed) {
+    this.percent = percent;
+    this.seed = seed;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    // noop
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<String, List<MutationDetails>> strata = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      strata.computeIfAbsent(stratum(each.getId()), k -> new ArrayList<>())
+          .add(each);
+    }
+
+    final Set<MutationDetails> selected = Collections
+        .newSetFromMap(new IdentityHashMap<>());
+    strata.forEach((key, members) -> selected.addAll(sample(key, members)));
+
+    this.population.addAndGet(count(mutations));
+    this.sampled.addAndGet(count(selected));
+
+    return mutations.stream().filter(selected::contains)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public void end() {
+    // noop
+  }
+
+  /**
+   * @return number of mutants the sample was drawn from, including
+   *         duplicates and subsumed mutants
+   */
+  public long getPopulation() {
+    return this.population.get();
+  }
+
+  public long getSampleSize() {
+    return this.sampled.get();
+  }
+
+  // the whole part of the expected sample size is always taken, and the
+  // fraction decided by chance, so each mutant is selected with probability
+  // percent / 100 however small the stratum
+  private List<MutationDetails> sample(final String key,
+      final List<MutationDetails> members) {
+    final Random random = new Random((this.seed * 31) + key.hashCode());
+    members.sort((a, b) -> a.getId().compareTo(b.getId()));
+    Collections.shuffle(members, random);
+
+    final double expected = (members.size() * this.percent) / 100d;
+    final int whole = (int) Math.floor(expected);
+    final int size = random.nextDouble() < (expected - whole) ? whole + 1
+        : whole;
+    return members.subList(0, size);
+  }
+
+  // a mutant stands for any duplicates of it and mutants it subsumes, which
+  // are reported alongside it
+  private static long count(final Collection<MutationDetails> mutations) {
+    return mutations.stream().mapToLong(MutationDetails::getNumberOfMutants)
+        .sum();
+  }
+
+  private static String stratum(final MutationIdentifier id) {
+    return id.getClassName().asJavaName() + "."
+        + id.getLocation().getMethodName().name()
+        + id.getLocation().getMethodDesc() + " " + id.getMutator();
+  }
+
+}
@@ -5,6 +5,7 @@ import java.math.BigInteger;
 import org.pitest.classinfo.ClassName;
 import java.util.Optional;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface CodeHistory {
@@ -15,4 +16,12 @@ public interface CodeHistory {
 
   boolean hasCoverageChanged(ClassName className, BigInteger currentCoverage);
 
+  /**
+   * A method has changed if its class has changed and either its own bytecode
+   * or the classes its class extends or is nested within have changed.
+   */
+  boolean hasMethodChanged(Location method);
+
+  boolean hasMethodCoverageChanged(Location method, BigInteger currentCoverage);
+
 }
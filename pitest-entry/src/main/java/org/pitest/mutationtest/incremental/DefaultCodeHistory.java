@@ -1,34 +1,49 @@
 package org.pitest.mutationtest.incremental;
 
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.classpath.CodeSource;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistory implements CodeHistory {
 
   private final ClassInfoSource                                 code;
+  private final ClassByteArraySource                            classBytes;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults;
   private final Map<ClassName, ClassHistory>                    previousClassPath;
+  private final Map<ClassName, Map<Location, String>>           methodIds = new HashMap<>();
 
   public DefaultCodeHistory(final CodeSource code,
       final HistoryStore historyStore) {
-    this(code, historyStore.getHistoricResults(), historyStore
-        .getHistoricClassPath());
+    this(code, c -> code.fetchClassBytes(ClassName.fromString(c)),
+        historyStore.getHistoricResults(), historyStore.getHistoricClassPath());
   }
 
   public DefaultCodeHistory(final ClassInfoSource code,
       final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
       final Map<ClassName, ClassHistory> previousClassPath) {
+    this(code, c -> Optional.empty(), previousResults, previousClassPath);
+  }
+
+  public DefaultCodeHistory(final ClassInfoSource code,
+      final ClassByteArraySource classBytes,
+      final Map<MutationIdentifier, MutationStatusTestPair> previousResults,
+      final Map<ClassName, ClassHistory> previousClassPath) {
     this.code = code;
+    this.classBytes = classBytes;
     this.previousResults = previousResults;
     this.previousClassPath = previousClassPath;
   }
@@ -58,4 +73,53 @@ public class DefaultCodeHistory implements CodeHistory {
         .equals(currentCoverage.toString(16));
   }
 
+  @Override
+  public boolean hasMethodChanged(final Location method) {
+    final ClassName clazz = method.getClassName();
+    if (!hasClassChanged(clazz)) {
+      return false;
+    }
+
+    final ClassHistory historic = this.previousClassPath.get(clazz);
+    final Optional<String> historicId = historic == null ? Optional.empty()
+        : historic.getMethodId(method);
+    if (!historicId.isPresent()) {
+      return true;
+    }
+
+    final ClassInfo current = this.code.fetchClass(clazz).get();
+    if (!contextHash(current.getHierarchicalId())
+        .equals(contextHash(historic.getId()))) {
+      return true;
+    }
+
+    return !historicId.get().equals(currentMethodIds(clazz).get(method));
+  }
+
+  @Override
+  public boolean hasMethodCoverageChanged(final Location method,
+      final BigInteger currentCoverage) {
+    final ClassHistory historic = this.previousClassPath
+        .get(method.getClassName());
+    if (historic == null) {
+      return true;
+    }
+    return historic.getMethodCoverageId(method)
+        .map(id -> !id.equals(currentCoverage.toString(16))).orElse(true);
+  }
+
+  private Map<Location, String> currentMethodIds(final ClassName clazz) {
+    return this.methodIds.computeIfAbsent(clazz,
+        c -> this.classBytes.getBytes(c.asJavaName())
+            .map(bytes -> MethodHashes.hash(c, bytes))
+            .orElse(Collections.<Location, String> emptyMap()));
+  }
+
+  // the part of a class's hierarchical hash contributed by its parent and
+  // outer classes
+  private static BigInteger contextHash(final HierarchicalClassId id) {
+    return new BigInteger(id.getHierarchicalHash(), 16)
+        .subtract(BigInteger.valueOf(id.getId().getHash()));
+  }
+
 }
@@ -0,0 +1,71 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageCache;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.TestClassCoverage;
+
+/**
+ * Reuses the coverage recorded for a test class in the previous run if neither
+ * the test class nor any of the classes its tests covered have changed.
+ *
+ * Changes to classes that are not instrumented for coverage, such as test
+ * helpers and libraries, are not detected.
+ */
+public class HistoricCoverageCache implements CoverageCache {
+
+  private final CodeSource                                    code;
+  private final HistoryStore                                  history;
+  private final Map<ClassName, Optional<HierarchicalClassId>> currentIds = new HashMap<>();
+
+  public HistoricCoverageCache(final CodeSource code,
+      final HistoryStore history) {
+    this.code = code;
+    this.history = history;
+  }
+
+  @Override
+  public Optional<Collection<CoverageResult>> getResults(
+      final ClassInfo testClass) {
+    final ClassHistory historic = this.history.getHistoricClassPath()
+        .get(testClass.getName());
+    if ((historic == null)
+        || !testClass.getHierarchicalId().equals(historic.getId())) {
+      return Optional.empty();
+    }
+
+    final Optional<TestClassCoverage> coverage = historic.getTestCoverage();
+    if (!coverage.isPresent() || hasChanged(coverage.get())) {
+      return Optional.empty();
+    }
+    return Optional.<Collection<CoverageResult>> of(coverage.get().getResults());
+  }
+
+  private boolean hasChanged(final TestClassCoverage coverage) {
+    for (final Entry<ClassName, HierarchicalClassId> each : coverage
+        .getCoveredClasses().entrySet()) {
+      if (!currentId(each.getKey()).equals(Optional.of(each.getValue()))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // test classes commonly cover the same classes, so ids are looked up once
+  private Optional<HierarchicalClassId> currentId(final ClassName clazz) {
+    return this.currentIds.computeIfAbsent(clazz,
+        c -> this.code.fetchClass(c).map(ClassInfo::getHierarchicalId));
+  }
+
+}
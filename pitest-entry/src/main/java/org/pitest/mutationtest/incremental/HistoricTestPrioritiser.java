@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestList;
+import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.incremental.KillHistory.MethodKills;
+
+/**
+ * Orders the tests assigned to each mutant by their expected time to kill it,
+ * so that a killing test is likely to be among the first run.
+ *
+ * Each test's expected cost is its execution time divided by the probability,
+ * estimated from a previous analysis, that it kills the mutant. Running tests
+ * in increasing order of this cost minimises the expected time before the
+ * first kill. Tests of equal cost keep the order given by the child
+ * prioritiser.
+ */
+public class HistoricTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser                                 child;
+  private final KillHistory                                     history;
+
+  // lists from the child are pooled by test set, so are compared by identity.
+  // Mutants in methods without history share their statistics, and so a pool
+  private final Map<MethodKills, Map<List<TestInfo>, TestList>> pool = new HashMap<>();
+  private ClassName                                             pooledClass;
+
+  public HistoricTestPrioritiser(final TestPrioritiser child,
+      final KillHistory history) {
+    this.child = child;
+    this.history = history;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.child.assignTests(mutation);
+    if (tests.size() < 2) {
+      return tests;
+    }
+
+    final ClassName clazz = mutation.getClassName();
+    if (!clazz.equals(this.pooledClass)) {
+      this.pool.clear();
+      this.pooledClass = clazz;
+    }
+
+    final MethodKills kills = this.history.killsFor(mutation.getId());
+    return this.pool.computeIfAbsent(kills, k -> new IdentityHashMap<>())
+        .computeIfAbsent(tests, t -> prioritise(t, kills));
+  }
+
+  private TestList prioritise(final List<TestInfo> tests,
+      final MethodKills kills) {
+    final List<TestInfo> sorted = new ArrayList<>(tests);
+    sorted.sort(Comparator.comparingDouble(t -> expectedCost(t, kills)));
+    return TestList.of(sorted);
+  }
+
+  // tests recorded as taking no time still have a cost, so that the most
+  // likely of them are run first
+  private double expectedCost(final TestInfo test, final MethodKills kills) {
+    return (test.getTime() + 1d) / this.history.killProbability(test, kills);
+  }
+
+}
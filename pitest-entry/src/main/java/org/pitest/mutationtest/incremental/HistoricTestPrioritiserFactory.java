@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.build.DefaultTestPrioritiser;
+import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.build.TestPrioritiserFactory;
+
+/**
+ * Orders tests by the default prioritiser, then by their likelihood of killing
+ * each mutant as recorded in the history of previous analyses. Without
+ * history, or if no mutants were killed, tests are ordered only by the default
+ * prioritiser.
+ *
+ * Used in place of the default prioritiser when the historicTestPriority
+ * plugin configuration property is set to true.
+ */
+public class HistoricTestPrioritiserFactory implements TestPrioritiserFactory {
+
+  public static final String ENABLE_PROPERTY = "historicTestPriority";
+
+  @Override
+  public String description() {
+    return "History informed test prioritiser";
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage) {
+    return new DefaultTestPrioritiser(coverage);
+  }
+
+  @Override
+  public TestPrioritiser makeTestPrioritiser(final Properties props,
+      final CodeSource code, final CoverageDatabase coverage,
+      final HistoryStore history) {
+    final KillHistory kills = new KillHistory(history.getHistoricResults(),
+        coverage);
+    if (!kills.hasKills()) {
+      return makeTestPrioritiser(props, code, coverage);
+    }
+    return new HistoricTestPrioritiser(
+        makeTestPrioritiser(props, code, coverage), kills);
+  }
+
+}
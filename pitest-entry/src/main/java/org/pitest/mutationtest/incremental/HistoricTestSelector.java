@@ -0,0 +1,100 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.TestSelector;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.util.Log;
+
+/**
+ * Uses the test classes recorded as covering each class in the previous run to
+ * avoid gathering coverage for tests that cannot reach the classes under test.
+ *
+ * A test is selected if it previously covered a class under test, if it
+ * previously covered a class that has since changed, or if it is new or has
+ * changed itself. If the history does not record the covering tests for every
+ * class under test, all tests are selected.
+ */
+public class HistoricTestSelector implements TestSelector {
+
+  private static final Logger   LOG = Log.getLogger();
+
+  private final CodeSource   code;
+  private final HistoryStore history;
+
+  public HistoricTestSelector(final CodeSource code,
+      final HistoryStore history) {
+    this.code = code;
+    this.history = history;
+  }
+
+  @Override
+  public List<ClassInfo> selectTests(final List<ClassInfo> tests) {
+    final Map<ClassName, ClassHistory> previous = this.history
+        .getHistoricClassPath();
+    if (previous.isEmpty()) {
+      return tests;
+    }
+
+    final Set<ClassName> reachingTests = new HashSet<>();
+    for (final ClassName each : this.code.getCodeUnderTestNames()) {
+      final Optional<Set<ClassName>> covering = coveringTests(previous.get(each));
+      if (!covering.isPresent()) {
+        LOG.fine("No covering tests recorded for " + each
+            + ". Gathering coverage for all tests.");
+        return tests;
+      }
+      reachingTests.addAll(covering.get());
+    }
+
+    // tests that reached code that has since changed may now reach the classes
+    // under test
+    for (final ClassHistory each : previous.values()) {
+      final Optional<Set<ClassName>> covering = coveringTests(each);
+      if (covering.isPresent() && !covering.get().isEmpty()
+          && hasChanged(each)) {
+        reachingTests.addAll(covering.get());
+      }
+    }
+
+    final List<ClassInfo> selected = tests.stream()
+        .filter(t -> reachingTests.contains(t.getName())
+            || isNewOrChanged(t, previous))
+        .collect(Collectors.toList());
+
+    LOG.info("Gathering coverage for " + selected.size() + " of "
+        + tests.size() + " test classes based on history");
+    return selected;
+  }
+
+  private static Optional<Set<ClassName>> coveringTests(final ClassHistory history) {
+    if (history == null) {
+      return Optional.empty();
+    }
+    return history.getCoveringTests();
+  }
+
+  private boolean hasChanged(final ClassHistory historic) {
+    final Optional<ClassInfo> current = this.code.fetchClass(historic.getName());
+    return !current.isPresent()
+        || !current.get().getHierarchicalId().equals(historic.getId());
+  }
+
+  private static boolean isNewOrChanged(final ClassInfo test,
+      final Map<ClassName, ClassHistory> previous) {
+    final ClassHistory historic = previous.get(test.getName());
+    return (historic == null)
+        || !test.getHierarchicalId().equals(historic.getId());
+  }
+
+}
@@ -19,6 +19,7 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
@@ -76,9 +77,7 @@ public class IncrementalAnalyser implements MutationAnalyser {
   private MutationResult analyseFromHistory(final MutationDetails each,
       final MutationStatusTestPair mutationStatusTestPair) {
 
-    final ClassName clazz = each.getClassName();
-
-    if (this.history.hasClassChanged(clazz)) {
+    if (this.history.hasMethodChanged(each.getId().getLocation())) {
       return analyseFromScratch(each);
     }
 
@@ -99,14 +98,26 @@ public class IncrementalAnalyser implements MutationAnalyser {
     }
 
     if ((mutationStatusTestPair.getStatus() == DetectionStatus.SURVIVED)
-        && !this.history.hasCoverageChanged(clazz,
-            this.coverage.getCoverageIdForClass(clazz))) {
+        && !hasCoverageChanged(each)) {
       return makeResult(each, DetectionStatus.SURVIVED);
     }
 
     return analyseFromScratch(each);
   }
 
+  // the coverage of an unchanged class is compared as a whole, but within a
+  // changed class only the coverage of the mutated method can be relied on
+  private boolean hasCoverageChanged(final MutationDetails each) {
+    final ClassName clazz = each.getClassName();
+    if (!this.history.hasClassChanged(clazz) && !this.history
+        .hasCoverageChanged(clazz, this.coverage.getCoverageIdForClass(clazz))) {
+      return false;
+    }
+    final Location method = each.getId().getLocation();
+    return this.history.hasMethodCoverageChanged(method,
+        this.coverage.getCoverageIdForMethod(method));
+  }
+
   private List<String> filterUnchangedKillingTests(final MutationDetails each,
                                                    final MutationStatusTestPair mutationStatusTestPair) {
 
@@ -0,0 +1,100 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Orders units of mutations so that those expected to tell us most are run
+ * first when the time for a run is limited.
+ *
+ * Units containing mutations in new or changed methods come first, followed by
+ * units containing mutations with no result in the history, then all others.
+ * Within each of these groups cheaper units, as measured by the time taken by
+ * the tests that cover their mutations, are run first.
+ */
+public class InformationGainOrder
+    implements Comparator<Collection<MutationDetails>> {
+
+  private static final int                            CHANGED_CODE = 0;
+  private static final int                            NO_HISTORY   = 1;
+  private static final int                            OTHER        = 2;
+
+  private final CodeHistory                           history;
+
+  // units are compared many times while sorting, so their keys are cached
+  private final Map<Collection<MutationDetails>, Key> keys         = new IdentityHashMap<>();
+
+  public InformationGainOrder(final CodeHistory history) {
+    this.history = history;
+  }
+
+  @Override
+  public int compare(final Collection<MutationDetails> a,
+      final Collection<MutationDetails> b) {
+    return keyFor(a).compareTo(keyFor(b));
+  }
+
+  private Key keyFor(final Collection<MutationDetails> unit) {
+    return this.keys.computeIfAbsent(unit, this::makeKey);
+  }
+
+  private Key makeKey(final Collection<MutationDetails> unit) {
+    int rank = OTHER;
+    long cost = 0;
+    for (final MutationDetails each : unit) {
+      rank = Math.min(rank, rank(each));
+      cost = cost + cost(each);
+    }
+    return new Key(rank, cost);
+  }
+
+  private int rank(final MutationDetails mutation) {
+    if (this.history.hasMethodChanged(mutation.getId().getLocation())) {
+      return CHANGED_CODE;
+    }
+    final Optional<MutationStatusTestPair> previous = this.history
+        .getPreviousResult(mutation.getId());
+    if (!previous.isPresent()
+        || previous.get().getStatus() == DetectionStatus.NOT_RUN) {
+      return NO_HISTORY;
+    }
+    return OTHER;
+  }
+
+  // each mutation costs at least one, so that large units of mutations
+  // covered by very fast tests are not treated as free
+  private static long cost(final MutationDetails mutation) {
+    long cost = 1;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost = cost + each.getTime();
+    }
+    return cost;
+  }
+
+  private static final class Key implements Comparable<Key> {
+    private final int  rank;
+    private final long cost;
+
+    Key(final int rank, final long cost) {
+      this.rank = rank;
+      this.cost = cost;
+    }
+
+    @Override
+    public int compareTo(final Key o) {
+      if (this.rank != o.rank) {
+        return Integer.compare(this.rank, o.rank);
+      }
+      return Long.compare(this.cost, o.cost);
+    }
+  }
+
+}
@@ -0,0 +1,157 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Kill statistics gathered from the results of a previous analysis.
+ *
+ * For each test the number of mutants it killed is compared with the number
+ * of mutants in the classes it covers. For each method and mutator the number
+ * of mutants analysed is recorded along with the tests that killed them. The
+ * two are combined to estimate the probability that a test kills a new mutant,
+ * with the method's statistics taking precedence as they accumulate.
+ */
+public class KillHistory {
+
+  // weight, in mutants, given to the less specific estimate
+  private static final double PRIOR_WEIGHT = 2;
+
+  private final Map<String, Integer>            kills     = new HashMap<>();
+  private final Map<String, Integer>            exposures = new HashMap<>();
+  private final Map<MethodMutator, MethodKills> methods   = new HashMap<>();
+  private final double                          baseRate;
+
+  public KillHistory(
+      final Map<MutationIdentifier, MutationStatusTestPair> results,
+      final CoverageDatabase coverage) {
+    final Map<ClassName, Integer> mutantsPerClass = new HashMap<>();
+    for (final Entry<MutationIdentifier, MutationStatusTestPair> each : results
+        .entrySet()) {
+      final MutationStatusTestPair result = each.getValue();
+      if (!isInformative(result.getStatus())) {
+        continue;
+      }
+      final MutationIdentifier id = each.getKey();
+      mutantsPerClass.merge(id.getClassName(), 1, Integer::sum);
+      final MethodKills method = this.methods.computeIfAbsent(
+          new MethodMutator(id.getLocation(), id.getMutator()),
+          k -> new MethodKills());
+      method.mutants++;
+      for (final String test : result.getKillingTests()) {
+        this.kills.merge(test, 1, Integer::sum);
+        method.kills.merge(test, 1, Integer::sum);
+      }
+    }
+
+    for (final Entry<ClassName, Integer> each : mutantsPerClass.entrySet()) {
+      final Collection<TestInfo> covering = coverage
+          .getTestsForClass(each.getKey());
+      for (final TestInfo test : covering) {
+        this.exposures.merge(test.getName(), each.getValue(), Integer::sum);
+      }
+    }
+
+    final Set<String> tests = new HashSet<>(this.kills.keySet());
+    tests.addAll(this.exposures.keySet());
+    long totalKills = 0;
+    long totalExposures = 0;
+    for (final String each : tests) {
+      totalKills += this.kills.getOrDefault(each, 0);
+      totalExposures += exposuresOf(each);
+    }
+    this.baseRate = (totalKills + 1d) / (totalExposures + 2d);
+  }
+
+  /**
+   * @return true if any test has killed a mutant
+   */
+  public boolean hasKills() {
+    return !this.kills.isEmpty();
+  }
+
+  /**
+   * Returns the kill statistics recorded for the method and mutator of the
+   * given mutant. Mutants in methods with no history share a single, empty,
+   * instance.
+   */
+  MethodKills killsFor(final MutationIdentifier id) {
+    return this.methods.getOrDefault(
+        new MethodMutator(id.getLocation(), id.getMutator()),
+        MethodKills.NONE);
+  }
+
+  /**
+   * Estimates the probability that a test will kill a mutant in a method
+   * with the given statistics.
+   */
+  double killProbability(final TestInfo test, final MethodKills method) {
+    final String name = test.getName();
+    final int testKills = this.kills.getOrDefault(name, 0);
+    final double testRate = (testKills + (PRIOR_WEIGHT * this.baseRate))
+        / (exposuresOf(name) + PRIOR_WEIGHT);
+    return (method.kills.getOrDefault(name, 0) + (PRIOR_WEIGHT * testRate))
+        / (method.mutants + PRIOR_WEIGHT);
+  }
+
+  // coverage is gathered for the current tests, so may no longer record a test
+  // that killed mutants in the previous analysis
+  private int exposuresOf(final String test) {
+    return Math.max(this.exposures.getOrDefault(test, 0),
+        this.kills.getOrDefault(test, 0));
+  }
+
+  private static boolean isInformative(final DetectionStatus status) {
+    return (status == DetectionStatus.KILLED)
+        || (status == DetectionStatus.SURVIVED);
+  }
+
+  static final class MethodKills {
+    static final MethodKills           NONE  = new MethodKills();
+
+    private final Map<String, Integer> kills = new HashMap<>();
+    private int                        mutants;
+  }
+
+  private static final class MethodMutator {
+    private final Location location;
+    private final String   mutator;
+
+    MethodMutator(final Location location, final String mutator) {
+      this.location = location;
+      this.mutator = mutator;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.location, this.mutator);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if ((obj == null) || (getClass() != obj.getClass())) {
+        return false;
+      }
+      final MethodMutator other = (MethodMutator) obj;
+      return Objects.equals(this.location, other.location)
+          && Objects.equals(this.mutator, other.mutator);
+    }
+  }
+
+}
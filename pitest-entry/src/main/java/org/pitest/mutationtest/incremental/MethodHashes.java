@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.incremental;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.PitError;
+
+/**
+ * Hashes the bytecode of each method in a class, so that the methods left
+ * untouched by a change to the class can be identified.
+ *
+ * Debug information is excluded, as the line numbers of every method change
+ * when code above them is edited. Each method is written to an otherwise empty
+ * class before hashing so that its hash does not depend on the layout of the
+ * constant pool shared with other methods.
+ */
+public final class MethodHashes {
+
+  private MethodHashes() {
+  }
+
+  public static Map<Location, String> hash(final ClassName clazz,
+      final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node,
+        ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+    final Map<Location, String> hashes = new HashMap<>();
+    for (final MethodNode each : node.methods) {
+      hashes.put(
+          Location.location(clazz, MethodName.fromString(each.name), each.desc),
+          hash(each));
+    }
+    return hashes;
+  }
+
+  private static String hash(final MethodNode method) {
+    final ClassWriter writer = new ClassWriter(0);
+    writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, "M", null,
+        "java/lang/Object", null);
+    method.accept(writer);
+    writer.visitEnd();
+
+    try {
+      final byte[] digest = MessageDigest.getInstance("SHA-1")
+          .digest(writer.toByteArray());
+      final StringBuilder sb = new StringBuilder();
+      for (final byte each : digest) {
+        sb.append(String.format("%02x", each));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-1 not available", ex);
+    }
+  }
+
+}
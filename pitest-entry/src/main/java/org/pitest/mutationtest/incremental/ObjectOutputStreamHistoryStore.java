@@ -11,18 +11,26 @@ import java.io.Reader;
 import java.io.Serializable;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestClassCoverage;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
@@ -33,13 +41,25 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
       .getLogger();
   private final WriterFactory                                   outputFactory;
   private final BufferedReader                                  input;
+  private final ClassByteArraySource                            classBytes;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
 
   public ObjectOutputStreamHistoryStore(final WriterFactory output,
       final Optional<Reader> input) {
+    this(output, input, c -> Optional.empty());
+  }
+
+  /**
+   * @param classBytes
+   *          source of the bytes of classes under test, used to record a hash
+   *          of each of their methods
+   */
+  public ObjectOutputStreamHistoryStore(final WriterFactory output,
+      final Optional<Reader> input, final ClassByteArraySource classBytes) {
     this.outputFactory = output;
     this.input = createReader(input);
+    this.classBytes = classBytes;
   }
 
   private BufferedReader createReader(Optional<Reader> input) {
@@ -52,16 +72,70 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
+    final Map<ClassName, HierarchicalClassId> idsByName = new HashMap<>();
+    for (final HierarchicalClassId each : ids) {
+      idsByName.put(each.getName(), each);
+    }
+
     final PrintWriter output = this.outputFactory.create();
     output.println(ids.size());
     for (final HierarchicalClassId each : ids) {
+      final Collection<TestInfo> tests = coverageInfo
+          .getTestsForClass(each.getName());
+      final Map<Location, String> methodIds = methodIds(each.getName(), tests);
+      final Map<Location, String> methodCoverageIds = new HashMap<>();
+      for (final Location method : methodIds.keySet()) {
+        methodCoverageIds.put(method,
+            coverageInfo.getCoverageIdForMethod(method).toString(16));
+      }
       final ClassHistory coverage = new ClassHistory(each,
-          coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
+          coverageInfo.getCoverageIdForClass(each.getName()).toString(16),
+          FCollection.map(tests, TestInfo.toDefiningClassName()), methodIds,
+          methodCoverageIds, testCoverage(
+              coverageInfo.getResultsForTestClass(each.getName()), idsByName));
       output.println(serialize(coverage));
     }
     output.flush();
   }
 
+  // coverage is only recorded for test classes whose tests all passed, and
+  // that covered only classes recorded in the history, so that it can be
+  // reused when none of them have changed
+  private static TestClassCoverage testCoverage(
+      final Collection<CoverageResult> results,
+      final Map<ClassName, HierarchicalClassId> ids) {
+    if (results.isEmpty()) {
+      return null;
+    }
+    final Map<ClassName, HierarchicalClassId> covered = new HashMap<>();
+    for (final CoverageResult result : results) {
+      if (!result.isGreenTest()) {
+        return null;
+      }
+      for (final BlockLocation block : result.getCoverage()) {
+        final ClassName clazz = block.getLocation().getClassName();
+        final HierarchicalClassId id = ids.get(clazz);
+        if (id == null) {
+          return null;
+        }
+        covered.put(clazz, id);
+      }
+    }
+    return new TestClassCoverage(results, covered);
+  }
+
+  // results are only reused for mutants in covered code, so methods are not
+  // recorded for classes without coverage, which include the tests
+  private Map<Location, String> methodIds(final ClassName clazz,
+      final Collection<TestInfo> coveringTests) {
+    if (coveringTests.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    return this.classBytes.getBytes(clazz.asJavaName())
+        .map(bytes -> MethodHashes.hash(clazz, bytes))
+        .orElse(Collections.<Location, String> emptyMap());
+  }
+
   @Override
   public void recordResult(final MutationResult result) {
     final PrintWriter output = this.outputFactory.create();
@@ -25,14 +25,23 @@ public final class MutationStatistics {
   private final long numberOfTestsRun;
   private final long totalDetected;
   private final long totalWithCoverage;
+  private final long totalNotRun;
 
   public MutationStatistics(Iterable<Score> scores, long totalMutations,
                             long totalDetected, long totalWithCoverage, long numberOfTestsRun) {
+    this(scores, totalMutations, totalDetected, totalWithCoverage,
+        numberOfTestsRun, 0);
+  }
+
+  public MutationStatistics(Iterable<Score> scores, long totalMutations,
+                            long totalDetected, long totalWithCoverage, long numberOfTestsRun,
+                            long totalNotRun) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
     this.totalWithCoverage = totalWithCoverage;
+    this.totalNotRun = totalNotRun;
   }
 
   public Iterable<Score> getScores() {
@@ -51,6 +60,15 @@ public final class MutationStatistics {
     return this.totalWithCoverage;
   }
 
+  /**
+   * Mutations with status
+   * {@link org.pitest.mutationtest.DetectionStatus#NOT_RUN}. These are not
+   * included in the other totals, so do not count as surviving.
+   */
+  public long getTotalNotRunMutations() {
+    return this.totalNotRun;
+  }
+
   private long getTotalMutationsWithoutCoverage() {
     return this.totalMutations - this.totalWithCoverage;
   }
@@ -72,12 +90,27 @@ public final class MutationStatistics {
         * getTotalDetectedMutations());
   }
 
+  /**
+   * Estimates the score of all mutants, when those analysed were sampled from
+   * them
+   *
+   * @param population
+   *          number of mutants the analysed mutants were sampled from
+   */
+  public ScoreEstimate estimateFrom(final long population) {
+    return new ScoreEstimate(population, getTotalMutations(),
+        getTotalDetectedMutations());
+  }
+
   public void report(final PrintStream out) {
     out.println(">> Generated " + this.getTotalMutations()
         + " mutations Killed " + this.getTotalDetectedMutations() + " ("
         + this.getPercentageDetected() + "%)");
     out.println(">> Mutations with no coverage " + this.getTotalMutationsWithoutCoverage()
             + ". Test strength " + this.getTestStrength() + "%");
+    if (this.totalNotRun != 0) {
+      out.println(">> Mutations not run " + this.totalNotRun);
+    }
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
 
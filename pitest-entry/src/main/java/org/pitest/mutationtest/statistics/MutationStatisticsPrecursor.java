@@ -39,8 +39,9 @@ class MutationStatisticsPrecursor {
     final long totalDetected = FCollection
         .fold(addDetectedTotals(), 0L, scores);
     final long totalWithCoverage = FCollection.fold(addCoveredTotals(), 0L, scores);
+    final long totalNotRun = FCollection.fold(addNotRunTotals(), 0L, scores);
     return new MutationStatistics(scores, totalMutations, totalDetected, totalWithCoverage,
-        this.numberOfTestsRun);
+        this.numberOfTestsRun, totalNotRun);
   }
 
   Iterable<Score> getScores() {
@@ -62,4 +63,8 @@ class MutationStatisticsPrecursor {
   private static BiFunction<Long, Score, Long> addCoveredTotals() {
     return (a, b) -> a + b.getTotalWithCoverage();
   }
+
+  private static BiFunction<Long, Score, Long> addNotRunTotals() {
+    return (a, b) -> a + b.getTotalNotRun();
+  }
 }
\ No newline at end of file
@@ -23,14 +23,22 @@ public final class Score {
   private final long                  totalMutations;
   private final long                  totalDetected;
   private final long totalWithCoverage;
+  private final long totalNotRun;
 
   public Score(final String name, Iterable<StatusCount> counts,
                long totalMutations, long totalDetected, long totalWithCoverage) {
+    this(name, counts, totalMutations, totalDetected, totalWithCoverage, 0);
+  }
+
+  public Score(final String name, Iterable<StatusCount> counts,
+               long totalMutations, long totalDetected, long totalWithCoverage,
+               long totalNotRun) {
     this.mutatorName = name;
     this.counts = counts;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.totalWithCoverage = totalWithCoverage;
+    this.totalNotRun = totalNotRun;
   }
 
   public void report(final PrintStream out) {
@@ -66,6 +74,15 @@ public final class Score {
     return this.totalWithCoverage;
   }
 
+  /**
+   * Mutations with status
+   * {@link org.pitest.mutationtest.DetectionStatus#NOT_RUN}. These are not
+   * included in the other totals.
+   */
+  public long getTotalNotRun() {
+    return this.totalNotRun;
+  }
+
   public int getPercentageDetected() {
     if (getTotalMutations() == 0) {
       return 100;
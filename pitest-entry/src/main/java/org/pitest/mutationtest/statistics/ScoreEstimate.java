@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.statistics;
+
+import java.io.PrintStream;
+
+/**
+ * Estimate of the mutation score of a population of mutants from the score of
+ * a random sample of them.
+ *
+ * The confidence interval is a 95% Wilson score interval, narrowed by the
+ * finite population correction so that it closes as the sample approaches the
+ * whole population.
+ */
+public final class ScoreEstimate {
+
+  private static final double Z = 1.96;
+
+  private final long          population;
+  private final long          sampleSize;
+  private final long          detected;
+
+  public ScoreEstimate(final long population, final long sampleSize,
+      final long detected) {
+    this.population = population;
+    this.sampleSize = sampleSize;
+    this.detected = detected;
+  }
+
+  public long getPopulation() {
+    return this.population;
+  }
+
+  public long getSampleSize() {
+    return this.sampleSize;
+  }
+
+  /**
+   * @return estimated percentage of the population detected
+   */
+  public double getEstimate() {
+    if (this.sampleSize == 0) {
+      return 100;
+    }
+    return (100d * this.detected) / this.sampleSize;
+  }
+
+  public double getLowerBound() {
+    return interval()[0];
+  }
+
+  public double getUpperBound() {
+    return interval()[1];
+  }
+
+  public void report(final PrintStream out) {
+    out.println(String.format(
+        ">> Sampled %d of %d mutations. Estimated mutation score %d%% (95%% confidence %d%% to %d%%)",
+        this.sampleSize, this.population, Math.round(getEstimate()),
+        Math.round(getLowerBound()), Math.round(getUpperBound())));
+  }
+
+  private double[] interval() {
+    final double p = getEstimate() / 100;
+    if ((this.sampleSize == 0) || (this.sampleSize >= this.population)) {
+      return new double[] { p * 100, p * 100 };
+    }
+
+    final double correction = (double) (this.population - this.sampleSize)
+        / (this.population - 1);
+    final double n = this.sampleSize / correction;
+    final double z2 = Z * Z;
+    final double denominator = 1 + (z2 / n);
+    final double centre = (p + (z2 / (2 * n))) / denominator;
+    final double spread = (Z
+        * Math.sqrt(((p * (1 - p)) / n) + (z2 / (4 * n * n)))) / denominator;
+    return new double[] { Math.max(0, centre - spread) * 100,
+        Math.min(1, centre + spread) * 100 };
+  }
+
+}
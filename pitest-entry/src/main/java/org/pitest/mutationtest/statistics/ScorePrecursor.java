@@ -28,7 +28,13 @@ class ScorePrecursor {
   }
 
   private long getTotalMutations() {
-    return FCollection.fold(addTotals(), 0L, this.counts.values());
+    return FCollection.fold(addTotals(), 0L,
+        FCollection.filter(this.counts.values(), isRun()));
+  }
+
+  private long getTotalNotRunMutations() {
+    return FCollection.fold(addTotals(), 0L,
+        FCollection.filter(this.counts.values(), isRun().negate()));
   }
 
   private long getTotalDetectedMutations() {
@@ -41,12 +47,18 @@ class ScorePrecursor {
             FCollection.filter(this.counts.values(), hasCoverage()));
   }
 
+  // not run mutations are left out of the totals, see DetectionStatus.NOT_RUN
+  private static Predicate<StatusCount> isRun() {
+    return a -> a.getStatus() != DetectionStatus.NOT_RUN;
+  }
+
   private static Predicate<StatusCount> isDetected() {
     return a -> a.getStatus().isDetected();
   }
 
   private static Predicate<StatusCount> hasCoverage() {
-    return a -> a.getStatus().hasCoverage();
+    return a -> a.getStatus().hasCoverage()
+        && (a.getStatus() != DetectionStatus.NOT_RUN);
   }
 
   private BiFunction<Long, StatusCount, Long> addTotals() {
@@ -63,7 +75,8 @@ class ScorePrecursor {
 
   Score toScore() {
     return new Score(this.mutatorName, this.getCounts(), this.getTotalMutations(),
-        this.getTotalDetectedMutations(), this.getTotalMutationsWithCoverage());
+        this.getTotalDetectedMutations(), this.getTotalMutationsWithCoverage(),
+        this.getTotalNotRunMutations());
   }
 }
 
@@ -0,0 +1,124 @@
+package org.pitest.mutationtest.statistics;
+
+import java.util.Collections;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Log;
+
+/**
+ * Tracks the statistics of an analysis as results arrive, and reports once the
+ * mutation threshold, test strength threshold and maximum surviving mutants
+ * are certain to pass, or certain to fail, whatever the results of the
+ * mutations still to be analysed.
+ *
+ * Mutations that are then left unanalysed are reported as not run, and are
+ * left out of the final statistics. Leaving out a mutation that was assumed to
+ * survive can only raise the scores, and leaving out one assumed to be
+ * detected can only lower them, so checking the thresholds against the
+ * partial results gives the outcome decided here.
+ */
+public class ThresholdOutcomeListener implements MutationResultListener {
+
+  private static final Logger               LOG   = Log.getLogger();
+
+  private final MutationStatisticsPrecursor stats = new MutationStatisticsPrecursor();
+  private final long                        totalMutations;
+  private final int                         mutationThreshold;
+  private final int                         testStrengthThreshold;
+  private final long                        maxSurvivors;
+  private long                              notRun;
+
+  private volatile boolean                  decided;
+
+  /**
+   * @param totalMutations
+   *          number of mutations the analysis will report
+   * @param mutationThreshold
+   *          mutation score required, or zero for none
+   * @param testStrengthThreshold
+   *          test strength required, or zero for none
+   * @param maxSurvivors
+   *          maximum surviving mutants allowed, or less than zero for no
+   *          maximum
+   */
+  public ThresholdOutcomeListener(final long totalMutations,
+      final int mutationThreshold, final int testStrengthThreshold,
+      final long maxSurvivors) {
+    this.totalMutations = totalMutations;
+    this.mutationThreshold = mutationThreshold;
+    this.testStrengthThreshold = testStrengthThreshold;
+    this.maxSurvivors = maxSurvivors;
+  }
+
+  public boolean isDecided() {
+    return this.decided;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    this.stats.registerResults(results.getMutations());
+    this.notRun += results.getMutations().stream()
+        .filter(r -> r.getStatus() == DetectionStatus.NOT_RUN).count();
+    if (this.decided || !hasThresholds()) {
+      return;
+    }
+
+    final MutationStatistics soFar = this.stats.toStatistics();
+    if (isDecided(soFar)) {
+      LOG.info("Outcome of thresholds decided after "
+          + soFar.getTotalMutations() + " of " + expected() + " mutations");
+      this.decided = true;
+    }
+  }
+
+  @Override
+  public void runEnd() {
+
+  }
+
+  private boolean hasThresholds() {
+    return (this.mutationThreshold != 0) || (this.testStrengthThreshold != 0)
+        || (this.maxSurvivors >= 0);
+  }
+
+  // mutations already reported as not run will not count towards the final
+  // statistics
+  private long expected() {
+    return this.totalMutations - this.notRun;
+  }
+
+  // remaining mutations that are covered but survive give the lowest possible
+  // scores, covered and detected the highest
+  private boolean isDecided(final MutationStatistics soFar) {
+    final long expected = expected();
+    final long remaining = Math.max(0, expected - soFar.getTotalMutations());
+    final long detected = soFar.getTotalDetectedMutations();
+    final long covered = soFar.getTotalMutationsWithCoverage() + remaining;
+
+    final MutationStatistics worst = new MutationStatistics(
+        Collections.<Score> emptyList(), expected, detected, covered, 0);
+    final MutationStatistics best = new MutationStatistics(
+        Collections.<Score> emptyList(), expected, detected + remaining,
+        covered, 0);
+
+    return passes(worst) || !passes(best);
+  }
+
+  private boolean passes(final MutationStatistics stats) {
+    return ((this.mutationThreshold == 0)
+        || (stats.getPercentageDetected() >= this.mutationThreshold))
+        && ((this.testStrengthThreshold == 0)
+            || (stats.getTestStrength() >= this.testStrengthThreshold))
+        && ((this.maxSurvivors < 0)
+            || (stats.getTotalSurvivingMutations() <= this.maxSurvivors));
+  }
+
+}
@@ -5,6 +5,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.Map;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
@@ -20,16 +21,20 @@ import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.incremental.HistoricCoverageCache;
+import org.pitest.mutationtest.incremental.HistoricTestSelector;
 import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
 import org.pitest.util.PitError;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
+import org.pitest.util.Tracer;
 
 public class EntryPoint {
 
@@ -84,8 +89,10 @@ public class EntryPoint {
 
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
+    final File sharingDir = new File(data.getReportDir(), "cds");
     final JavaAgent jac = new JarCreatingJarFinder(
-        new ClassPathByteArraySource(cp));
+        new ClassPathByteArraySource(cp),
+        data.isClassDataSharing() ? sharingDir : null);
 
     final KnownLocationJavaAgentFinder ja = new KnownLocationJavaAgentFinder(
         jac.getJarLocation().get());
@@ -98,17 +105,24 @@ public class EntryPoint {
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
+        .usingClassPathJar(data.useClasspathJar())
+        .withClassDataSharing(data.isClassDataSharing()
+            ? new ClassDataSharing(sharingDir) : ClassDataSharing.none());
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps);
 
-    final Timings timings = new Timings();
+    final Timings timings = new Timings(data.shouldExportTrace()
+        ? Tracer.enabled() : Tracer.disabled());
+    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader,
+        c -> code.fetchClassBytes(ClassName.fromString(c)));
+
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
-
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        new HistoricTestSelector(code, history),
+        new HistoricCoverageCache(code, history),
+        data.getHistoryOutputLocation() != null);
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
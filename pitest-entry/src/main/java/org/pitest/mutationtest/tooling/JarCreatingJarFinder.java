@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.util.jar.Attributes;
 import java.util.jar.JarOutputStream;
 import java.util.jar.Manifest;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 
 import org.pitest.boot.HotSwapAgent;
@@ -33,6 +34,7 @@ import org.pitest.util.Unchecked;
 
 import sun.pitest.CodeCoverageStore;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.MutantSwitch;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -47,10 +49,27 @@ public class JarCreatingJarFinder implements JavaAgent {
 
   private Optional<String>             location              = Optional.empty();
 
+  private static final Class<?>[]    AGENT_CLASSES         = {
+      HotSwapAgent.class, CodeCoverageStore.class, MutantSwitch.class,
+      InvokeReceiver.class };
+
   private final ClassByteArraySource classByteSource;
+  private final File                 directory;
 
   public JarCreatingJarFinder(final ClassByteArraySource classByteSource) {
+    this(classByteSource, null);
+  }
+
+  /**
+   * Creates the agent jar in the given directory, named after its content,
+   * and leaves it there to be reused by later analyses. This keeps the
+   * agent's location stable between runs, which class data sharing archives
+   * depend on.
+   */
+  public JarCreatingJarFinder(final ClassByteArraySource classByteSource,
+      final File directory) {
     this.classByteSource = classByteSource;
+    this.directory = directory;
   }
 
   public JarCreatingJarFinder() {
@@ -66,6 +85,9 @@ public class JarCreatingJarFinder implements JavaAgent {
   }
 
   private Optional<String> createJar() {
+    if (this.directory != null) {
+      return createJarInDirectory();
+    }
     try {
 
       final File randomName = File.createTempFile(FileUtil.randomFilename(),
@@ -79,6 +101,34 @@ public class JarCreatingJarFinder implements JavaAgent {
     }
   }
 
+  private Optional<String> createJarInDirectory() {
+    final CRC32 crc = new CRC32();
+    for (final Class<?> each : AGENT_CLASSES) {
+      crc.update(classBytes(each.getName()));
+    }
+    final File jar = new File(this.directory,
+        "pitest-agent-" + Long.toHexString(crc.getValue()) + ".jar");
+    if (jar.exists()) {
+      return Optional.of(jar.getAbsolutePath());
+    }
+
+    try {
+      this.directory.mkdirs();
+      final File tmp = File.createTempFile(FileUtil.randomFilename(), ".tmp",
+          this.directory);
+      try (FileOutputStream fos = new FileOutputStream(tmp)) {
+        createJarFromClassPathResources(fos, jar.getAbsolutePath());
+      }
+      if (!tmp.renameTo(jar) && !jar.exists()) {
+        throw new PitError("Unable to create agent jar at " + jar);
+      }
+      tmp.delete();
+      return Optional.of(jar.getAbsolutePath());
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
   private void createJarFromClassPathResources(final FileOutputStream fos,
       final String location) throws IOException {
     final Manifest m = new Manifest();
@@ -95,9 +145,9 @@ public class JarCreatingJarFinder implements JavaAgent {
     global.putValue(CAN_SET_NATIVE_METHOD, "true");
 
     try (JarOutputStream jos = new JarOutputStream(fos, m)) {
-      addClass(HotSwapAgent.class, jos);
-      addClass(CodeCoverageStore.class, jos);
-      addClass(InvokeReceiver.class, jos);
+      for (final Class<?> each : AGENT_CLASSES) {
+        addClass(each, jos);
+      }
     }
   }
 
@@ -126,7 +176,7 @@ public class JarCreatingJarFinder implements JavaAgent {
 
   @Override
   public void close() {
-    if (this.location.isPresent()) {
+    if (this.location.isPresent() && this.directory == null) {
       final File f = new File(this.location.get());
       f.delete();
     }
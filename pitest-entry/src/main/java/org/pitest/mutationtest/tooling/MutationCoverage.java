@@ -17,12 +17,16 @@ package org.pitest.mutationtest.tooling;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,17 +60,29 @@ import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.LocalMinionHost;
+import org.pitest.mutationtest.execute.MinionHost;
+import org.pitest.mutationtest.execute.MinionHostPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.remote.ClassPathArchive;
+import org.pitest.mutationtest.execute.remote.RemoteMinionHost;
+import org.pitest.mutationtest.filter.StratifiedSampleFilter;
+import org.pitest.mutationtest.incremental.CodeHistory;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
+import org.pitest.mutationtest.incremental.InformationGainOrder;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
+import org.pitest.mutationtest.statistics.ThresholdOutcomeListener;
 import org.pitest.util.Log;
+import org.pitest.util.PitError;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
+import org.pitest.util.Tracer;
 
 public class MutationCoverage {
 
@@ -114,6 +130,10 @@ public class MutationCoverage {
 
     checkExcludedRunners();
 
+    // history is read before coverage is gathered so that it can be used to
+    // select the tests to gather coverage for
+    history().initialize();
+
     final CoverageDatabase coverageData = coverage().calculateCoverage();
 
     LOG.fine("Used memory after coverage calculation "
@@ -131,11 +151,11 @@ public class MutationCoverage {
     final List<MutationResultListener> config = createConfig(t0, coverageData,
         stats, engine);
 
-    history().initialize();
+    final Optional<StratifiedSampleFilter> sample = sample();
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+        engine, args, sample);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -148,8 +168,11 @@ public class MutationCoverage {
     LOG.fine("Free Memory before analysis start " + (runtime.freeMemory() / MB)
         + " mb");
 
+    final Optional<ThresholdOutcomeListener> outcome = thresholdOutcome(tus);
+    outcome.ifPresent(config::add);
+
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
+        numberOfThreads(), config, stopCondition(t0, outcome));
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
     mae.run(tus);
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
@@ -158,11 +181,35 @@ public class MutationCoverage {
 
     final CombinedStatistics combinedStatistics = new CombinedStatistics(stats.getStatistics(),
         coverageData.createSummary());
-     printStats(combinedStatistics);
+     printStats(combinedStatistics, sample);
+    exportTrace();
     return combinedStatistics;
 
   }
 
+  private void exportTrace() throws IOException {
+    final Tracer tracer = this.timings.tracer();
+    if (!tracer.isEnabled()) {
+      return;
+    }
+    try (Writer out = this.strategies.output().createWriterForFile(
+        "trace.json")) {
+      tracer.writeChromeTrace(out);
+    }
+  }
+
+  private Optional<StratifiedSampleFilter> sample() {
+    final int rate = this.data.getSampleRate();
+    if ((rate < 1) || (rate > 100)) {
+      throw new PitHelpError(Help.BAD_SAMPLE_RATE, rate);
+    }
+    if (rate == 100) {
+      return Optional.empty();
+    }
+    return Optional.of(new StratifiedSampleFilter(rate,
+        this.data.getSampleSeed()));
+  }
+
   private void checkExcludedRunners() {
     final Collection<String> excludedRunners = this.data.getExcludedRunners();
     if (!excludedRunners.isEmpty()) {
@@ -176,6 +223,29 @@ public class MutationCoverage {
     }
   }
 
+  private BooleanSupplier stopCondition(final long t0,
+      final Optional<ThresholdOutcomeListener> outcome) {
+    final long maxRunTime = this.data.getMaxRunTime();
+    final BooleanSupplier outOfTime = () -> (maxRunTime > 0)
+        && (System.currentTimeMillis() > (t0 + maxRunTime));
+    if (!outcome.isPresent()) {
+      return outOfTime;
+    }
+    return () -> outOfTime.getAsBoolean() || outcome.get().isDecided();
+  }
+
+  private Optional<ThresholdOutcomeListener> thresholdOutcome(
+      final List<MutationAnalysisUnit> tus) {
+    if (!this.data.isEarlyTermination()) {
+      return Optional.empty();
+    }
+    final long totalMutations = tus.stream()
+        .mapToLong(MutationAnalysisUnit::numberOfMutations).sum();
+    return Optional.of(new ThresholdOutcomeListener(totalMutations,
+        this.data.getMutationThreshold(), this.data.getTestStrengthThreshold(),
+        this.data.getMaximumAllowedSurvivors()));
+  }
+
 private int numberOfThreads() {
     return Math.max(1, this.data.getNumberOfThreads());
   }
@@ -218,6 +288,10 @@ private int numberOfThreads() {
       FCollection.mapTo(coverageData.getTestsForClass(each),
           TestInfo.toDefiningClassName(), names);
     }
+    // tests that covered nothing are recorded too, so that the next run can
+    // tell them apart from new tests. The code source holds the tests found
+    // when coverage was gathered, so they are not scanned for again
+    FCollection.mapTo(this.code.getTests(), ClassInfo::getName, names);
     return names;
   }
 
@@ -225,7 +299,8 @@ private int numberOfThreads() {
     this.strategies.buildVerifier().verify(this.code);
   }
 
-  private void printStats(final CombinedStatistics stats) {
+  private void printStats(final CombinedStatistics stats,
+      final Optional<StratifiedSampleFilter> sample) {
     final PrintStream ps = System.out;
 
     ps.println(StringUtil.separatorLine('='));
@@ -251,10 +326,12 @@ private int numberOfThreads() {
           coverage.getNumberOfLines(), coverage.getCoverage()));
     }
     mutationStat.report(ps);
+    sample.ifPresent(s -> mutationStat.estimateFrom(s.getPopulation()).report(ps));
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
+      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args,
+      final Optional<StratifiedSampleFilter> sample) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
@@ -264,31 +341,61 @@ private int numberOfThreads() {
 
     final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
+            coverageData, history());
 
     final MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
+        .createInterceptor(this.data, bas,
+            sample.map(Collections::singletonList).orElse(Collections.emptyList()));
 
     final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
 
-    final MutationAnalyser analyser = new IncrementalAnalyser(
-        new DefaultCodeHistory(this.code, history()), coverageData);
+    final CodeHistory codeHistory = new DefaultCodeHistory(this.code,
+        history());
+    final MutationAnalyser analyser = new IncrementalAnalyser(codeHistory,
+        coverageData);
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig, args,
         new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
             this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+            this.data.isMutantSchemata(), this.data.getClassPath().getLocalClassPath(),
+            this.timings.tracer(), minionHost());
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, unitOrder(codeHistory));
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private MinionHost minionHost() {
+    if (this.data.getAgents().isEmpty()) {
+      return new LocalMinionHost();
+    }
+    final String token = this.data.getAgentToken();
+    if (token == null || token.isEmpty()) {
+      throw new PitError("An agent token must be set to launch minions on agents");
+    }
+    final ClassPathArchive archive = new ClassPathArchive();
+    final List<RemoteMinionHost> agents = FCollection.map(
+        this.data.getAgents(),
+        a -> RemoteMinionHost.fromAddress(a, token, archive));
+    LOG.info("Launching minions on agents " + agents);
+    return new MinionHostPool(agents);
+  }
+
+  // when time is limited the units most likely to tell us something new are
+  // run first, otherwise the largest are started first to balance the threads
+  private Optional<Comparator<Collection<MutationDetails>>> unitOrder(
+      final CodeHistory codeHistory) {
+    if (this.data.getMaxRunTime() <= 0) {
+      return Optional.empty();
+    }
+    return Optional.of(new InformationGainOrder(codeHistory));
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
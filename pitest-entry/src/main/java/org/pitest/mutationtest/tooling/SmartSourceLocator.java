@@ -15,8 +15,21 @@
 package org.pitest.mutationtest.tooling;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import org.pitest.functional.FArray;
@@ -24,19 +37,35 @@ import org.pitest.functional.FCollection;
 import java.util.Optional;
 import org.pitest.mutationtest.SourceLocator;
 
+/**
+ * Locates source files beneath a set of roots, treating each root and each
+ * directory up to MAX_DEPTH beneath it as a potential source directory.
+ *
+ * Rather than probing the file system for every candidate directory for every
+ * class, the roots are walked once on first use and the files found are
+ * indexed by name. Lookups are then answered from memory, giving the same
+ * precedence between directories as probing them in turn would.
+ */
 public class SmartSourceLocator implements SourceLocator {
 
   private static final int                MAX_DEPTH = 4;
 
-  private final Collection<SourceLocator> children;
+  private final Collection<File>          roots;
+  private final Map<File, Integer>        childPriority = new HashMap<>();
+
+  private Map<String, List<File>>         filesByName;
 
   public SmartSourceLocator(final Collection<File> roots) {
     final Collection<File> childDirs = FCollection.flatMap(roots,
         collectChildren(0));
     childDirs.addAll(roots);
 
-    final Function<File, SourceLocator> fileToSourceLocator = a -> new DirectorySourceLocator(a);
-    this.children = FCollection.map(childDirs, fileToSourceLocator);
+    int priority = 0;
+    for (final File each : childDirs) {
+      this.childPriority.putIfAbsent(each, priority);
+      priority++;
+    }
+    this.roots = new LinkedHashSet<>(roots);
   }
 
   private Function<File, Collection<File>> collectChildren(final int depth) {
@@ -60,13 +89,93 @@ public class SmartSourceLocator implements SourceLocator {
   @Override
   public Optional<Reader> locate(final Collection<String> classes,
       final String fileName) {
-    for (final SourceLocator each : this.children) {
-      final Optional<Reader> reader = each.locate(classes, fileName);
-      if (reader.isPresent()) {
-        return reader;
+    final List<File> candidates = index().get(fileName);
+    if (candidates == null) {
+      return Optional.empty();
+    }
+
+    File best = null;
+    int bestPriority = Integer.MAX_VALUE;
+    for (final String each : classes) {
+      final String suffix = File.separator + relativePath(each, fileName);
+      for (final File candidate : candidates) {
+        final int priority = priorityOf(candidate, suffix);
+        if (priority < bestPriority) {
+          best = candidate;
+          bestPriority = priority;
+        }
       }
     }
-    return Optional.empty();
+
+    return toReader(best);
+  }
+
+  private int priorityOf(final File candidate, final String suffix) {
+    final String path = candidate.getPath();
+    if (!path.endsWith(suffix)) {
+      return Integer.MAX_VALUE;
+    }
+    final File dir = new File(path.substring(0, path.length() - suffix.length()));
+    return this.childPriority.getOrDefault(dir, Integer.MAX_VALUE);
+  }
+
+  private static String relativePath(final String className,
+      final String fileName) {
+    if (className.contains(".")) {
+      final File f = new File(className.replace(".", File.separator));
+      return f.getParent() + File.separator + fileName;
+    }
+    return fileName;
+  }
+
+  private static Optional<Reader> toReader(final File f) {
+    if (f == null) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(new FileReader(f));
+    } catch (final FileNotFoundException e) {
+      return Optional.empty();
+    }
+  }
+
+  private synchronized Map<String, List<File>> index() {
+    if (this.filesByName == null) {
+      final Map<String, List<File>> files = new HashMap<>();
+      for (final File root : this.roots) {
+        indexFiles(root, files);
+      }
+      this.filesByName = files;
+    }
+    return this.filesByName;
+  }
+
+  private static void indexFiles(final File root,
+      final Map<String, List<File>> files) {
+    if (!root.isDirectory()) {
+      return;
+    }
+    try {
+      Files.walkFileTree(root.toPath(), new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(final Path file,
+            final BasicFileAttributes attrs) {
+          if (attrs.isRegularFile()) {
+            files.computeIfAbsent(file.getFileName().toString(),
+                k -> new ArrayList<>()).add(file.toFile());
+          }
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(final Path file,
+            final IOException exc) {
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (final IOException e) {
+      // unreadable roots simply contribute no source files
+    }
   }
 
 }
@@ -7,11 +7,17 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.util.Textifier;
@@ -24,21 +30,52 @@ import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
-
+import org.pitest.util.Unchecked;
+
+/**
+ * Exports the bytes, disassembled bytecode and details of each mutant.
+ *
+ * Mutants are created on the calling thread, but are written to disk by a pool
+ * of writer threads. The exports for a class are complete when {@link #end()}
+ * returns. Mutants whose bytes and details are unchanged since a previous
+ * export are not written again.
+ */
 public class MutantExportInterceptor implements MutationInterceptor {
 
-  private final String     outDir;
-  private final FileSystem fileSystem;
+  private final String               outDir;
+  private final FileSystem           fileSystem;
   private final ClassByteArraySource source;
+  private final ExecutorService      writers;
+  private final List<Future<?>>      pending = new ArrayList<>();
 
-  private Path             mutantsDir;
-  private ClassName        currentClass;
+  private Path                       mutantsDir;
+  private ClassName                  currentClass;
 
   public MutantExportInterceptor(FileSystem fileSystem,
       ClassByteArraySource source, String outDir) {
+    this(fileSystem, source, outDir, Runtime.getRuntime().availableProcessors());
+  }
+
+  public MutantExportInterceptor(FileSystem fileSystem,
+      ClassByteArraySource source, String outDir, int writerThreads) {
     this.fileSystem = fileSystem;
     this.outDir = outDir;
     this.source = source;
+    this.writers = createWriters(writerThreads);
+  }
+
+  // threads are daemons and time out when idle as there is no point at which
+  // the interceptor is known to be finished with
+  private static ExecutorService createWriters(int threads) {
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads,
+        threads, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
+        r -> {
+          final Thread t = new Thread(r, "pit-mutant-export");
+          t.setDaemon(true);
+          return t;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
   }
 
   @Override
@@ -55,10 +92,12 @@ public class MutantExportInterceptor implements MutationInterceptor {
     this.mutantsDir = classDir.resolve("mutants");
     try {
       Files.createDirectories(this.mutantsDir);
-      writeBytecodeToDisk(this.source.getBytes(clazz.name().asJavaName()).get(), classDir);
     } catch (final IOException e) {
       throw new RuntimeException("Couldn't create direectory for " + clazz, e);
     }
+    final byte[] original = this.source.getBytes(clazz.name().asJavaName()).get();
+    final String fileName = this.currentClass.asJavaName();
+    write(() -> writeBytecodeToDisk(original, classDir, fileName));
   }
 
   @Override
@@ -67,54 +106,92 @@ public class MutantExportInterceptor implements MutationInterceptor {
 
     final List<MutationDetails> indexable = new ArrayList<>(mutations);
 
-    try {
-      for (int i = 0; i != indexable.size(); i++) {
-        exportMutantDetails(m, indexable, i);
-      }
-    } catch (final IOException ex) {
-      throw new RuntimeException("Error exporting mutants for report", ex);
+    for (int i = 0; i != indexable.size(); i++) {
+      exportMutantDetails(m, indexable, i);
     }
 
     return mutations;
   }
 
   private void exportMutantDetails(Mutater m, List<MutationDetails> indexable,
-      int i) throws IOException {
+      int i) {
     final MutationDetails md = indexable.get(i);
     final Path mutantFolder = this.mutantsDir.resolve("" + i);
-    Files.createDirectories(mutantFolder);
+    final String fileName = this.currentClass.asJavaName();
 
     final Mutant mutant = m.getMutation(md.getId());
 
-    writeMutantToDisk(mutant, mutantFolder);
-    writeBytecodeToDisk(mutant.getBytes(), mutantFolder);
-    writeDetailsToDisk(md, mutantFolder);
+    write(() -> {
+      if (isUnchanged(mutant, md, mutantFolder, fileName)) {
+        return;
+      }
+      Files.createDirectories(mutantFolder);
+      writeMutantToDisk(mutant, mutantFolder, fileName);
+      writeBytecodeToDisk(mutant.getBytes(), mutantFolder, fileName);
+      writeDetailsToDisk(md, mutantFolder);
+    });
+  }
+
+  private void write(Export export) {
+    this.pending.add(this.writers.submit(() -> {
+      try {
+        export.write();
+      } catch (final IOException ex) {
+        throw new RuntimeException("Error exporting mutants for report", ex);
+      }
+    }));
+  }
+
+  private static boolean isUnchanged(Mutant mutant, MutationDetails md,
+      Path mutantFolder, String fileName) throws IOException {
+    final Path classFile = mutantFolder.resolve(fileName + ".class");
+    final Path detailsFile = mutantFolder.resolve("details.txt");
+    final Path bytecodeFile = mutantFolder.resolve(fileName + ".txt");
+    return Files.exists(classFile) && Files.exists(detailsFile)
+        && Files.exists(bytecodeFile)
+        && Arrays.equals(Files.readAllBytes(classFile), mutant.getBytes())
+        && Files.readAllLines(detailsFile, StandardCharsets.UTF_8)
+            .equals(Collections.singletonList(md.toString()));
   }
 
-  private void writeMutantToDisk(Mutant mutant, Path mutantFolder) throws IOException {
-    final Path outFile = mutantFolder.resolve(this.currentClass.asJavaName() + ".class");
-    Files.write(outFile, mutant.getBytes(), StandardOpenOption.CREATE);
+  private static void writeMutantToDisk(Mutant mutant, Path mutantFolder,
+      String fileName) throws IOException {
+    final Path outFile = mutantFolder.resolve(fileName + ".class");
+    Files.write(outFile, mutant.getBytes());
   }
 
 
-  private void writeBytecodeToDisk(final byte[] clazz, Path folder) throws IOException {
+  private static void writeBytecodeToDisk(final byte[] clazz, Path folder,
+      String fileName) throws IOException {
       final ClassReader reader = new ClassReader(clazz);
       final CharArrayWriter buffer = new CharArrayWriter();
       reader.accept(new TraceClassVisitor(null, new Textifier(), new PrintWriter(
           buffer)), ClassReader.EXPAND_FRAMES);
-      final Path outFile = folder.resolve(this.currentClass.asJavaName() + ".txt");
-      Files.write(outFile, Collections.singleton(buffer.toString()), StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+      final Path outFile = folder.resolve(fileName + ".txt");
+      Files.write(outFile, Collections.singleton(buffer.toString()), StandardCharsets.UTF_8);
   }
 
-  private void writeDetailsToDisk(MutationDetails md,
+  private static void writeDetailsToDisk(MutationDetails md,
       Path mutantFolder) throws IOException  {
     final Path outFile = mutantFolder.resolve("details.txt");
-    Files.write(outFile, Collections.singleton(md.toString()), StandardCharsets.UTF_8, StandardOpenOption.CREATE);
+    Files.write(outFile, Collections.singleton(md.toString()), StandardCharsets.UTF_8);
   }
 
   @Override
   public void end() {
+    try {
+      for (final Future<?> each : this.pending) {
+        each.get();
+      }
+    } catch (final InterruptedException | ExecutionException e) {
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      this.pending.clear();
+    }
+  }
 
+  private interface Export {
+    void write() throws IOException;
   }
 
 }
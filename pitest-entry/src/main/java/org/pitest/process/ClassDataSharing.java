@@ -0,0 +1,424 @@
+package org.pitest.process;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * Starts minions from a class data sharing archive, so that the classes each
+ * one loads from the JDK, PIT and the project need not be parsed and verified
+ * again.
+ *
+ * The classes loaded by the first minion launched are recorded and dumped to
+ * an archive once it has exited. The archive is dumped and checked in the
+ * background, and is mapped into every minion launched once it is ready.
+ * Minions launched before then run without it. Archives are cached by JDK
+ * version, class path and JVM arguments so later analyses can use them from
+ * their first minion. Archives the JVM no longer accepts are discarded and
+ * recorded again.
+ *
+ * The JVM only archives classes from jars. The jars of the class path are
+ * archived with its directories skipped, but a JVM may accept the archive only
+ * if the archived class path is a prefix of the minion's. Whether it does is
+ * checked once the archive is dumped, and if not only the jars before the first
+ * directory are archived. With a build tool's usual class path, which starts
+ * with the test and code directories, that leaves only classes from the JDK
+ * and PIT's agent shared.
+ */
+public class ClassDataSharing {
+
+  private static final Logger  LOG             = Log.getLogger();
+
+  private static final Pattern VERSION         = Pattern
+      .compile("version \"(1\\.)?(\\d+)");
+  private static final int     MINIMUM_VERSION = 11;
+
+  private enum State {
+    NOT_RECORDED, RECORDING, DUMPING, AVAILABLE, UNAVAILABLE
+  }
+
+  private final File                 cacheDir;
+  // guarded by this
+  private final Map<String, Archive> archives  = new HashMap<>();
+  private final Set<String>          preparing = new HashSet<>();
+  private final Map<String, String>  versions  = new ConcurrentHashMap<>();
+
+  public ClassDataSharing(final File cacheDir) {
+    this.cacheDir = cacheDir;
+  }
+
+  public static ClassDataSharing none() {
+    return new ClassDataSharing(null);
+  }
+
+  /**
+   * Returns the arguments with which to launch a minion.
+   *
+   * @param javaExecutable
+   *          java executable the minion is launched with
+   * @param jvmArgs
+   *          all other arguments before the main class
+   * @param processArgs
+   *          the minion's process arguments
+   * @return arguments to add before the main class
+   */
+  List<String> argumentsFor(final String javaExecutable,
+      final List<String> jvmArgs, final ProcessArgs processArgs) {
+    if (this.cacheDir == null || processArgs.useClasspathJar()) {
+      return Collections.emptyList();
+    }
+
+    final Optional<Archive> maybeArchive = archiveFor(javaExecutable, jvmArgs,
+        processArgs);
+    if (!maybeArchive.isPresent()) {
+      return Collections.emptyList();
+    }
+
+    final Archive archive = maybeArchive.get();
+    synchronized (this) {
+      switch (archive.state) {
+      case NOT_RECORDED:
+        archive.state = State.RECORDING;
+        return archive.recordingArguments();
+      case RECORDING:
+        if (archive.recorder == null || archive.recorder.isAlive()) {
+          return Collections.emptyList();
+        }
+        archive.state = State.DUMPING;
+        dumpInBackground(archive, javaExecutable, jvmArgs, processArgs);
+        return Collections.emptyList();
+      case AVAILABLE:
+        return archive.sharingArguments();
+      default:
+        return Collections.emptyList();
+      }
+    }
+  }
+
+  /**
+   * Called once a minion has been launched with the given arguments.
+   */
+  synchronized void started(final List<String> arguments,
+      final Process process) {
+    for (final Archive each : this.archives.values()) {
+      if (each.state == State.RECORDING && each.recorder == null
+          && arguments.equals(each.recordingArguments())) {
+        each.recorder = process;
+      }
+    }
+  }
+
+  // the first launch with each set of arguments looks for an archive, and
+  // any launched with the same arguments meanwhile go without one rather than
+  // waiting for it
+  private Optional<Archive> archiveFor(final String javaExecutable,
+      final List<String> jvmArgs, final ProcessArgs processArgs) {
+    final String launch = String.join("\u0000", javaExecutable,
+        String.join("\u0000", jvmArgs), processArgs.getLaunchClassPath());
+    synchronized (this) {
+      final Archive existing = this.archives.get(launch);
+      if (existing != null) {
+        return Optional.of(existing);
+      }
+      if (!this.preparing.add(launch)) {
+        return Optional.empty();
+      }
+    }
+
+    final Archive archive = prepare(javaExecutable, jvmArgs, processArgs);
+    synchronized (this) {
+      this.archives.put(launch, archive);
+      this.preparing.remove(launch);
+    }
+    return Optional.of(archive);
+  }
+
+  private Archive prepare(final String javaExecutable,
+      final List<String> jvmArgs, final ProcessArgs processArgs) {
+    String javaVersion = this.versions.get(javaExecutable);
+    if (javaVersion == null) {
+      javaVersion = run(withArguments(javaExecutable, jvmArgs, "-version"),
+          processArgs).orElse("");
+      this.versions.put(javaExecutable, javaVersion);
+    }
+
+    final Archive archive = new Archive(hash(javaVersion, javaExecutable,
+        String.join("\u0000", jvmArgs), processArgs.getLaunchClassPath()));
+    if (majorVersion(javaVersion) < MINIMUM_VERSION) {
+      LOG.info("Class data sharing requires Java " + MINIMUM_VERSION
+          + " or later for minions, so will not be used");
+      archive.state = State.UNAVAILABLE;
+    } else if (archive.unsupported.exists()) {
+      archive.state = State.UNAVAILABLE;
+    } else if (archive.file.exists()
+        && archive.isAccepted(javaExecutable, jvmArgs, processArgs)) {
+      archive.state = State.AVAILABLE;
+    } else {
+      archive.file.delete();
+      archive.state = State.NOT_RECORDED;
+    }
+    return archive;
+  }
+
+  private void dumpInBackground(final Archive archive,
+      final String javaExecutable, final List<String> jvmArgs,
+      final ProcessArgs processArgs) {
+    final Thread t = new Thread(() -> {
+      final State dumped = archive.dump(javaExecutable, jvmArgs, processArgs);
+      synchronized (ClassDataSharing.this) {
+        archive.state = dumped;
+      }
+    }, "pit-class-data-sharing");
+    t.setDaemon(true);
+    t.start();
+  }
+
+  static int majorVersion(final String versionOutput) {
+    final Matcher m = VERSION.matcher(versionOutput);
+    if (!m.find()) {
+      return 0;
+    }
+    return Integer.parseInt(m.group(2));
+  }
+
+  private class Archive {
+    private final File file;
+    private final File classList;
+    // guarded by the enclosing instance once the archive has been prepared
+    private State      state;
+    private Process    recorder;
+
+    private final File unsupported;
+
+    Archive(final String key) {
+      this.file = new File(ClassDataSharing.this.cacheDir, key + ".jsa");
+      this.classList = new File(ClassDataSharing.this.cacheDir,
+          key + ".classlist");
+      this.unsupported = new File(ClassDataSharing.this.cacheDir,
+          key + ".unsupported");
+    }
+
+    List<String> recordingArguments() {
+      return Collections.singletonList(
+          "-XX:DumpLoadedClassList=" + this.classList.getAbsolutePath());
+    }
+
+    List<String> sharingArguments() {
+      final List<String> args = new ArrayList<>();
+      args.add("-Xshare:auto");
+      args.add("-XX:SharedArchiveFile=" + this.file.getAbsolutePath());
+      return args;
+    }
+
+    boolean isAccepted(final String javaExecutable,
+        final List<String> jvmArgs, final ProcessArgs processArgs) {
+      return run(withArguments(javaExecutable, jvmArgs, "-Xshare:on",
+          "-XX:SharedArchiveFile=" + this.file.getAbsolutePath(), "-version"),
+          processArgs).isPresent();
+    }
+
+    State dump(final String javaExecutable, final List<String> jvmArgs,
+        final ProcessArgs processArgs) {
+      if (!this.classList.exists()) {
+        return State.UNAVAILABLE;
+      }
+
+      try {
+        for (final String classPath : shareableClassPaths(
+            processArgs.getLaunchClassPath())) {
+          if (dumpWith(classPath, javaExecutable, jvmArgs, processArgs)
+              && isAccepted(javaExecutable, jvmArgs, processArgs)) {
+            return State.AVAILABLE;
+          }
+          this.file.delete();
+        }
+      } catch (final IOException ex) {
+        LOG.log(Level.FINE, "Could not store class data sharing archive", ex);
+        return State.UNAVAILABLE;
+      } finally {
+        this.classList.delete();
+      }
+
+      LOG.info("Could not create a class data sharing archive for minions");
+      markUnsupported();
+      return State.UNAVAILABLE;
+    }
+
+    private boolean dumpWith(final String classPath,
+        final String javaExecutable, final List<String> jvmArgs,
+        final ProcessArgs processArgs) throws IOException {
+      final File tmp = new File(this.file.getAbsolutePath() + ".tmp");
+      run(withArguments(javaExecutable, dumpArguments(jvmArgs), "-Xshare:dump",
+          "-XX:SharedClassListFile=" + this.classList.getAbsolutePath(),
+          "-XX:SharedArchiveFile=" + tmp.getAbsolutePath()), processArgs,
+          classPath);
+      if (!tmp.exists()) {
+        return false;
+      }
+      Files.move(tmp.toPath(), this.file.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+      return true;
+    }
+
+    // remember the failure so later analyses do not record classes again
+    private void markUnsupported() {
+      try {
+        this.unsupported.createNewFile();
+      } catch (final IOException ex) {
+        LOG.log(Level.FINE, "Could not write " + this.unsupported, ex);
+      }
+    }
+
+  }
+
+  // Archives may not be dumped with agents running, but any classes an
+  // agent adds to the boot class path must be on it when dumping
+  private static List<String> dumpArguments(final List<String> jvmArgs) {
+    final List<String> args = new ArrayList<>();
+    for (final String each : jvmArgs) {
+      if (each.startsWith("-javaagent:")) {
+        bootClassPathOf(each).ifPresent(cp -> args.add("-Xbootclasspath/a:" + cp));
+      } else {
+        args.add(each);
+      }
+    }
+    return args;
+  }
+
+  private static Optional<String> bootClassPathOf(final String agentArg) {
+    final String jar = agentArg.substring("-javaagent:".length())
+        .split("=", 2)[0];
+    try (JarFile file = new JarFile(jar)) {
+      if (file.getManifest() == null) {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(
+          file.getManifest().getMainAttributes().getValue("Boot-Class-Path"));
+    } catch (final IOException ex) {
+      return Optional.empty();
+    }
+  }
+
+  // class paths to dump with, in order of preference. Non empty directories
+  // cannot be dumped, so are skipped, but whether the jars that follow them
+  // can be shared depends on the JVM
+  static List<String> shareableClassPaths(final String classPath) {
+    final List<String> jars = new ArrayList<>();
+    final List<String> leading = new ArrayList<>();
+    boolean seenClasses = false;
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final String[] contents = new File(each).list();
+      if (contents != null && contents.length != 0) {
+        seenClasses = true;
+        continue;
+      }
+      jars.add(each);
+      if (!seenClasses) {
+        leading.add(each);
+      }
+    }
+
+    final List<String> classPaths = new ArrayList<>();
+    classPaths.add(String.join(File.pathSeparator, jars));
+    if (leading.size() != jars.size()) {
+      classPaths.add(String.join(File.pathSeparator, leading));
+    }
+    return classPaths;
+  }
+
+  private static List<String> withArguments(final String javaExecutable,
+      final List<String> jvmArgs, final String... more) {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(javaExecutable);
+    cmd.addAll(jvmArgs);
+    Collections.addAll(cmd, more);
+    return cmd;
+  }
+
+  // runs a short lived jvm in the same environment as a minion, returning
+  // its output if it exited normally
+  private Optional<String> run(final List<String> cmd,
+      final ProcessArgs processArgs) {
+    return run(cmd, processArgs, processArgs.getLaunchClassPath());
+  }
+
+  private Optional<String> run(final List<String> cmd,
+      final ProcessArgs processArgs, final String classPath) {
+    this.cacheDir.mkdirs();
+    final ProcessBuilder builder = new ProcessBuilder(cmd)
+        .directory(processArgs.getWorkingDir()).redirectErrorStream(true);
+    builder.environment().put("CLASSPATH", classPath);
+    if (processArgs.getEnvironmentVariables() != null) {
+      builder.environment().putAll(processArgs.getEnvironmentVariables());
+    }
+
+    try {
+      final Process process = builder.start();
+      final String output;
+      try (InputStream is = process.getInputStream()) {
+        output = readFully(is);
+      }
+      if (process.waitFor() != 0) {
+        return Optional.empty();
+      }
+      return Optional.of(output);
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not launch " + cmd, ex);
+      return Optional.empty();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return Optional.empty();
+    }
+  }
+
+  private static String readFully(final InputStream is) throws IOException {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[4096];
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      bos.write(buffer, 0, read);
+    }
+    return new String(bos.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static String hash(final String... values) {
+    try {
+      final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      for (final String each : values) {
+        digest.update(each.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      final StringBuilder sb = new StringBuilder();
+      for (final byte each : digest.digest()) {
+        sb.append(String.format("%02x", each));
+      }
+      return sb.toString();
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError("SHA-1 not available", ex);
+    }
+  }
+
+}
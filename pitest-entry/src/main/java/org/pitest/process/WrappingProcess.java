@@ -8,6 +8,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,24 +19,37 @@ import org.pitest.util.ManifestUtils;
 
 public class WrappingProcess {
 
-  private final int         port;
-  private final ProcessArgs processArgs;
-  private final Class<?>    minionClass;
+  private final List<String> programArgs;
+  private final ProcessArgs  processArgs;
+  private final Class<?>     minionClass;
 
-  private JavaProcess       process;
+  private JavaProcess        process;
+  private List<String>       sharingArgs = Collections.emptyList();
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
-    this.port = port;
+    this(Collections.singletonList("" + port), args, minionClass);
+  }
+
+  /**
+   * Launches a minion that connects to the given port on a host other than
+   * localhost
+   */
+  public WrappingProcess(int port, String host, ProcessArgs args,
+      Class<?> minionClass) {
+    this(Arrays.asList("" + port, host), args, minionClass);
+  }
+
+  private WrappingProcess(List<String> programArgs, ProcessArgs args,
+      Class<?> minionClass) {
+    this.programArgs = programArgs;
     this.processArgs = args;
     this.minionClass = minionClass;
   }
 
   public void start() throws IOException {
-    final String[] args = { "" + this.port };
-
     final ProcessBuilder processBuilder = createProcessBuilder(
         this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
-        this.minionClass, Arrays.asList(args),
+        this.minionClass, this.programArgs,
         this.processArgs.getJavaAgentFinder(),
         this.processArgs.getLaunchClassPath());
 
@@ -46,6 +60,7 @@ public class WrappingProcess {
         this.processArgs.getEnvironmentVariables());
 
     final Process process = processBuilder.start();
+    this.processArgs.getClassDataSharing().started(this.sharingArgs, process);
     this.process = new JavaProcess(process, this.processArgs.getStdout(),
         this.processArgs.getStdErr());
   }
@@ -106,6 +121,7 @@ public class WrappingProcess {
 
     addPITJavaAgent(agentJarLocator, cmd);
     addLaunchJavaAgents(cmd);
+    addClassDataSharing(cmd);
 
     cmd.add(mainClass.getName());
     cmd.addAll(programArgs);
@@ -125,6 +141,14 @@ public class WrappingProcess {
     }
   }
 
+  private void addClassDataSharing(final List<String> cmd) {
+    final List<String> jvmArgs = new ArrayList<>(cmd.subList(1, cmd.size()));
+    removeClassPathProperties(jvmArgs);
+    this.sharingArgs = this.processArgs.getClassDataSharing()
+        .argumentsFor(cmd.get(0), jvmArgs, this.processArgs);
+    cmd.addAll(this.sharingArgs);
+  }
+
   private static void addPITJavaAgent(JavaAgent agentJarLocator,
       List<String> cmd) {
     final Optional<String> jarLocation = agentJarLocator.getJarLocation();
@@ -1,6 +1,7 @@
 package org.pitest.util;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.ServerSocket;
@@ -45,7 +46,8 @@ class SocketReadingCallable implements Callable<ExitCode> {
   }
 
   private void sendDataToMinion(final Socket clientSocket) throws IOException {
-    final OutputStream os = clientSocket.getOutputStream();
+    final OutputStream os = new BufferedOutputStream(
+        clientSocket.getOutputStream());
     final SafeDataOutputStream dos = new SafeDataOutputStream(os);
     this.sendInitialData.accept(dos);
   }
@@ -15,10 +15,13 @@
 package org.pitest.util;
 
 import java.io.PrintStream;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.pitest.util.Tracer.Span;
+
 public class Timings {
 
   public enum Stage {
@@ -38,15 +41,33 @@ public class Timings {
     }
   }
 
+  private static final int           SLOWEST = 5;
+
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<Stage, Span>     spans   = new EnumMap<>(Stage.class);
+  private final Tracer               tracer;
+
+  public Timings() {
+    this(Tracer.disabled());
+  }
+
+  public Timings(final Tracer tracer) {
+    this.tracer = tracer;
+  }
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
+    this.spans.put(stage, this.tracer.start(Tracer.STAGE, stage.toString()));
   }
 
   public void registerEnd(final Stage stage) {
     final long end = System.currentTimeMillis();
     this.timings.get(stage).setEnd(end);
+    this.spans.remove(stage).close();
+  }
+
+  public Tracer tracer() {
+    return this.tracer;
   }
 
   public void report(final PrintStream ps) {
@@ -58,6 +79,10 @@ public class Timings {
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, total));
     ps.println(StringUtil.separatorLine());
+    if (this.tracer.isEnabled()) {
+      this.tracer.reportSlowest(ps, SLOWEST);
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
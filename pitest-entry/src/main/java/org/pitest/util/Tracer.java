@@ -0,0 +1,249 @@
+package org.pitest.util;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * Records spans of time spent in the stages of an analysis, in the minions it
+ * launches, and in the mutants and tests those minions run.
+ *
+ * Spans may be recorded from any thread. They can be written as a Chrome trace
+ * event file, which can be loaded into chrome://tracing or Perfetto, and
+ * summarised to show the slowest units, classes and tests.
+ */
+public final class Tracer {
+
+  public static final String       STAGE  = "stage";
+  public static final String       UNIT   = "unit";
+  public static final String       MINION = "minion";
+  public static final String       MUTANT = "mutant";
+  public static final String       TEST   = "test";
+
+  private static final Tracer      NONE   = new Tracer(false);
+
+  private final boolean            enabled;
+  private final long               origin = System.nanoTime();
+  private final Queue<TraceEvent>  events = new ConcurrentLinkedQueue<>();
+
+  private Tracer(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public static Tracer enabled() {
+    return new Tracer(true);
+  }
+
+  /**
+   * A tracer that records nothing
+   */
+  public static Tracer disabled() {
+    return NONE;
+  }
+
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  public Span start(final String category, final String name) {
+    return new Span(category, name, now(), Thread.currentThread().getId());
+  }
+
+  /**
+   * Records a span that has already completed, with times taken from
+   * {@link #now()}
+   */
+  public void record(final String category, final String name,
+      final long start, final long end, final Map<String, String> args) {
+    if (this.enabled) {
+      this.events.add(new TraceEvent(category, name, start - this.origin,
+          end - start, Thread.currentThread().getId(), args));
+    }
+  }
+
+  public long now() {
+    return System.nanoTime();
+  }
+
+  public List<TraceEvent> events() {
+    return new ArrayList<>(this.events);
+  }
+
+  public void writeChromeTrace(final Writer out) throws IOException {
+    out.write("{\"traceEvents\":[");
+    String separator = "\n";
+    for (final TraceEvent each : this.events) {
+      out.write(separator);
+      each.writeTo(out);
+      separator = ",\n";
+    }
+    out.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+  }
+
+  /**
+   * Prints the units and classes that took longest to analyse, and the tests
+   * that took longest to run
+   */
+  public void reportSlowest(final PrintStream ps, final int count) {
+    reportSlowest(ps, "units", UNIT, TraceEvent::getName, count);
+    reportSlowest(ps, "classes", MUTANT, e -> e.getArgs().get("class"), count);
+    reportSlowest(ps, "tests", TEST, TraceEvent::getName, count);
+  }
+
+  private void reportSlowest(final PrintStream ps, final String title,
+      final String category, final Function<TraceEvent, String> key,
+      final int count) {
+    final Map<String, Long> totals = new LinkedHashMap<>();
+    for (final TraceEvent each : this.events) {
+      if (each.getCategory().equals(category)) {
+        totals.merge(key.apply(each), each.getDuration(), Long::sum);
+      }
+    }
+    if (totals.isEmpty()) {
+      return;
+    }
+    final List<Entry<String, Long>> slowest = new ArrayList<>(totals.entrySet());
+    Collections.sort(slowest,
+        Collections.reverseOrder(Comparator.comparing(Entry::getValue)));
+    ps.println("> Slowest " + title);
+    for (final Entry<String, Long> each : slowest.subList(0,
+        Math.min(count, slowest.size()))) {
+      ps.println(">> " + each.getKey() + " : "
+          + new TimeSpan(0, each.getValue() / 1000000));
+    }
+  }
+
+  public final class Span implements AutoCloseable {
+    private final String              category;
+    private final String              name;
+    private final long                start;
+    private final long                thread;
+    private final Map<String, String> args = new LinkedHashMap<>();
+
+    private Span(final String category, final String name, final long start,
+        final long thread) {
+      this.category = category;
+      this.name = name;
+      this.start = start;
+      this.thread = thread;
+    }
+
+    public Span arg(final String key, final Object value) {
+      if (Tracer.this.enabled) {
+        this.args.put(key, String.valueOf(value));
+      }
+      return this;
+    }
+
+    /**
+     * Ends the span. It is attributed to the thread that started it, whichever
+     * thread ends it.
+     */
+    @Override
+    public void close() {
+      if (Tracer.this.enabled) {
+        final long end = now();
+        Tracer.this.events.add(new TraceEvent(this.category, this.name,
+            this.start - Tracer.this.origin, end - this.start, this.thread,
+            this.args));
+      }
+    }
+  }
+
+  public static final class TraceEvent {
+    private final String              category;
+    private final String              name;
+    private final long                start;
+    private final long                duration;
+    private final long                thread;
+    private final Map<String, String> args;
+
+    TraceEvent(final String category, final String name, final long start,
+        final long duration, final long thread, final Map<String, String> args) {
+      this.category = category;
+      this.name = name;
+      this.start = start;
+      this.duration = duration;
+      this.thread = thread;
+      this.args = args;
+    }
+
+    public String getCategory() {
+      return this.category;
+    }
+
+    public String getName() {
+      return this.name;
+    }
+
+    /**
+     * @return nanoseconds from the creation of the tracer
+     */
+    public long getStart() {
+      return this.start;
+    }
+
+    /**
+     * @return duration in nanoseconds
+     */
+    public long getDuration() {
+      return this.duration;
+    }
+
+    public long getThread() {
+      return this.thread;
+    }
+
+    public Map<String, String> getArgs() {
+      return this.args;
+    }
+
+    // complete events with times in microseconds, as the trace event format
+    // expects
+    private void writeTo(final Writer out) throws IOException {
+      out.write("{\"name\":" + quote(this.name) + ",\"cat\":"
+          + quote(this.category) + ",\"ph\":\"X\",\"ts\":" + (this.start / 1000)
+          + ",\"dur\":" + (this.duration / 1000) + ",\"pid\":1,\"tid\":"
+          + this.thread + ",\"args\":{");
+      String separator = "";
+      for (final Entry<String, String> each : this.args.entrySet()) {
+        out.write(separator + quote(each.getKey()) + ":"
+            + quote(each.getValue()));
+        separator = ",";
+      }
+      out.write("}}");
+    }
+
+    private static String quote(final String value) {
+      final StringBuilder sb = new StringBuilder("\"");
+      for (final char c : value.toCharArray()) {
+        switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+        }
+      }
+      return sb.append('"').toString();
+    }
+  }
+
+}
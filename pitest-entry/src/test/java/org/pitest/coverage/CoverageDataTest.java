@@ -142,6 +142,36 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldProvideResultsForTestClassWhenKept() {
+    this.testee = new CoverageData(this.code, this.lm, true);
+    final CoverageResult first = makeCoverageResult("foo",
+        new Description("first", "FooTest"), 0, 1, true);
+    final CoverageResult second = makeCoverageResult("bar",
+        new Description("second", "FooTest"), 0, 1, true);
+    final CoverageResult other = makeCoverageResult("foo",
+        new Description("first", "BarTest"), 0, 1, true);
+    this.testee.calculateClassCoverage(first);
+    this.testee.calculateClassCoverage(second);
+    this.testee.calculateClassCoverage(other);
+    assertThat(this.testee.getResultsForTestClass(ClassName.fromString("FooTest")))
+        .containsExactly(first, second);
+  }
+
+  @Test
+  public void shouldNotKeepResultsForTestClassByDefault() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("first", "FooTest"), 0, 1, true));
+    assertThat(this.testee.getResultsForTestClass(ClassName.fromString("FooTest")))
+        .isEmpty();
+  }
+
+  @Test
+  public void shouldProvideNoResultsForTestClassWithoutCoverage() {
+    assertThat(this.testee.getResultsForTestClass(ClassName.fromString("FooTest")))
+        .isEmpty();
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -193,6 +223,31 @@ public class CoverageDataTest {
 
   }
 
+  @Test
+  public void shouldReturnCoverageIdOf0WhenNoTestsCoverMethod() {
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        aBlockLocation().withLocation(aLocation().withClass(this.foo)
+            .withMethod("covered")).build(1)).build());
+
+    assertEquals(0, this.testee.getCoverageIdForMethod(aLocation()
+        .withClass(this.foo).withMethod("notCovered").build()).longValue());
+  }
+
+  @Test
+  public void shouldReturnNonZeroCoverageIdWhenTestsCoverMethod() {
+    final ClassInfo ci = ClassInfoMother.make(ClassName.fromString("FooTest"));
+    when(this.code.getClassInfo(any(Collection.class))).thenReturn(
+        Collections.singletonList(ci));
+
+    this.testee.calculateClassCoverage(aCoverageResult().withVisitedBlocks(
+        aBlockLocation().withLocation(aLocation().withClass(this.foo)
+            .withMethod("covered")).build(1)).build());
+
+    assertThat(this.testee.getCoverageIdForMethod(aLocation()
+        .withClass(this.foo).withMethod("covered").build()).longValue())
+        .isNotEqualTo(0);
+  }
+
   @Test
   public void shouldProvideEmptyBlockCoverageListWhenNoCoverage() {
     assertEquals(Collections.emptyList(), this.testee.createCoverage());
@@ -102,6 +102,15 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED, SURVIVED);
   }
 
+  @Test
+  public void shouldReportSameResultsWhenUsingMutantSchemata() {
+    this.data
+    .setTargetClasses(asList("com.example.CoveredButOnlyPartiallyTested*"));
+    this.data.setMutantSchemata(true);
+    createAndRun();
+    verifyResults(KILLED, SURVIVED);
+  }
+
 
   @Test(expected = PitHelpError.class)
   public void shouldFailRunWithHelpfulMessageIfTestsNotGreen() {
@@ -116,4 +116,69 @@ public class MutationStatusMapTest {
         resultTwo);
   }
 
+  @Test
+  public void shouldGiveDuplicateMutantsResultOfMutantTheyDuplicate() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "foo");
+    this.testee.setStatusForMutation(
+        this.details.withDuplicates(Collections.singletonList(this.detailsTwo)),
+        status);
+
+    assertThat(this.testee.createMutationResults()).containsOnly(
+        new MutationResult(this.details, status),
+        new MutationResult(this.detailsTwo, status));
+  }
+
+  @Test
+  public void shouldGiveSubsumedMutantsResultOfKilledMutantThatSubsumesThem() {
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "foo");
+    this.testee.setStatusForMutation(
+        this.details.withSubsumed(Collections.singletonList(this.detailsTwo)),
+        status);
+
+    assertThat(this.testee.createMutationResults()).containsOnly(
+        new MutationResult(this.details, status),
+        new MutationResult(this.detailsTwo, status));
+  }
+
+  @Test
+  public void shouldQueueSubsumedMutantsWhenMutantThatSubsumesThemSurvives() {
+    this.testee.setStatusForMutation(
+        this.details.withSubsumed(Collections.singletonList(this.detailsTwo)),
+        DetectionStatus.SURVIVED);
+
+    this.testee.resolveSubsumedMutations();
+
+    assertThat(this.testee.getUnrunMutations()).containsExactly(this.detailsTwo);
+  }
+
+  @Test
+  public void shouldNotQueueSubsumedMutantsWhenMutantThatSubsumesThemIsKilled() {
+    this.testee.setStatusForMutation(
+        this.details.withSubsumed(Collections.singletonList(this.detailsTwo)),
+        DetectionStatus.KILLED);
+
+    this.testee.resolveSubsumedMutations();
+
+    assertThat(this.testee.getUnrunMutations()).isEmpty();
+  }
+
+  @Test
+  public void shouldGiveSubsumedMutantsNoCoverageWhenMutantThatSubsumesThemIsUncovered() {
+    this.testee.setStatusForMutation(
+        this.details.withSubsumed(Collections.singletonList(this.detailsTwo)),
+        DetectionStatus.NO_COVERAGE);
+
+    this.testee.resolveSubsumedMutations();
+
+    assertThat(this.testee.createMutationResults()).containsOnly(
+        new MutationResult(this.details,
+            MutationStatusTestPair.notAnalysed(0,
+                DetectionStatus.NO_COVERAGE)),
+        new MutationResult(this.detailsTwo,
+            MutationStatusTestPair.notAnalysed(0,
+                DetectionStatus.NO_COVERAGE)));
+  }
+
 }
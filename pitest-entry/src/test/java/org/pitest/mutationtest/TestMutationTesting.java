@@ -23,6 +23,9 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,8 +37,10 @@ import java.util.function.Predicate;
 
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.MockitoAnnotations;
 import org.pitest.SystemTest;
 import org.pitest.classinfo.ClassInfo;
@@ -65,7 +70,13 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.LocalMinionHost;
+import org.pitest.mutationtest.execute.MinionHost;
+import org.pitest.mutationtest.execute.MinionHostPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.remote.ClassPathArchive;
+import org.pitest.mutationtest.execute.remote.MinionAgent;
+import org.pitest.mutationtest.execute.remote.RemoteMinionHost;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
@@ -74,6 +85,7 @@ import org.pitest.simpletest.SimpleTestPlugin;
 import org.pitest.simpletest.TestAnnotationForTesting;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Timings;
+import org.pitest.util.Tracer;
 
 import com.example.MutationsInNestedClasses;
 import com.example.MutationsInNestedClassesTest;
@@ -86,6 +98,11 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private MinionHost               minionHost = new LocalMinionHost();
+
+  @Rule
+  public TemporaryFolder           folder     = new TemporaryFolder();
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -299,6 +316,31 @@ public class TestMutationTesting {
     verifyResults(SURVIVED, SURVIVED);
   }
 
+  @Test
+  public void shouldAnalyseMutationsOnAgents() throws Exception {
+    try (MinionAgent first = startAgent(); MinionAgent second = startAgent()) {
+      final ClassPathArchive archive = new ClassPathArchive();
+      final String host = InetAddress.getLoopbackAddress().getHostAddress();
+      this.minionHost = new MinionHostPool(Arrays.asList(
+          new RemoteMinionHost(host, first.getPort(), "token", archive),
+          new RemoteMinionHost(host, second.getPort(), "token", archive)));
+      this.mae = new MutationAnalysisExecutor(2,
+          Collections
+              .<MutationResultListener> singletonList(this.metaDataExtractor));
+      run(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+          "RETURN_VALS");
+      verifyResults(KILLED, KILLED, SURVIVED);
+    }
+  }
+
+  private MinionAgent startAgent() throws IOException {
+    final MinionAgent agent = new MinionAgent(new ServerSocket(0, 50,
+        InetAddress.getLoopbackAddress()), "token",
+        this.folder.newFolder().toPath(), new JarCreatingJarFinder());
+    agent.start();
+    return agent;
+  }
+
   @Test
   @Ignore("too brittle")
   public void shouldRecordCorrectLineNumberForMutations() {
@@ -380,8 +422,8 @@ public class TestMutationTesting {
     final WorkerFactory wf = new WorkerFactory(null,
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
-            data.getTimeoutConstant()), data.isVerbose(), false, data.getClassPath()
-            .getLocalClassPath());
+            data.getTimeoutConstant()), data.isVerbose(), false, false, data.getClassPath()
+            .getLocalClassPath(), Tracer.disabled(), this.minionHost);
 
 
 
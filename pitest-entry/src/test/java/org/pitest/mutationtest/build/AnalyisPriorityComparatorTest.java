@@ -50,6 +50,16 @@ public class AnalyisPriorityComparatorTest {
         return null;
       }
 
+      @Override
+      public int numberOfMutations() {
+        return count;
+      }
+
+      @Override
+      public MutationMetaData notRun() {
+        return null;
+      }
+
     };
   }
 
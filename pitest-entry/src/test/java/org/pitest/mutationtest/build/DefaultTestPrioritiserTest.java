@@ -1,13 +1,17 @@
 package org.pitest.mutationtest.build;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -73,6 +77,40 @@ public class DefaultTestPrioritiserTest {
         FCollection.map(actual, toTime()));
   }
 
+  @Test
+  public void shouldShareTestListsBetweenMutationsWithSameCoverage() {
+    final Set<TestInfo> tests = new HashSet<>(Arrays.asList(
+        aTest("a", 10), aTest("b", 1)));
+    when(this.coverage.getTestsForInstructionLocation(any(InstructionLocation.class))).thenReturn(
+        tests);
+
+    final List<TestInfo> first = this.testee.assignTests(makeMutation("foo"));
+    final List<TestInfo> second = this.testee.assignTests(makeMutation("bar"));
+
+    assertSame(first, second);
+    assertEquals(Arrays.asList(1, 10), FCollection.map(second, toTime()));
+  }
+
+  @Test
+  public void shouldNotShareTestListsBetweenClasses() {
+    final Set<TestInfo> tests = new HashSet<>(Arrays.asList(
+        aTest("a", 10), aTest("b", 1)));
+    when(this.coverage.getTestsForInstructionLocation(any(InstructionLocation.class))).thenReturn(
+        tests);
+
+    final List<TestInfo> first = this.testee.assignTests(makeMutation("foo"));
+    final MutationDetails inOtherClass = new MutationDetails(
+        new MutationIdentifier(aLocation().withClass(ClassName.fromString("bar"))
+            .withMethod("foo").build(), 0, "mutator"), "file", "desc", 1, 2);
+    final List<TestInfo> second = this.testee.assignTests(inOtherClass);
+
+    assertNotSame(first, second);
+  }
+
+  private TestInfo aTest(final String name, final int time) {
+    return new TestInfo("foo", name, time, Optional.<ClassName> empty(), 0);
+  }
+
   private Function<TestInfo, Integer> toTime() {
     return a -> a.getTime();
   }
@@ -39,6 +39,17 @@ public class KnownStatusMutationTestUnitTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  public void shouldKeepSuppliedResultsWhenNotRun() {
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.KILLED, "foo"));
+    final List<MutationResult> mutations = Arrays.asList(mr);
+    this.testee = new KnownStatusMutationTestUnit(mutations);
+
+    assertThat(this.testee.notRun()).isEqualTo(new MutationMetaData(mutations));
+  }
+
   @Test
   public void shouldHaveHighPriorityToAnalyse() {
     this.testee = new KnownStatusMutationTestUnit(
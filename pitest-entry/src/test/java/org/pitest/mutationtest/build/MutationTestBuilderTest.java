@@ -8,8 +8,11 @@ import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -80,6 +83,25 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldOrderUnitsBySuppliedOrderWhenGiven() {
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    when(this.source.createMutations(foo)).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    when(this.source.createMutations(bar)).thenReturn(
+        Arrays.asList(createDetails("bar"), createDetails("bar")));
+    final Comparator<Collection<MutationDetails>> smallestFirst = Comparator
+        .comparingInt(Collection::size);
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), Optional.of(smallestFirst));
+
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(bar, foo));
+
+    assertTrue(actual.get(0).priority() < actual.get(1).priority());
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
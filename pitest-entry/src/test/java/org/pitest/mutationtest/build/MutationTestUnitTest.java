@@ -4,14 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -56,7 +60,7 @@ public class MutationTestUnitTest {
     this.tests = new ArrayList<>();
     this.testee = new MutationTestUnit(this.mutations, this.tests,
         new WorkerFactory(null, TestPluginArguments.defaults(), this.mutationConfig, EngineArguments.arguments(), this.timeout,
-            false, false, null));
+            false, false, false, null));
 
   }
 
@@ -78,6 +82,41 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldReportCoveredMutationsAsNotRunWhenNotRun() {
+    addMutation();
+    this.mutations.get(0).addTestsInOrder(Collections.singletonList(
+        new TestInfo("foo", "fooTest", 1, Optional.<ClassName> empty(), 1)));
+    final MutationResult expected = new MutationResult(this.mutations.get(0),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.NOT_RUN));
+    assertThat(this.testee.notRun().getMutations()).containsExactly(expected);
+  }
+
+  @Test
+  public void shouldReportUncoveredMutationsAsUncoveredWhenNotRun() {
+    addMutation();
+    final MutationResult expected = new MutationResult(this.mutations.get(0),
+        MutationStatusTestPair.notAnalysed(0, DetectionStatus.NO_COVERAGE));
+    assertThat(this.testee.notRun().getMutations()).containsExactly(expected);
+  }
+
+  @Test
+  public void shouldCountDuplicatesOfSubsumedMutationsAmongMutations() {
+    final MutationDetails subsumed = mutation(1)
+        .withDuplicates(Arrays.asList(mutation(2), mutation(3)));
+    this.mutations.add(mutation(4)
+        .withDuplicates(Collections.singletonList(mutation(5)))
+        .withSubsumed(Collections.singletonList(subsumed)));
+
+    assertThat(this.testee.numberOfMutations()).isEqualTo(5);
+    assertThat(this.testee.notRun().getMutations()).hasSize(5);
+  }
+
+  private static MutationDetails mutation(final int index) {
+    return new MutationDetails(aMutationId().withIndex(index).build(), "file",
+        "desc", 0, 0);
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
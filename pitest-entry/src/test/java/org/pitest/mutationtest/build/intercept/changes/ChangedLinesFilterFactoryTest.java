@@ -0,0 +1,16 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ChangedLinesFilterFactoryTest {
+
+  private final ChangedLinesFilterFactory testee = new ChangedLinesFilterFactory();
+
+  @Test
+  public void shouldBeOffByDefault() {
+    assertThat(this.testee.provides().isOnByDefault()).isFalse();
+  }
+
+}
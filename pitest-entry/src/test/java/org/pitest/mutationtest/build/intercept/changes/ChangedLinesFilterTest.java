@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class ChangedLinesFilterTest {
+
+  private Mutater unused;
+
+  @Test
+  public void shouldDeclareTypeAsFilter() throws IOException {
+    assertThat(makeTestee().type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldKeepOnlyMutationsOnChangedLines() throws IOException {
+    final MutationDetails changed = mutationOnLine(4);
+    final MutationDetails unchanged = mutationOnLine(5);
+
+    final Collection<MutationDetails> actual = makeTestee()
+        .intercept(Arrays.asList(changed, unchanged), this.unused);
+
+    assertThat(actual).containsExactly(changed);
+  }
+
+  private static ChangedLinesFilter makeTestee() throws IOException {
+    return new ChangedLinesFilter(ChangedLines.fromUnifiedDiff(new StringReader(
+        "--- a/com/example/Foo.java\n"
+      + "+++ b/com/example/Foo.java\n"
+      + "@@ -4 +4 @@\n"
+      + "-old\n"
+      + "+new\n")));
+  }
+
+  private static MutationDetails mutationOnLine(int line) {
+    return aMutationDetail()
+        .withId(aMutationId().withLocation(aLocation("com.example.Foo")))
+        .withFilename("Foo.java")
+        .withLineNumber(line)
+        .build();
+  }
+
+}
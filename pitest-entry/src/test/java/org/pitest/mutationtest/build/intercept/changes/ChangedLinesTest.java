@@ -0,0 +1,109 @@
+package org.pitest.mutationtest.build.intercept.changes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class ChangedLinesTest {
+
+  private static final ClassName FOO = ClassName.fromString("com.example.Foo");
+
+  @Test
+  public void shouldRecordAddedLinesFromZeroContextDiff() throws IOException {
+    final ChangedLines testee = parse(
+        "diff --git a/src/main/java/com/example/Foo.java b/src/main/java/com/example/Foo.java",
+        "--- a/src/main/java/com/example/Foo.java",
+        "+++ b/src/main/java/com/example/Foo.java",
+        "@@ -10,0 +11,2 @@ class Foo {",
+        "+  int a;",
+        "+  int b;");
+
+    assertThat(testee.isChanged(FOO, "Foo.java", 10)).isFalse();
+    assertThat(testee.isChanged(FOO, "Foo.java", 11)).isTrue();
+    assertThat(testee.isChanged(FOO, "Foo.java", 12)).isTrue();
+    assertThat(testee.isChanged(FOO, "Foo.java", 13)).isFalse();
+  }
+
+  @Test
+  public void shouldNotTreatContextLinesAsChanged() throws IOException {
+    final ChangedLines testee = parse(
+        "--- a/com/example/Foo.java",
+        "+++ b/com/example/Foo.java",
+        "@@ -1,4 +1,4 @@",
+        " line 1",
+        "-line 2",
+        "+new line 2",
+        " line 3",
+        " line 4");
+
+    assertThat(testee.isChanged(FOO, "Foo.java", 1)).isFalse();
+    assertThat(testee.isChanged(FOO, "Foo.java", 2)).isTrue();
+    assertThat(testee.isChanged(FOO, "Foo.java", 3)).isFalse();
+  }
+
+  @Test
+  public void shouldHandleSeveralHunksAndFiles() throws IOException {
+    final ChangedLines testee = parse(
+        "--- a/com/example/Foo.java",
+        "+++ b/com/example/Foo.java",
+        "@@ -3 +3 @@",
+        "-old",
+        "+new",
+        "@@ -20,2 +20 @@",
+        "-old",
+        "-old",
+        "+new",
+        "--- a/com/example/Bar.java",
+        "+++ b/com/example/Bar.java",
+        "@@ -5,0 +6 @@",
+        "+++ looks like a header but is an added line");
+
+    assertThat(testee.isChanged(FOO, "Foo.java", 3)).isTrue();
+    assertThat(testee.isChanged(FOO, "Foo.java", 20)).isTrue();
+    assertThat(testee.isChanged(ClassName.fromString("com.example.Bar"), "Bar.java", 6)).isTrue();
+  }
+
+  @Test
+  public void shouldIgnoreDeletedFiles() throws IOException {
+    final ChangedLines testee = parse(
+        "--- a/com/example/Foo.java",
+        "+++ /dev/null",
+        "@@ -1 +0,0 @@",
+        "-gone");
+
+    assertThat(testee.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldNotMatchFilesOfSameNameInOtherPackages() throws IOException {
+    final ChangedLines testee = parse(
+        "--- a/src/com/other/Foo.java",
+        "+++ b/src/com/other/Foo.java",
+        "@@ -1 +1 @@",
+        "-old",
+        "+new");
+
+    assertThat(testee.isChanged(FOO, "Foo.java", 1)).isFalse();
+    assertThat(testee.isChanged(ClassName.fromString("com.other.Foo"), "Foo.java", 1)).isTrue();
+  }
+
+  @Test
+  public void shouldTreatEveryLineOfNewFilesAsChanged() throws IOException {
+    final ChangedLines testee = parse("");
+    testee.addNewFile("src/main/java/com/example/Foo.java");
+
+    assertThat(testee.isEmpty()).isFalse();
+    assertThat(testee.isChanged(FOO, "Foo.java", 1)).isTrue();
+    assertThat(testee.isChanged(FOO, "Foo.java", 1000)).isTrue();
+    assertThat(testee.isChanged(ClassName.fromString("com.other.Foo"), "Foo.java", 1)).isFalse();
+  }
+
+  private static ChangedLines parse(String... lines) throws IOException {
+    return ChangedLines.fromUnifiedDiff(new StringReader(String.join("\n", lines)));
+  }
+
+}
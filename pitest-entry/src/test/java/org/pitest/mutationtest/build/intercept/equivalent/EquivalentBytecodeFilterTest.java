@@ -0,0 +1,164 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class EquivalentBytecodeFilterTest {
+
+  private final ClassByteArraySource     source   = ClassloaderByteArraySource
+      .fromContext();
+  private final EquivalentBytecodeFilter testee   = new EquivalentBytecodeFilter();
+  private final Mutater                  mutater  = mock(Mutater.class);
+  private final Location                 location = Location.location(
+      ClassName.fromClass(HasABranch.class), MethodName.fromString("foo"),
+      "(I)I");
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldFilterMutantsIdenticalToUnmutatedMethod() {
+    final MutationDetails equivalent = mutant(1, 0, original());
+
+    assertThat(intercept(equivalent)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotFilterMutantsThatChangeMethod() {
+    final MutationDetails changed = mutant(1, 0, withFirstConstant(Opcodes.ICONST_3));
+
+    assertThat(intercept(changed)).containsExactly(changed);
+  }
+
+  @Test
+  public void shouldAttachIdenticalMutantsInSameBlockToFirst() {
+    final byte[] bytes = withFirstConstant(Opcodes.ICONST_3);
+    final MutationDetails first = mutant(1, 0, bytes);
+    final MutationDetails second = mutant(2, 0, bytes);
+    final MutationDetails third = mutant(3, 0, bytes);
+
+    final Collection<MutationDetails> actual = intercept(first, second, third);
+
+    assertThat(actual).containsExactly(first);
+    assertThat(actual.iterator().next().getDuplicates())
+        .containsExactly(second, third);
+  }
+
+  @Test
+  public void shouldNotCombineIdenticalMutantsInDifferentBlocks() {
+    final byte[] bytes = withFirstConstant(Opcodes.ICONST_3);
+    final MutationDetails first = mutant(1, 0, bytes);
+    final MutationDetails second = mutant(2, 1, bytes);
+
+    final Collection<MutationDetails> actual = intercept(first, second);
+
+    assertThat(actual).containsExactly(first, second);
+    assertThat(actual).allMatch(m -> m.getDuplicates().isEmpty());
+  }
+
+  @Test
+  public void shouldNotCombineDifferentMutants() {
+    final MutationDetails first = mutant(1, 0,
+        withFirstConstant(Opcodes.ICONST_3));
+    final MutationDetails second = mutant(2, 0,
+        withFirstConstant(Opcodes.ICONST_4));
+
+    assertThat(intercept(first, second)).containsExactly(first, second);
+  }
+
+  @Test
+  public void shouldLeaveGenuineMutantsFromEngine() {
+    final GregorMutater engine = new GregorMutater(this.source, m -> true,
+        Mutator.byName("NEGATE_CONDITIONALS"));
+    final List<MutationDetails> mutations = engine
+        .findMutations(ClassName.fromClass(HasABranch.class));
+
+    this.testee.begin(forClass(HasABranch.class));
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations,
+        engine);
+    this.testee.end();
+
+    assertThat(actual).hasSameSizeAs(mutations).isNotEmpty();
+  }
+
+  private Collection<MutationDetails> intercept(
+      final MutationDetails... mutations) {
+    this.testee.begin(forClass(HasABranch.class));
+    final Collection<MutationDetails> actual = this.testee
+        .intercept(Arrays.asList(mutations), this.mutater);
+    this.testee.end();
+    return actual;
+  }
+
+  private MutationDetails mutant(final int index, final int block,
+      final byte[] bytes) {
+    final MutationIdentifier id = new MutationIdentifier(this.location, index,
+        "mutator");
+    final MutationDetails details = new MutationDetails(id, "", "", 1, block);
+    when(this.mutater.getMutation(id)).thenReturn(new Mutant(details, bytes));
+    return details;
+  }
+
+  private byte[] original() {
+    return this.source.getBytes(HasABranch.class.getName()).get();
+  }
+
+  private byte[] withFirstConstant(final int opcode) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(original()).accept(node, 0);
+    final MethodNode foo = node.methods.stream()
+        .filter(m -> m.name.equals("foo")).findFirst().get();
+    for (final AbstractInsnNode each : foo.instructions) {
+      if (each.getOpcode() == Opcodes.ICONST_1) {
+        foo.instructions.set(each, new InsnNode(opcode));
+        break;
+      }
+    }
+    final ClassWriter writer = new ClassWriter(0);
+    node.accept(writer);
+    return writer.toByteArray();
+  }
+
+  private ClassTree forClass(final Class<?> clazz) {
+    return ClassTree.fromBytes(this.source.getBytes(clazz.getName()).get());
+  }
+
+}
+
+class HasABranch {
+  int foo(int a) {
+    if (a > 0) {
+      return 1;
+    }
+    return 2;
+  }
+}
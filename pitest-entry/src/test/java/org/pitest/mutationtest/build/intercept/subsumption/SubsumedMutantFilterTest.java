@@ -0,0 +1,105 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class SubsumedMutantFilterTest {
+
+  private final ClassByteArraySource source = ClassloaderByteArraySource
+      .fromContext();
+  private final SubsumedMutantFilter testee = new SubsumedMutantFilter();
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldRunOnlyDominatingMutantsOfConditionalJump() {
+    final Collection<MutationDetails> actual = intercept(HasAComparison.class,
+        "NEGATE_CONDITIONALS", "CONDITIONALS_BOUNDARY",
+        "REMOVE_CONDITIONALS_ORD_IF", "REMOVE_CONDITIONALS_ORD_ELSE");
+
+    assertThat(actual).extracting(MutationDetails::getMutator)
+        .containsExactlyInAnyOrder(mutatorClass("ConditionalsBoundaryMutator"),
+            mutatorClass("RemoveConditionalMutator_ORDER_ELSE"));
+  }
+
+  @Test
+  public void shouldAttachSubsumedMutantsToMutantThatSubsumesThem() {
+    final Collection<MutationDetails> actual = intercept(HasAComparison.class,
+        "NEGATE_CONDITIONALS", "CONDITIONALS_BOUNDARY",
+        "REMOVE_CONDITIONALS_ORD_IF", "REMOVE_CONDITIONALS_ORD_ELSE");
+
+    final MutationDetails boundary = actual.stream()
+        .filter(m -> m.getMutator()
+            .equals(mutatorClass("ConditionalsBoundaryMutator")))
+        .findFirst().get();
+    assertThat(boundary.getSubsumed())
+        .extracting(MutationDetails::getMutator)
+        .containsExactlyInAnyOrder(mutatorClass("NegateConditionalsMutator"),
+            mutatorClass("RemoveConditionalMutator_ORDER_IF"));
+  }
+
+  @Test
+  public void shouldNotCombineMutantsThatDoNotSubsumeEachOther() {
+    final Collection<MutationDetails> actual = intercept(HasAComparison.class,
+        "REMOVE_CONDITIONALS_ORD_IF", "REMOVE_CONDITIONALS_ORD_ELSE");
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual).allMatch(m -> m.getSubsumed().isEmpty());
+  }
+
+  @Test
+  public void shouldLeaveMutantsOfOtherInstructionsAlone() {
+    final Collection<MutationDetails> actual = intercept(HasAComparison.class,
+        "INCREMENTS", "NEGATE_CONDITIONALS");
+
+    assertThat(actual).hasSize(2);
+    assertThat(actual).allMatch(m -> m.getSubsumed().isEmpty());
+  }
+
+  private Collection<MutationDetails> intercept(final Class<?> clazz,
+      final String... mutators) {
+    final GregorMutater engine = new GregorMutater(this.source, m -> true,
+        Mutator.fromStrings(Arrays.asList(mutators)));
+    final List<MutationDetails> mutations = engine
+        .findMutations(ClassName.fromClass(clazz));
+
+    this.testee.begin(
+        ClassTree.fromBytes(this.source.getBytes(clazz.getName()).get()));
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations,
+        engine);
+    this.testee.end();
+    return actual;
+  }
+
+  private static String mutatorClass(final String name) {
+    return "org.pitest.mutationtest.engine.gregor.mutators." + name;
+  }
+
+}
+
+class HasAComparison {
+  int foo(int a) {
+    int b = a;
+    b++;
+    if (b > 0) {
+      return 1;
+    }
+    return 2;
+  }
+}
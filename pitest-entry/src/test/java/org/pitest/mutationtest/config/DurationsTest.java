@@ -0,0 +1,33 @@
+package org.pitest.mutationtest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.help.PitHelpError;
+
+public class DurationsTest {
+
+  @Test
+  public void shouldTreatNumbersWithoutUnitsAsMinutes() {
+    assertThat(Durations.toMillis("15")).isEqualTo(15 * 60 * 1000);
+  }
+
+  @Test
+  public void shouldParseEachUnit() {
+    assertThat(Durations.toMillis("250ms")).isEqualTo(250);
+    assertThat(Durations.toMillis("90s")).isEqualTo(90 * 1000);
+    assertThat(Durations.toMillis("15m")).isEqualTo(15 * 60 * 1000);
+    assertThat(Durations.toMillis("2H")).isEqualTo(2 * 60 * 60 * 1000);
+  }
+
+  @Test
+  public void shouldTreatZeroAsZero() {
+    assertThat(Durations.toMillis("0")).isEqualTo(0);
+  }
+
+  @Test(expected = PitHelpError.class)
+  public void shouldRejectUnknownUnits() {
+    Durations.toMillis("15 fortnights");
+  }
+
+}
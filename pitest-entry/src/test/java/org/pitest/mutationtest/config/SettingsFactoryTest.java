@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import java.io.File;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Properties;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -17,7 +18,9 @@ import org.junit.Test;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.HistoricTestPrioritiserFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.PitError;
@@ -71,6 +74,21 @@ public class SettingsFactoryTest {
     this.testee.createListener();
   }
 
+  @Test
+  public void shouldUseDefaultTestPrioritiserByDefault() {
+    assertTrue(this.testee
+        .getTestPrioritiser() instanceof DefaultTestPrioritiserFactory);
+  }
+
+  @Test
+  public void shouldUseHistoricTestPrioritiserWhenEnabled() {
+    final Properties props = new Properties();
+    props.setProperty(HistoricTestPrioritiserFactory.ENABLE_PROPERTY, "true");
+    this.options.setFreeFormProperties(props);
+    assertTrue(this.testee
+        .getTestPrioritiser() instanceof HistoricTestPrioritiserFactory);
+  }
+
   @Test
   public void shouldReturnADefaultJavaExecutableWhenNoneIsSpecified() {
     this.options.setJavaExecutable(null);
@@ -0,0 +1,156 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class AsyncMutationResultListenerTest {
+
+  @Test
+  public void shouldDeliverResultsInOrderBetweenRunStartAndRunEnd() {
+    final MutationResultListener child = mock(MutationResultListener.class);
+    final AsyncMutationResultListener testee = new AsyncMutationResultListener(
+        child, 1, 1);
+    final ClassMutationResults first = aResult(DetectionStatus.KILLED);
+    final ClassMutationResults second = aResult(DetectionStatus.SURVIVED);
+
+    testee.runStart();
+    testee.handleMutationResult(first);
+    testee.handleMutationResult(second);
+    testee.runEnd();
+
+    final InOrder order = inOrder(child);
+    order.verify(child).runStart();
+    order.verify(child).handleMutationResult(first);
+    order.verify(child).handleMutationResult(second);
+    order.verify(child).runEnd();
+  }
+
+  @Test
+  public void shouldDeliverAllResultsWhenConsumingInParallel() {
+    final AtomicInteger received = new AtomicInteger();
+    final AsyncMutationResultListener testee = new AsyncMutationResultListener(
+        counting(received), 2, 4);
+
+    testee.runStart();
+    for (int i = 0; i != 50; i++) {
+      testee.handleMutationResult(aResult(DetectionStatus.KILLED));
+    }
+    testee.runEnd();
+
+    assertThat(received.get()).isEqualTo(50);
+  }
+
+  @Test
+  public void shouldRethrowErrorsFromListenerWhenRunEnds() {
+    final MutationResultListener child = mock(MutationResultListener.class);
+    final RuntimeException failure = new RuntimeException("boom");
+    doThrow(failure).when(child)
+        .handleMutationResult(any(ClassMutationResults.class));
+    final AsyncMutationResultListener testee = new AsyncMutationResultListener(
+        child, 1, 1);
+
+    testee.runStart();
+    // more results than the queue can hold must not block after a failure
+    for (int i = 0; i != 10; i++) {
+      testee.handleMutationResult(aResult(DetectionStatus.KILLED));
+    }
+
+    final List<Throwable> thrown = new ArrayList<>();
+    try {
+      testee.runEnd();
+    } catch (final RuntimeException ex) {
+      thrown.add(ex);
+    }
+    assertThat(thrown).containsExactly(failure);
+  }
+
+  @Test(timeout = 10000)
+  public void shouldFailRatherThanBlockWhenConsumerIsInterrupted() {
+    final AtomicInteger received = new AtomicInteger();
+    final AsyncMutationResultListener testee = new AsyncMutationResultListener(
+        interrupting(received), 1, 1);
+
+    testee.runStart();
+    final List<Throwable> thrown = new ArrayList<>();
+    try {
+      for (int i = 0; i != 10; i++) {
+        testee.handleMutationResult(aResult(DetectionStatus.KILLED));
+      }
+      testee.runEnd();
+    } catch (final RuntimeException ex) {
+      thrown.add(ex);
+    }
+    assertThat(thrown).hasSize(1);
+    assertThat(received.get()).isEqualTo(1);
+  }
+
+  private static MutationResultListener interrupting(
+      final AtomicInteger count) {
+    return new MutationResultListener() {
+      @Override
+      public void runStart() {
+      }
+
+      @Override
+      public void handleMutationResult(final ClassMutationResults results) {
+        count.incrementAndGet();
+        Thread.currentThread().interrupt();
+      }
+
+      @Override
+      public void runEnd() {
+      }
+
+      @Override
+      public boolean isThreadSafe() {
+        return true;
+      }
+    };
+  }
+
+  private static MutationResultListener counting(final AtomicInteger count) {
+    return new MutationResultListener() {
+      @Override
+      public void runStart() {
+      }
+
+      @Override
+      public void handleMutationResult(final ClassMutationResults results) {
+        count.incrementAndGet();
+      }
+
+      @Override
+      public void runEnd() {
+      }
+
+      @Override
+      public boolean isThreadSafe() {
+        return true;
+      }
+    };
+  }
+
+  private static ClassMutationResults aResult(final DetectionStatus status) {
+    return new ClassMutationResults(Collections.singletonList(
+        new MutationResult(MutationTestResultMother.createDetails(),
+            MutationStatusTestPair.notAnalysed(1, status))));
+  }
+
+}
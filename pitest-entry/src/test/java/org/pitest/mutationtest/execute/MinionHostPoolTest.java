@@ -0,0 +1,61 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.execute.MinionHost.Minion;
+import org.pitest.process.ProcessArgs;
+
+public class MinionHostPoolTest {
+
+  private final MinionHost  first  = mock(MinionHost.class);
+  private final MinionHost  second = mock(MinionHost.class);
+  private final Minion      minion = mock(Minion.class);
+  private final ProcessArgs args   = ProcessArgs.withClassPath("");
+
+  private MinionHostPool    testee;
+
+  @Before
+  public void setUp() throws IOException {
+    when(this.first.launch(anyInt(), any(ProcessArgs.class)))
+        .thenReturn(this.minion);
+    when(this.second.launch(anyInt(), any(ProcessArgs.class)))
+        .thenReturn(this.minion);
+    this.testee = new MinionHostPool(Arrays.asList(this.first, this.second));
+  }
+
+  @Test
+  public void shouldLaunchOnLeastBusyHost() throws IOException {
+    this.testee.launch(1, this.args);
+    this.testee.launch(2, this.args);
+    verify(this.first).launch(1, this.args);
+    verify(this.second).launch(2, this.args);
+  }
+
+  @Test
+  public void shouldReuseHostOnceItsMinionIsDestroyed() throws IOException {
+    this.testee.launch(1, this.args).destroy();
+    this.testee.launch(2, this.args);
+    verify(this.first).launch(2, this.args);
+    verify(this.minion).destroy();
+  }
+
+  @Test
+  public void shouldReleaseHostWhenLaunchFails() throws IOException {
+    when(this.first.launch(1, this.args)).thenThrow(new IOException());
+    assertThatThrownBy(() -> this.testee.launch(1, this.args))
+        .isInstanceOf(IOException.class);
+    this.testee.launch(2, this.args);
+    verify(this.first).launch(2, this.args);
+  }
+
+}
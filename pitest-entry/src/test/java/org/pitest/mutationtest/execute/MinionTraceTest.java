@@ -0,0 +1,57 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Tracer;
+import org.pitest.util.Tracer.TraceEvent;
+
+public class MinionTraceTest {
+
+  private final Tracer      tracer = Tracer.enabled();
+  private final MinionTrace testee = new MinionTrace(this.tracer);
+
+  @Test
+  public void shouldRecordEachStageOfMinionLifecycle() {
+    final MutationIdentifier id = aMutation();
+    this.testee.launching();
+    this.testee.launched();
+    this.testee.mutantStarted(id);
+    this.testee.mutantReported(id,
+        new MutationStatusTestPair(2, DetectionStatus.KILLED, "aTest"));
+    this.testee.exited(ExitCode.OK);
+
+    assertThat(this.tracer.events()).extracting(TraceEvent::getName)
+        .containsExactly("launch", "handshake", "Foo.bar", "exit", "minion");
+  }
+
+  @Test
+  public void shouldDescribeMutantsInTrace() {
+    final MutationIdentifier id = aMutation();
+    this.testee.launching();
+    this.testee.launched();
+    this.testee.mutantStarted(id);
+    this.testee.mutantReported(id,
+        new MutationStatusTestPair(2, DetectionStatus.SURVIVED, null));
+
+    final TraceEvent mutant = this.tracer.events().stream()
+        .filter(e -> e.getCategory().equals(Tracer.MUTANT)).findFirst().get();
+    assertThat(mutant.getArgs()).containsEntry("class", "com.example.Foo")
+        .containsEntry("method", "bar").containsEntry("status", "SURVIVED")
+        .containsEntry("tests", "2");
+  }
+
+  private static MutationIdentifier aMutation() {
+    return new MutationIdentifier(Location.location(
+        ClassName.fromString("com.example.Foo"), MethodName.fromString("bar"),
+        "()V"), 1, "aMutator");
+  }
+
+}
@@ -0,0 +1,86 @@
+package org.pitest.mutationtest.execute.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.jar.JarInputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.execute.remote.ClassPathArchive.Element;
+
+public class ClassPathArchiveTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldArchiveDirectoriesAsJars() throws IOException {
+    final File dir = this.folder.newFolder();
+    write(dir, "com/example/Foo.class", "foo");
+
+    final Element actual = new ClassPathArchive().elementsOf(dir.getPath())
+        .get(0);
+
+    try (JarInputStream jar = new JarInputStream(
+        new ByteArrayInputStream(actual.bytes()))) {
+      assertThat(jar.getNextJarEntry().getName())
+          .isEqualTo("com/example/Foo.class");
+    }
+  }
+
+  @Test
+  public void shouldGiveIdenticalContentTheSameHash() throws IOException {
+    final File a = this.folder.newFolder();
+    final File b = this.folder.newFolder();
+    write(a, "Foo.class", "foo");
+    write(b, "Foo.class", "foo");
+
+    final List<Element> actual = new ClassPathArchive()
+        .elementsOf(a.getPath() + File.pathSeparator + b.getPath());
+
+    assertThat(actual.get(0).getHash()).isEqualTo(actual.get(1).getHash());
+  }
+
+  @Test
+  public void shouldGiveDifferentContentDifferentHashes() throws IOException {
+    final File a = this.folder.newFolder();
+    final File b = this.folder.newFolder();
+    write(a, "Foo.class", "foo");
+    write(b, "Foo.class", "bar");
+
+    final List<Element> actual = new ClassPathArchive()
+        .elementsOf(a.getPath() + File.pathSeparator + b.getPath());
+
+    assertThat(actual.get(0).getHash()).isNotEqualTo(actual.get(1).getHash());
+  }
+
+  @Test
+  public void shouldSendJarsUnchanged() throws IOException {
+    final File jar = this.folder.newFile("lib.jar");
+    Files.write(jar.toPath(), new byte[] { 1, 2, 3 });
+
+    final Element actual = new ClassPathArchive().elementsOf(jar.getPath())
+        .get(0);
+
+    assertThat(actual.bytes()).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  public void shouldIgnoreMissingElements() {
+    assertThat(new ClassPathArchive().elementsOf("doesNotExist")).isEmpty();
+  }
+
+  private static void write(final File dir, final String name,
+      final String content) throws IOException {
+    final File file = new File(dir, name);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(), content.getBytes("UTF-8"));
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.execute.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MinionAgentTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File           cache;
+  private MinionAgent    testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.cache = this.folder.newFolder();
+    this.testee = new MinionAgent(new ServerSocket(0, 50,
+        InetAddress.getLoopbackAddress()), "secret", this.cache.toPath(),
+        new JarCreatingJarFinder());
+    this.testee.start();
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldRequireAToken() {
+    assertThatThrownBy(() -> new MinionAgent(null, "", this.cache.toPath(),
+        new JarCreatingJarFinder()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void shouldRejectRequestsWithWrongToken() {
+    final RemoteMinionHost host = new RemoteMinionHost(
+        InetAddress.getLoopbackAddress().getHostAddress(),
+        this.testee.getPort(), "wrong", new ClassPathArchive());
+    assertThatThrownBy(() -> host.launch(0,
+        ProcessArgs.withClassPath(this.cache.getAbsolutePath())))
+        .isInstanceOf(PitError.class).hasMessageContaining("token");
+  }
+
+  @Test
+  public void shouldRejectHashesThatAreNotDigests() throws IOException {
+    try (Socket s = new Socket(InetAddress.getLoopbackAddress(),
+        this.testee.getPort())) {
+      final SafeDataOutputStream out = new SafeDataOutputStream(
+          new BufferedOutputStream(s.getOutputStream()));
+      final SafeDataInputStream in = new SafeDataInputStream(
+          s.getInputStream());
+      out.writeString("secret");
+      out.flush();
+      assertThat(in.readBoolean()).isTrue();
+
+      out.writeInt(0);
+      out.writeInt(0);
+      out.writeInt(0);
+      out.writeInt(1);
+      out.writeString("../../escaped");
+      out.flush();
+
+      assertThat(endOfStream(s.getInputStream())).isTrue();
+    }
+    assertThat(this.cache.getParentFile().list())
+        .doesNotContain("escaped.jar");
+    assertThat(this.cache.list()).isEqualTo(new String[0]);
+  }
+
+  private static boolean endOfStream(final InputStream in) throws IOException {
+    return in.read() == -1;
+  }
+
+}
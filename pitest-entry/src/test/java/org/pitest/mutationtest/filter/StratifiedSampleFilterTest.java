@@ -0,0 +1,152 @@
+package org.pitest.mutationtest.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.CompoundMutationInterceptor;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.intercept.equivalent.EquivalentBytecodeFilter;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class StratifiedSampleFilterTest {
+
+  private Mutater unused;
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(new StratifiedSampleFilter(10, 0).type())
+        .isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldSelectAllMutantsWhenRateIsOneHundred() {
+    final List<MutationDetails> mutations = make("foo", "mutator", 10);
+    assertThat(new StratifiedSampleFilter(100, 0).intercept(mutations,
+        this.unused)).containsExactlyElementsOf(mutations);
+  }
+
+  @Test
+  public void shouldSelectRequestedProportionOfEachStratum() {
+    final List<MutationDetails> mutations = make("foo", "mutator", 20);
+    mutations.addAll(make("bar", "mutator", 20));
+    mutations.addAll(make("foo", "other", 20));
+
+    final Collection<MutationDetails> actual = new StratifiedSampleFilter(25,
+        0).intercept(mutations, this.unused);
+
+    assertThat(actual).hasSize(15);
+    assertThat(actual).filteredOn(m -> m.getMethod().name().equals("bar"))
+        .hasSize(5);
+    assertThat(actual).filteredOn(m -> m.getMutator().equals("other"))
+        .hasSize(5);
+  }
+
+  @Test
+  public void shouldDrawSameSampleForSameSeedWhateverTheOrder() {
+    final List<MutationDetails> mutations = make("foo", "mutator", 50);
+    final List<MutationDetails> reversed = new ArrayList<>(mutations);
+    Collections.reverse(reversed);
+
+    final Collection<MutationDetails> first = new StratifiedSampleFilter(30,
+        1).intercept(mutations, this.unused);
+    final Collection<MutationDetails> second = new StratifiedSampleFilter(30,
+        1).intercept(reversed, this.unused);
+
+    assertThat(first).containsOnlyElementsOf(second).hasSameSizeAs(second);
+  }
+
+  @Test
+  public void shouldDrawDifferentSamplesForDifferentSeeds() {
+    final List<MutationDetails> mutations = make("foo", "mutator", 50);
+
+    final Collection<MutationDetails> first = new StratifiedSampleFilter(30,
+        1).intercept(mutations, this.unused);
+    final Collection<MutationDetails> second = new StratifiedSampleFilter(30,
+        2).intercept(mutations, this.unused);
+
+    assertThat(first).isNotEqualTo(second);
+  }
+
+  @Test
+  public void shouldSampleSmallStrataInProportionOverManyClasses() {
+    final StratifiedSampleFilter testee = new StratifiedSampleFilter(10, 0);
+    for (int i = 0; i != 1000; i++) {
+      testee.intercept(make("method" + i, "mutator", 1), this.unused);
+    }
+    assertThat(testee.getPopulation()).isEqualTo(1000);
+    assertThat(testee.getSampleSize()).isBetween(60L, 140L);
+  }
+
+  @Test
+  public void shouldCountDuplicatesOfSampledMutants() {
+    final List<MutationDetails> mutations = make("foo", "mutator", 2);
+    mutations.set(0, mutations.get(0)
+        .withDuplicates(make("foo", "duplicate", 3)));
+
+    final StratifiedSampleFilter testee = new StratifiedSampleFilter(100, 0);
+    testee.intercept(mutations, this.unused);
+
+    assertThat(testee.getPopulation()).isEqualTo(5);
+    assertThat(testee.getSampleSize()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldCountMutantsRemovedAsDuplicatesWhenCombinedWithEquivalenceFilter() {
+    final ClassByteArraySource source = ClassloaderByteArraySource
+        .fromContext();
+    final GregorMutater engine = new GregorMutater(source, m -> true,
+        Mutator.fromStrings(Arrays.asList("NEGATE_CONDITIONALS", "ROR")));
+    final List<MutationDetails> mutations = engine
+        .findMutations(ClassName.fromClass(ComparesToZero.class));
+    final StratifiedSampleFilter sample = new StratifiedSampleFilter(100, 0);
+    final MutationInterceptor testee = new CompoundMutationInterceptor(
+        Arrays.asList(new EquivalentBytecodeFilter(), sample));
+
+    testee.begin(ClassTree.fromBytes(
+        source.getBytes(ComparesToZero.class.getName()).get()));
+    final Collection<MutationDetails> actual = testee.intercept(mutations,
+        engine);
+    testee.end();
+
+    assertThat(actual.size()).isLessThan(mutations.size());
+    assertThat(sample.getPopulation()).isEqualTo(mutations.size());
+    assertThat(sample.getSampleSize()).isEqualTo(mutations.size());
+  }
+
+  private static List<MutationDetails> make(final String method,
+      final String mutator, final int count) {
+    final List<MutationDetails> ms = new ArrayList<>();
+    for (int i = 0; i != count; i++) {
+      ms.add(new MutationDetails(aMutationId()
+          .withLocation(aLocation().withMethod(method)).withMutator(mutator)
+          .withIndex(i).build(), "", "", 0, 0));
+    }
+    return ms;
+  }
+
+}
+
+class ComparesToZero {
+  int foo(int a) {
+    if (a > 0) {
+      return 1;
+    }
+    return 2;
+  }
+}
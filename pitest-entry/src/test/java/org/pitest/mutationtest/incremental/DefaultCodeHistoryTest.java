@@ -6,6 +6,8 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.math.BigInteger;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,10 +21,13 @@ import org.pitest.classinfo.ClassInfoMother;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class DefaultCodeHistoryTest {
@@ -109,6 +114,92 @@ public class DefaultCodeHistoryTest {
     assertFalse(this.testee.hasClassChanged(ClassName.fromString("foo")));
   }
 
+  @Test
+  public void shouldTreatMethodsOfUnchangedClassAsUnchanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    final HierarchicalClassId currentId = new HierarchicalClassId(0, foo, "0");
+    setCurrentClassPath(currentId);
+    this.historicClassPath.put(foo, makeHistory(currentId));
+    assertFalse(this.testee.hasMethodChanged(Location.location(foo,
+        MethodName.fromString("bar"), "()V")));
+  }
+
+  @Test
+  public void shouldTreatUnchangedMethodsOfChangedClassAsUnchanged() {
+    final Location method = recordMethodsOfChangedClass("0");
+    assertFalse(withClassBytes().hasMethodChanged(method));
+  }
+
+  @Test
+  public void shouldTreatMethodsWithDifferentHashesAsChanged() {
+    final Location method = recordMethodsOfChangedClass("0");
+    final Location other = Location.location(method.getClassName(),
+        MethodName.fromString("other"), "()I");
+    assertTrue(withClassBytes().hasMethodChanged(other));
+  }
+
+  @Test
+  public void shouldTreatMethodsOfClassesWithModifiedParentAsChanged() {
+    final Location method = recordMethodsOfChangedClass("1");
+    assertTrue(withClassBytes().hasMethodChanged(method));
+  }
+
+  @Test
+  public void shouldTreatMethodsWithoutHistoryAsChanged() {
+    final ClassName foo = ClassName.fromClass(HasMethods.class);
+    setCurrentClassPath(foo, ClassInfoMother.make(new ClassIdentifier(1, foo)));
+    this.historicClassPath.put(foo,
+        makeHistory(new HierarchicalClassId(2, foo, "2")));
+    assertTrue(withClassBytes().hasMethodChanged(Location.location(foo,
+        MethodName.fromString("method"), "()I")));
+  }
+
+  @Test
+  public void shouldTreatMethodsWithSameCoverageIdAsCoverageUnchanged() {
+    final Location method = recordMethodsOfChangedClass("0");
+    assertFalse(this.testee.hasMethodCoverageChanged(method,
+        BigInteger.valueOf(42)));
+  }
+
+  @Test
+  public void shouldTreatMethodsWithDifferentCoverageIdAsCoverageChanged() {
+    final Location method = recordMethodsOfChangedClass("0");
+    assertTrue(this.testee.hasMethodCoverageChanged(method,
+        BigInteger.valueOf(43)));
+  }
+
+  // records the methods of a class that has since changed, with its parent
+  // and outer classes contributing the given amount to its hierarchical hash
+  private Location recordMethodsOfChangedClass(final String contextHash) {
+    final ClassName foo = ClassName.fromClass(HasMethods.class);
+    setCurrentClassPath(foo, ClassInfoMother.make(new ClassIdentifier(1, foo)));
+
+    final Map<Location, String> methodIds = MethodHashes.hash(foo,
+        ClassloaderByteArraySource.fromContext().getBytes(foo.asJavaName())
+            .get());
+    final Location method = Location.location(foo,
+        MethodName.fromString("method"), "()I");
+    methodIds.put(Location.location(foo, MethodName.fromString("other"), "()I"),
+        "not the same");
+    final String hierarchicalHash = BigInteger.valueOf(2)
+        .add(new BigInteger(contextHash, 16)).toString(16);
+    this.historicClassPath.put(foo, new ClassHistory(
+        new HierarchicalClassId(2, foo, hierarchicalHash), "",
+        Collections.emptySet(), methodIds,
+        Collections.singletonMap(method, BigInteger.valueOf(42).toString(16))));
+    return method;
+  }
+
+  private DefaultCodeHistory withClassBytes() {
+    return new DefaultCodeHistory(this.classInfoSource,
+        ClassloaderByteArraySource.fromContext(), this.results,
+        this.historicClassPath);
+  }
+
+  private void setCurrentClassPath(final ClassName name, final ClassInfo info) {
+    when(this.classInfoSource.fetchClass(name)).thenReturn(Optional.of(info));
+  }
+
   private void setCurrentClassPath(final HierarchicalClassId currentId) {
     final ClassInfo currentClass = ClassInfoMother.make(currentId.getId());
     when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
@@ -128,4 +219,14 @@ public class DefaultCodeHistoryTest {
     return makeHistory(ci.getHierarchicalId());
   }
 
+  static class HasMethods {
+    int method() {
+      return 1;
+    }
+
+    int other() {
+      return 2;
+    }
+  }
+
 }
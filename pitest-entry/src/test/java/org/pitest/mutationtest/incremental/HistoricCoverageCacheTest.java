@@ -0,0 +1,129 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.TestClassCoverage;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+
+public class HistoricCoverageCacheTest {
+
+  private static final ClassName FOO = ClassName.fromString("Foo");
+
+  private final ClassInfo fooTest = ClassInfoMother.make("FooTest");
+  private final ClassInfo foo     = ClassInfoMother.make(FOO);
+
+  private final Map<ClassName, ClassHistory> previous = new HashMap<>();
+
+  private HistoricCoverageCache testee;
+
+  @Mock
+  private CodeSource   code;
+
+  @Mock
+  private HistoryStore history;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.history.getHistoricClassPath()).thenReturn(this.previous);
+    when(this.code.fetchClass(any(ClassName.class))).thenReturn(Optional.<ClassInfo>empty());
+    when(this.code.fetchClass(FOO)).thenReturn(Optional.of(this.foo));
+    this.testee = new HistoricCoverageCache(this.code, this.history);
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenNoHistoryExists() {
+    assertThat(this.testee.getResults(this.fooTest)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenNoneRecordedForTestClass() {
+    this.previous.put(this.fooTest.getName(), new ClassHistory(
+        this.fooTest.getHierarchicalId(), "0"));
+    assertThat(this.testee.getResults(this.fooTest)).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenNothingHasChanged() {
+    recordCoverage(this.fooTest, this.foo);
+    final Collection<CoverageResult> actual = this.testee
+        .getResults(this.fooTest).get();
+    assertThat(actual).extracting(CoverageResult::getTestUnitDescription)
+        .containsExactly(new Description("aTest", "FooTest"));
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenTestClassHasChanged() {
+    recordCoverage(this.fooTest, this.foo);
+    final ClassInfo changed = ClassInfoMother
+        .make(new ClassIdentifier(2, this.fooTest.getName()));
+    assertThat(this.testee.getResults(changed)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassHasChanged() {
+    recordCoverage(this.fooTest, this.foo);
+    when(this.code.fetchClass(FOO)).thenReturn(Optional.of(
+        ClassInfoMother.make(new ClassIdentifier(2, FOO))));
+    assertThat(this.testee.getResults(this.fooTest)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassHasBeenRemoved() {
+    recordCoverage(this.fooTest, this.foo);
+    when(this.code.fetchClass(FOO)).thenReturn(Optional.<ClassInfo>empty());
+    assertThat(this.testee.getResults(this.fooTest)).isEmpty();
+  }
+
+  @Test
+  public void shouldLookUpEachCoveredClassOnce() {
+    recordCoverage(this.fooTest, this.foo);
+    final ClassInfo barTest = ClassInfoMother.make("BarTest");
+    recordCoverage(barTest, this.foo);
+
+    this.testee.getResults(this.fooTest);
+    this.testee.getResults(barTest);
+
+    verify(this.code, times(1)).fetchClass(FOO);
+  }
+
+  private void recordCoverage(final ClassInfo test, final ClassInfo covered) {
+    final CoverageResult result = new CoverageResult(
+        new Description("aTest", test.getName().asJavaName()), 1, true,
+        Collections.singletonList(new BlockLocation(Location.location(
+            covered.getName(), MethodName.fromString("foo"), "()V"), 0, 0, 1)));
+    this.previous.put(test.getName(), new ClassHistory(
+        test.getHierarchicalId(), "0", Collections.<ClassName> emptyList(),
+        Collections.<Location, String> emptyMap(),
+        Collections.<Location, String> emptyMap(),
+        new TestClassCoverage(Collections.singletonList(result),
+            Collections.singletonMap(covered.getName(),
+                covered.getHierarchicalId()))));
+  }
+
+}
@@ -0,0 +1,173 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class HistoricTestPrioritiserTest {
+
+  private final ClassName                                       foo     = ClassName
+      .fromString("foo");
+
+  private final TestInfo                                        fast    = aTest(
+      "fast", 1);
+  private final TestInfo                                        slow    = aTest(
+      "slow", 10);
+  private final TestInfo                                        slowest = aTest(
+      "slowest", 100);
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results = new HashMap<>();
+
+  @Mock
+  private CoverageDatabase                                      coverage;
+
+  @Mock
+  private TestPrioritiser                                       child;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getTestsForClass(this.foo)).thenReturn(
+        Arrays.asList(this.fast, this.slow, this.slowest));
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(
+        Arrays.asList(this.fast, this.slow, this.slowest));
+  }
+
+  @Test
+  public void shouldKeepChildOrderWhenTestsHaveNoHistory() {
+    final List<TestInfo> actual = makeTestee()
+        .assignTests(aMutation("bar", "mutator", 1));
+    assertThat(actual).containsExactly(this.fast, this.slow, this.slowest);
+  }
+
+  @Test
+  public void shouldRunTestThatKilledMutantsInSameMethodFirst() {
+    for (int i = 0; i != 5; i++) {
+      killed(aMutation("bar", "mutator", i), "slow");
+    }
+    survived(aMutation("bar", "mutator", 6));
+
+    final List<TestInfo> actual = makeTestee()
+        .assignTests(aMutation("bar", "mutator", 7));
+    assertThat(actual).containsExactly(this.slow, this.fast, this.slowest);
+  }
+
+  @Test
+  public void shouldPreferFrequentKillersForMethodsWithoutHistory() {
+    for (int i = 0; i != 20; i++) {
+      killed(aMutation("method" + i, "mutator", 1), "slow");
+    }
+
+    final List<TestInfo> actual = makeTestee()
+        .assignTests(aMutation("bar", "mutator", 1));
+    assertThat(actual).containsExactly(this.slow, this.fast, this.slowest);
+  }
+
+  @Test
+  public void shouldDistinguishMutatorsWithinMethod() {
+    for (int i = 0; i != 10; i++) {
+      killed(aMutation("bar", "a", i), "slow");
+      killed(aMutation("bar", "b", i), "fast");
+    }
+
+    final HistoricTestPrioritiser testee = makeTestee();
+    assertThat(testee.assignTests(aMutation("bar", "a", 20)))
+        .containsExactly(this.slow, this.fast, this.slowest);
+    assertThat(testee.assignTests(aMutation("bar", "b", 20)))
+        .containsExactly(this.fast, this.slow, this.slowest);
+  }
+
+  @Test
+  public void shouldPreferFasterTestsOfEqualKillProbability() {
+    for (int i = 0; i != 10; i++) {
+      killed(aMutation("bar", "mutator", i), "slowest");
+      killed(aMutation("bar", "mutator", i + 10), "slow");
+    }
+
+    final List<TestInfo> actual = makeTestee()
+        .assignTests(aMutation("bar", "mutator", 30));
+    assertThat(actual).containsExactly(this.slow, this.slowest, this.fast);
+  }
+
+  @Test
+  public void shouldIgnoreMutantsThatWereNotAnalysed() {
+    for (int i = 0; i != 50; i++) {
+      this.results.put(aMutation("bar", "mutator", i).getId(),
+          new MutationStatusTestPair(0, DetectionStatus.NO_COVERAGE,
+              Collections.singletonList("slowest"), Collections.emptyList()));
+    }
+    killed(aMutation("other", "mutator", 1), "fast");
+
+    final List<TestInfo> actual = makeTestee()
+        .assignTests(aMutation("bar", "mutator", 60));
+    assertThat(actual).containsExactly(this.fast, this.slow, this.slowest);
+  }
+
+  @Test
+  public void shouldShareOrderedListsBetweenMutantsWithSameHistory() {
+    killed(aMutation("bar", "mutator", 1), "slow");
+
+    final HistoricTestPrioritiser testee = makeTestee();
+    final List<TestInfo> tests = Arrays.asList(this.fast, this.slow);
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(tests);
+
+    assertThat(testee.assignTests(aMutation("bar", "mutator", 2)))
+        .isSameAs(testee.assignTests(aMutation("bar", "mutator", 3)));
+  }
+
+  @Test
+  public void shouldReportNoKillsWhenHistoryRecordsNone() {
+    survived(aMutation("bar", "mutator", 1));
+    assertThat(new KillHistory(this.results, this.coverage).hasKills())
+        .isFalse();
+  }
+
+  private HistoricTestPrioritiser makeTestee() {
+    return new HistoricTestPrioritiser(this.child,
+        new KillHistory(this.results, this.coverage));
+  }
+
+  private void killed(final MutationDetails mutation, final String test) {
+    this.results.put(mutation.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, test));
+  }
+
+  private void survived(final MutationDetails mutation) {
+    this.results.put(mutation.getId(), new MutationStatusTestPair(3,
+        DetectionStatus.SURVIVED, Collections.emptyList(),
+        Collections.emptyList()));
+  }
+
+  private MutationDetails aMutation(final String method, final String mutator,
+      final int index) {
+    final MutationIdentifier id = new MutationIdentifier(aLocation()
+        .withClass(this.foo).withMethod(method).build(), index, mutator);
+    return new MutationDetails(id, "file", "desc", 1, 2);
+  }
+
+  private static TestInfo aTest(final String name, final int time) {
+    return new TestInfo("foo", name, time, Optional.<ClassName> empty(), 0);
+  }
+
+}
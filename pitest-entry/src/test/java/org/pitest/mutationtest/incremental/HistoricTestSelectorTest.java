@@ -0,0 +1,183 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+
+public class HistoricTestSelectorTest {
+
+  private static final ClassName FOO = ClassName.fromString("Foo");
+  private static final ClassName BAR = ClassName.fromString("Bar");
+
+  private final ClassInfo fooTest = ClassInfoMother.make("FooTest");
+  private final ClassInfo barTest = ClassInfoMother.make("BarTest");
+  private final ClassInfo newTest = ClassInfoMother.make("NewTest");
+
+  private final Map<ClassName, ClassHistory> previous = new HashMap<>();
+
+  private HistoricTestSelector testee;
+
+  @Mock
+  private CodeSource   code;
+
+  @Mock
+  private HistoryStore history;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.history.getHistoricClassPath()).thenReturn(this.previous);
+    when(this.code.fetchClass(any(ClassName.class))).thenReturn(Optional.<ClassInfo>empty());
+    this.testee = new HistoricTestSelector(this.code, this.history);
+  }
+
+  @Test
+  public void shouldSelectAllTestsWhenNoHistoryExists() {
+    targeting(FOO);
+    final List<ClassInfo> tests = Arrays.asList(this.fooTest, this.barTest);
+    assertThat(this.testee.selectTests(tests)).isSameAs(tests);
+  }
+
+  @Test
+  public void shouldSelectAllTestsWhenCoveringTestsNotKnownForATarget() {
+    targeting(FOO, BAR);
+    recordUnchanged(FOO, this.fooTest.getName());
+    final List<ClassInfo> tests = Arrays.asList(this.fooTest, this.barTest);
+    assertThat(this.testee.selectTests(tests)).isSameAs(tests);
+  }
+
+  @Test
+  public void shouldSelectOnlyTestsThatPreviouslyCoveredTargets() {
+    targeting(FOO);
+    recordUnchanged(FOO, this.fooTest.getName());
+    recordUnchanged(BAR, this.barTest.getName());
+    recordUnchanged(this.fooTest);
+    recordUnchanged(this.barTest);
+
+    assertThat(this.testee.selectTests(Arrays.asList(this.fooTest, this.barTest)))
+      .containsExactly(this.fooTest);
+  }
+
+  @Test
+  public void shouldSelectNewTests() {
+    targeting(FOO);
+    recordUnchanged(FOO, this.fooTest.getName());
+    recordUnchanged(this.fooTest);
+
+    assertThat(this.testee.selectTests(Arrays.asList(this.fooTest, this.newTest)))
+      .containsExactly(this.fooTest, this.newTest);
+  }
+
+  @Test
+  public void shouldSelectTestsThatHaveChanged() {
+    targeting(FOO);
+    recordUnchanged(FOO, this.fooTest.getName());
+    recordUnchanged(this.fooTest);
+    this.previous.put(this.barTest.getName(), new ClassHistory(
+        ClassInfoMother.make(new ClassIdentifier(2, this.barTest.getName())).getHierarchicalId(), ""));
+
+    assertThat(this.testee.selectTests(Arrays.asList(this.fooTest, this.barTest)))
+      .containsExactly(this.fooTest, this.barTest);
+  }
+
+  @Test
+  public void shouldSelectTestsThatCoveredChangedCode() {
+    targeting(FOO);
+    recordUnchanged(FOO, this.fooTest.getName());
+    recordUnchanged(this.fooTest);
+    recordUnchanged(this.barTest);
+    // Bar is recorded but no longer matches the current class
+    this.previous.put(BAR, new ClassHistory(
+        ClassInfoMother.make(new ClassIdentifier(2, BAR)).getHierarchicalId(), "",
+        Collections.singleton(this.barTest.getName())));
+
+    assertThat(this.testee.selectTests(Arrays.asList(this.fooTest, this.barTest)))
+      .containsExactly(this.fooTest, this.barTest);
+  }
+
+  @Test
+  public void shouldNotSelectTestsThatCoveredNothingInRecordedRun() {
+    targeting(FOO);
+    final ClassInfo foo = ClassInfoMother.make(FOO);
+    when(this.code.fetchClass(FOO)).thenReturn(Optional.of(foo));
+    final CoverageDatabase coverage = mock(CoverageDatabase.class);
+    when(coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.ONE);
+    when(coverage.getTestsForClass(FOO)).thenReturn(Collections.singletonList(
+        new TestInfo(this.fooTest.getName().asJavaName(), "aTest", 0,
+            Optional.<ClassName> empty(), 0)));
+
+    final StringWriter written = new StringWriter();
+    new ObjectOutputStreamHistoryStore(writingTo(written), Optional.empty())
+        .recordClassPath(Arrays.asList(foo.getHierarchicalId(),
+            this.fooTest.getHierarchicalId(), this.barTest.getHierarchicalId()),
+            coverage);
+    final HistoryStore recorded = new ObjectOutputStreamHistoryStore(
+        writingTo(new StringWriter()),
+        Optional.<Reader> of(new StringReader(written.toString())));
+    recorded.initialize();
+
+    assertThat(new HistoricTestSelector(this.code, recorded).selectTests(
+        Arrays.asList(this.fooTest, this.barTest, this.newTest)))
+      .containsExactly(this.fooTest, this.newTest);
+  }
+
+  private void targeting(ClassName... classes) {
+    when(this.code.getCodeUnderTestNames()).thenReturn(new HashSet<>(Arrays.asList(classes)));
+  }
+
+  private void recordUnchanged(ClassName clazz, ClassName... tests) {
+    final ClassInfo current = ClassInfoMother.make(clazz);
+    when(this.code.fetchClass(clazz)).thenReturn(Optional.of(current));
+    this.previous.put(clazz, new ClassHistory(current.getHierarchicalId(), "",
+        Arrays.asList(tests)));
+  }
+
+  private void recordUnchanged(ClassInfo test) {
+    when(this.code.fetchClass(test.getName())).thenReturn(Optional.of(test));
+    this.previous.put(test.getName(), new ClassHistory(test.getHierarchicalId(), ""));
+  }
+
+  private static WriterFactory writingTo(final Writer writer) {
+    return new WriterFactory() {
+      @Override
+      public PrintWriter create() {
+        return new PrintWriter(writer);
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+}
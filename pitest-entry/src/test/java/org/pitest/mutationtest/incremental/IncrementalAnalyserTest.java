@@ -41,6 +41,7 @@ import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.Log;
@@ -101,6 +102,9 @@ public class IncrementalAnalyserTest {
     when(
         this.history.hasCoverageChanged(any(ClassName.class),
             any(BigInteger.class))).thenReturn(true);
+    when(
+        this.history.hasMethodCoverageChanged(any(Location.class),
+            any(BigInteger.class))).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
 
     assertThat(actual, hasItem(withStatus(NOT_STARTED)));
@@ -133,6 +137,7 @@ public class IncrementalAnalyserTest {
     final MutationDetails md = makeMutation("foo");
     setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
     when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(true);
     final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
 
     assertThat(actual, hasItem(withStatus(NOT_STARTED)));
@@ -158,6 +163,51 @@ public class IncrementalAnalyserTest {
             ));
   }
 
+  @Test
+  public void shouldStartPreviousTimedOutMutationsAtAStatusOfTimedOutWhenOnlyOtherMethodsHaveChanged() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.TIMED_OUT);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(false);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(TIMED_OUT)));
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfSurvivedWhenMethodCoverageHasNotChangedInChangedClass() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(false);
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(true);
+    when(
+        this.history.hasMethodCoverageChanged(any(Location.class),
+            any(BigInteger.class))).thenReturn(false);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(SURVIVED)));
+  }
+
+  @Test
+  public void shouldStartPreviousSurvivedMutationsAtAStatusOfNotStartedWhenMethodCoverageHasChangedInChangedClass() {
+    final MutationDetails md = makeMutation("foo");
+    setHistoryForAllMutationsTo(DetectionStatus.SURVIVED);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(true);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(false);
+    when(
+        this.history.hasCoverageChanged(any(ClassName.class),
+            any(BigInteger.class))).thenReturn(false);
+    when(
+        this.history.hasMethodCoverageChanged(any(Location.class),
+            any(BigInteger.class))).thenReturn(true);
+    final Collection<MutationResult> actual = this.testee.analyse(singletonList(md));
+
+    assertThat(actual, hasItem(withStatus(NOT_STARTED)));
+  }
+
   @Test
   public void shouldStartPreviousKilledMutationsAtAStatusOfKilledWhenNeitherClassOrTestHasChanged() {
     final MutationDetails md = makeMutation("foo");
@@ -0,0 +1,120 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class InformationGainOrderTest {
+
+  @Mock
+  private CodeHistory          history;
+
+  private InformationGainOrder testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.history.hasMethodChanged(any(Location.class))).thenReturn(false);
+    when(this.history.getPreviousResult(any(MutationIdentifier.class)))
+        .thenReturn(Optional.of(MutationStatusTestPair.notAnalysed(0,
+            DetectionStatus.SURVIVED)));
+    this.testee = new InformationGainOrder(this.history);
+  }
+
+  @Test
+  public void shouldRunUnitsWithChangedCodeFirst() {
+    final List<MutationDetails> unchanged = unit(aMutation("unchanged", 1));
+    final List<MutationDetails> changed = unit(aMutation("changed", 100));
+    when(this.history.hasMethodChanged(location("changed"))).thenReturn(true);
+
+    assertThat(sort(unchanged, changed)).containsExactly(changed, unchanged);
+  }
+
+  @Test
+  public void shouldRunUnitsWithoutHistoryBeforeThoseWithHistory() {
+    final List<MutationDetails> known = unit(aMutation("known", 1));
+    final MutationDetails unknownMutation = aMutation("unknown", 100);
+    final List<MutationDetails> unknown = unit(unknownMutation);
+    when(this.history.getPreviousResult(unknownMutation.getId()))
+        .thenReturn(Optional.empty());
+
+    assertThat(sort(known, unknown)).containsExactly(unknown, known);
+  }
+
+  @Test
+  public void shouldTreatMutationsNotRunPreviouslyAsHavingNoHistory() {
+    final List<MutationDetails> known = unit(aMutation("known", 1));
+    final MutationDetails notRunMutation = aMutation("notRun", 100);
+    final List<MutationDetails> notRun = unit(notRunMutation);
+    when(this.history.getPreviousResult(notRunMutation.getId()))
+        .thenReturn(Optional.of(MutationStatusTestPair.notAnalysed(0,
+            DetectionStatus.NOT_RUN)));
+
+    assertThat(sort(known, notRun)).containsExactly(notRun, known);
+  }
+
+  @Test
+  public void shouldRunCheaperUnitsFirstWhenOtherwiseEqual() {
+    final List<MutationDetails> expensive = unit(aMutation("a", 100));
+    final List<MutationDetails> cheap = unit(aMutation("b", 1),
+        aMutation("c", 1));
+
+    assertThat(sort(expensive, cheap)).containsExactly(cheap, expensive);
+  }
+
+  @Test
+  public void shouldRankUnitByItsMostInformativeMutation() {
+    final List<MutationDetails> unchanged = unit(aMutation("unchanged", 1));
+    final List<MutationDetails> mixed = unit(aMutation("other", 100),
+        aMutation("changed", 100));
+    when(this.history.hasMethodChanged(location("changed"))).thenReturn(true);
+
+    assertThat(sort(unchanged, mixed)).containsExactly(mixed, unchanged);
+  }
+
+  @SafeVarargs
+  private final List<List<MutationDetails>> sort(
+      final List<MutationDetails>... units) {
+    final List<List<MutationDetails>> actual = Arrays.asList(units);
+    actual.sort(this.testee);
+    return actual;
+  }
+
+  private static List<MutationDetails> unit(final MutationDetails... ms) {
+    return Arrays.asList(ms);
+  }
+
+  private static MutationDetails aMutation(final String method,
+      final int testTime) {
+    final MutationDetails md = new MutationDetails(
+        new MutationIdentifier(location(method), 1, "mutator"), "file", "desc",
+        1, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+        "test", testTime, Optional.<ClassName> empty(), 1)));
+    return md;
+  }
+
+  private static Location location(final String method) {
+    return aLocation().withClass(ClassName.fromString("Foo"))
+        .withMethod(method).build();
+  }
+
+}
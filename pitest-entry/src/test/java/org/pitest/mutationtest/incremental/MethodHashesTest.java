@@ -0,0 +1,69 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+
+public class MethodHashesTest {
+
+  @Test
+  public void shouldHashEachMethod() {
+    final Map<Location, String> actual = hash(First.class);
+    assertThat(actual).containsKeys(method(First.class, "<init>", "()V"),
+        method(First.class, "one", "()I"), method(First.class, "two", "()I"));
+  }
+
+  @Test
+  public void shouldGiveSameHashToMethodsWithSameBytecodeOnDifferentLines() {
+    assertThat(hash(First.class).get(method(First.class, "one", "()I")))
+        .isEqualTo(hash(Second.class).get(method(Second.class, "one", "()I")));
+  }
+
+  @Test
+  public void shouldGiveDifferentHashesToMethodsWithDifferentBytecode() {
+    assertThat(hash(First.class).get(method(First.class, "two", "()I")))
+        .isNotEqualTo(
+            hash(Second.class).get(method(Second.class, "two", "()I")));
+  }
+
+  private static Map<Location, String> hash(final Class<?> clazz) {
+    final ClassName name = ClassName.fromClass(clazz);
+    return MethodHashes.hash(name, ClassloaderByteArraySource.fromContext()
+        .getBytes(name.asJavaName()).get());
+  }
+
+  private static Location method(final Class<?> clazz, final String name,
+      final String desc) {
+    return Location.location(ClassName.fromClass(clazz),
+        MethodName.fromString(name), desc);
+  }
+
+  static class First {
+    int one() {
+      return 1;
+    }
+
+    int two() {
+      return 2;
+    }
+  }
+
+  static class Second {
+
+
+    int one() {
+      return 1;
+    }
+
+    int two() {
+      return 3;
+    }
+  }
+
+}
@@ -15,6 +15,7 @@ import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,14 +26,22 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.coverage.TestInfo;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestClassCoverage;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.testapi.Description;
 
 public class ObjectOutputStreamHistoryStoreTest {
 
@@ -87,6 +96,140 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricClassPath());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveCoveringTests() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        when(this.coverage.getTestsForClass(foo.getName())).thenReturn(
+            Arrays.asList(new TestInfo("com.example.FooTest", "aTest", 0,
+                Optional.<ClassName> empty(), 0)));
+
+        recordClassPathWithTestee(foo);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(Optional.of(Collections.singleton(ClassName.fromString("com.example.FooTest"))),
+            this.testee.getHistoricClassPath().get(foo.getName()).getCoveringTests());
+    }
+
+    @Test
+    public void shouldRecordAndRetrieveMethodsOfCoveredClasses() {
+        final ClassName name = ClassName.fromClass(ObjectOutputStreamHistoryStoreTest.class);
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, name), "");
+        final Location method = Location.location(name,
+            MethodName.fromString("setUp"), "()V");
+        when(this.coverage.getTestsForClass(foo.getName())).thenReturn(
+            Arrays.asList(new TestInfo("com.example.FooTest", "aTest", 0,
+                Optional.<ClassName> empty(), 0)));
+        when(this.coverage.getCoverageIdForMethod(any(Location.class))).thenReturn(
+            BigInteger.ONE);
+
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.<Reader> empty(), ClassloaderByteArraySource.fromContext());
+        this.testee.recordClassPath(Collections.singletonList(foo), this.coverage);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        final ClassHistory actual = this.testee.getHistoricClassPath().get(name);
+        assertEquals(Optional.of(MethodHashes.hash(name,
+            ClassloaderByteArraySource.fromContext().getBytes(name.asJavaName()).get())
+            .get(method)), actual.getMethodId(method));
+        assertEquals(Optional.of("1"), actual.getMethodCoverageId(method));
+    }
+
+    @Test
+    public void shouldNotRecordMethodsOfClassesWithoutCoverage() {
+        final ClassName name = ClassName.fromClass(ObjectOutputStreamHistoryStoreTest.class);
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, name), "");
+
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.<Reader> empty(), ClassloaderByteArraySource.fromContext());
+        this.testee.recordClassPath(Collections.singletonList(foo), this.coverage);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertEquals(Optional.empty(), this.testee.getHistoricClassPath().get(name)
+            .getMethodId(Location.location(name, MethodName.fromString("setUp"), "()V")));
+    }
+
+    @Test
+    public void shouldRecordAndRetrieveCoverageOfTestClasses() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("fooTest")), "");
+        when(this.coverage.getResultsForTestClass(fooTest.getName())).thenReturn(
+            Arrays.asList(aResultCovering(foo.getName(), true)));
+
+        recordClassPathWithTestee(foo, fooTest);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        final TestClassCoverage actual = this.testee.getHistoricClassPath()
+            .get(fooTest.getName()).getTestCoverage().get();
+        assertEquals(Collections.singletonMap(foo.getName(), foo),
+            actual.getCoveredClasses());
+        final CoverageResult result = actual.getResults().get(0);
+        assertEquals(new Description("aTest", "fooTest"),
+            result.getTestUnitDescription());
+        assertEquals(42, result.getExecutionTime());
+        assertEquals(1, result.getNumberOfCoveredBlocks());
+        assertFalse(this.testee.getHistoricClassPath().get(foo.getName())
+            .getTestCoverage().isPresent());
+    }
+
+    @Test
+    public void shouldNotRecordCoverageOfTestClassesWithFailingTests() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("fooTest")), "");
+        when(this.coverage.getResultsForTestClass(fooTest.getName())).thenReturn(
+            Arrays.asList(aResultCovering(foo.getName(), false)));
+
+        recordClassPathWithTestee(foo, fooTest);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertFalse(this.testee.getHistoricClassPath().get(fooTest.getName())
+            .getTestCoverage().isPresent());
+    }
+
+    @Test
+    public void shouldNotRecordCoverageOfTestClassesCoveringUnrecordedClasses() {
+        final HierarchicalClassId fooTest = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("fooTest")), "");
+        when(this.coverage.getResultsForTestClass(fooTest.getName())).thenReturn(
+            Arrays.asList(aResultCovering(ClassName.fromString("foo"), true)));
+
+        recordClassPathWithTestee(fooTest);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        assertFalse(this.testee.getHistoricClassPath().get(fooTest.getName())
+            .getTestCoverage().isPresent());
+    }
+
     @Test
     public void shouldRecordAndRetrieveResults() {
         final HierarchicalClassId foo = new HierarchicalClassId(
@@ -140,6 +283,13 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertFalse(this.testee.getHistoricResults().isEmpty());
     }
 
+    private static CoverageResult aResultCovering(final ClassName clazz,
+        final boolean green) {
+        return new CoverageResult(new Description("aTest", "fooTest"), 42, green,
+            Collections.singletonList(new BlockLocation(Location.location(clazz,
+                MethodName.fromString("foo"), "()V"), 1, 0, 3)));
+    }
+
     private void recordClassPathWithTestee(
         final HierarchicalClassId... classIdentifiers) {
         this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
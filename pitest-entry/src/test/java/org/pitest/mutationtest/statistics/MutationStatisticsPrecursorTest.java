@@ -170,6 +170,41 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[2]);
   }
 
+  @Test
+  public void shouldLeaveMutationsNotRunOutOfTotals() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NO_COVERAGE),
+            makeResult(DetectionStatus.NOT_RUN),
+            makeResult(DetectionStatus.NOT_RUN)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertEquals(2, actual.getTotalMutations());
+    assertEquals(1, actual.getTotalMutationsWithCoverage());
+    assertEquals(1, actual.getTotalSurvivingMutations());
+    assertEquals(2, actual.getTotalNotRunMutations());
+    assertEquals(50, actual.getPercentageDetected());
+    assertEquals(100, actual.getTestStrength());
+  }
+
+  @Test
+  public void shouldReportMutationsNotRun() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED),
+            makeResult(DetectionStatus.NOT_RUN)));
+    final String[] actual = generateReportLines();
+    assertEquals(">> Generated 1 mutations Killed 1 (100%)", actual[0]);
+    assertEquals(">> Mutations not run 1", actual[2]);
+  }
+
+  @Test
+  public void shouldNotReportMutationsNotRunWhenAllRun() {
+    this.testee.registerResults(Arrays.asList(
+            makeResult(DetectionStatus.KILLED)));
+    for (final String each : generateReportLines()) {
+      assertFalse(each.contains("not run"));
+    }
+  }
+
   private Predicate<Score> hasResultForMutator(final String mutator) {
     return a -> a.getMutatorName().equals(mutator);
   }
@@ -0,0 +1,57 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+public class ScoreEstimateTest {
+
+  @Test
+  public void shouldEstimateScoreFromSample() {
+    final ScoreEstimate testee = new ScoreEstimate(1000, 100, 80);
+    assertThat(testee.getEstimate()).isEqualTo(80d);
+  }
+
+  @Test
+  public void shouldBoundEstimateWithCorrectedWilsonInterval() {
+    final ScoreEstimate testee = new ScoreEstimate(1000, 100, 80);
+    assertThat(testee.getLowerBound()).isCloseTo(71.6, within(0.5));
+    assertThat(testee.getUpperBound()).isCloseTo(86.4, within(0.5));
+  }
+
+  @Test
+  public void shouldNarrowIntervalAsSampleApproachesPopulation() {
+    final ScoreEstimate small = new ScoreEstimate(10000, 100, 80);
+    final ScoreEstimate large = new ScoreEstimate(110, 100, 80);
+    assertThat(large.getUpperBound() - large.getLowerBound())
+        .isLessThan(small.getUpperBound() - small.getLowerBound());
+  }
+
+  @Test
+  public void shouldHaveNoUncertaintyWhenWholePopulationSampled() {
+    final ScoreEstimate testee = new ScoreEstimate(100, 100, 80);
+    assertThat(testee.getLowerBound()).isEqualTo(80d);
+    assertThat(testee.getUpperBound()).isEqualTo(80d);
+  }
+
+  @Test
+  public void shouldKeepBoundsWithinZeroAndOneHundred() {
+    final ScoreEstimate testee = new ScoreEstimate(1000, 10, 10);
+    assertThat(testee.getLowerBound()).isGreaterThan(0d);
+    assertThat(testee.getUpperBound()).isLessThanOrEqualTo(100d);
+  }
+
+  @Test
+  public void shouldReportEstimate() {
+    final ByteArrayOutputStream s = new ByteArrayOutputStream();
+    new MutationStatistics(null, 100, 80, 100, 0).estimateFrom(1000)
+        .report(new PrintStream(s));
+    assertThat(s.toString()).contains(
+        ">> Sampled 100 of 1000 mutations. Estimated mutation score 80% (95% confidence 72% to 86%)");
+  }
+
+}
@@ -0,0 +1,124 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class ThresholdOutcomeListenerTest {
+
+  @Test
+  public void shouldNotDecideWithoutThresholds() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(2, 0,
+        0, -1);
+    register(testee, DetectionStatus.SURVIVED, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isFalse();
+  }
+
+  @Test
+  public void shouldDecideOnceSurvivorsExceedMaximum() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10, 0,
+        0, 1);
+    register(testee, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isFalse();
+    register(testee, DetectionStatus.NO_COVERAGE);
+    assertThat(testee.isDecided()).isTrue();
+  }
+
+  @Test
+  public void shouldDecideOnceMutationThresholdCannotBeReached() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10,
+        80, 0, -1);
+    register(testee, DetectionStatus.SURVIVED, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isFalse();
+    register(testee, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isTrue();
+  }
+
+  @Test
+  public void shouldDecideOnceMutationThresholdIsCertainToPass() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10,
+        50, 0, -1);
+    for (int i = 0; i != 4; i++) {
+      register(testee, DetectionStatus.KILLED);
+    }
+    assertThat(testee.isDecided()).isFalse();
+    register(testee, DetectionStatus.KILLED);
+    assertThat(testee.isDecided()).isTrue();
+  }
+
+  @Test
+  public void shouldNotDecidePassWhileAnyThresholdIsUncertain() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10,
+        50, 0, 5);
+    for (int i = 0; i != 5; i++) {
+      register(testee, DetectionStatus.KILLED);
+    }
+    assertThat(testee.isDecided()).isTrue();
+
+    final ThresholdOutcomeListener strict = new ThresholdOutcomeListener(10,
+        50, 0, 4);
+    for (int i = 0; i != 5; i++) {
+      register(strict, DetectionStatus.KILLED);
+    }
+    assertThat(strict.isDecided()).isFalse();
+  }
+
+  @Test
+  public void shouldDecideOnceTestStrengthCannotBeReached() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(4, 0,
+        75, -1);
+    register(testee, DetectionStatus.KILLED, DetectionStatus.NO_COVERAGE);
+    assertThat(testee.isDecided()).isFalse();
+    register(testee, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isTrue();
+  }
+
+  @Test
+  public void shouldGiveSameOutcomeWhenRemainingMutationsAreNotRun() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10,
+        50, 0, -1);
+    final MutationStatisticsListener stats = new MutationStatisticsListener();
+    for (int i = 0; i != 5; i++) {
+      register(testee, DetectionStatus.KILLED);
+      register(stats, DetectionStatus.KILLED);
+    }
+    assertThat(testee.isDecided()).isTrue();
+
+    for (int i = 0; i != 5; i++) {
+      register(stats, DetectionStatus.NOT_RUN);
+    }
+    assertThat(stats.getStatistics().getPercentageDetected())
+        .isGreaterThanOrEqualTo(50);
+  }
+
+  @Test
+  public void shouldNotAssumeMutationsAlreadyNotRunCouldBeDetected() {
+    final ThresholdOutcomeListener testee = new ThresholdOutcomeListener(10,
+        90, 0, -1);
+    register(testee, DetectionStatus.NOT_RUN, DetectionStatus.NOT_RUN,
+        DetectionStatus.NOT_RUN, DetectionStatus.NOT_RUN,
+        DetectionStatus.NOT_RUN);
+    register(testee, DetectionStatus.KILLED, DetectionStatus.KILLED,
+        DetectionStatus.KILLED);
+    assertThat(testee.isDecided()).isFalse();
+
+    register(testee, DetectionStatus.SURVIVED);
+    assertThat(testee.isDecided()).isTrue();
+  }
+
+  private static void register(final MutationResultListener listener,
+      final DetectionStatus... statuses) {
+    for (final DetectionStatus each : statuses) {
+      listener.handleMutationResult(
+          MutationTestResultMother.createClassResults(new MutationResult(
+              MutationTestResultMother.createDetails(),
+              MutationStatusTestPair.notAnalysed(1, each))));
+    }
+  }
+
+}
@@ -32,6 +32,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.boot.HotSwapAgent;
@@ -49,6 +50,9 @@ public class JarCreatingJarFinderTest {
   @Rule
   public final ExpectedException thrown = ExpectedException.none();
 
+  @Rule
+  public final TemporaryFolder   folder = new TemporaryFolder();
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -123,6 +127,22 @@ public class JarCreatingJarFinderTest {
     this.testee.getJarLocation();
   }
 
+  @Test
+  public void shouldReuseJarCreatedInDirectory() throws IOException {
+    final File dir = this.folder.newFolder();
+    final JarCreatingJarFinder first = new JarCreatingJarFinder(
+        this.byteSource, dir);
+    final String location = first.getJarLocation().get();
+    first.close();
+
+    final JarCreatingJarFinder second = new JarCreatingJarFinder(
+        this.byteSource, dir);
+    assertEquals(location, second.getJarLocation().get());
+    assertTrue(location.startsWith(dir.getAbsolutePath()));
+    assertTrue(new File(location).exists());
+    assertEquals(1, dir.list().length);
+  }
+
   private void assertGeneratedManifestEntryEquals(final String key,
       final String expected) throws IOException, FileNotFoundException {
     final String am = getGeneratedManifestAttribute(key);
@@ -14,15 +14,18 @@
  */
 package org.pitest.mutationtest.tooling;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
@@ -30,6 +33,7 @@ import java.util.Properties;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -160,6 +164,20 @@ public class MutationCoverageReportTest {
     verify(this.history).recordClassPath(Arrays.asList(fooId), this.coverageDb);
   }
 
+  @Test
+  public void shouldRecordTestClassesThatCoveredNothing() {
+    final ClassInfo fooTest = ClassInfoMother.make("FooTest");
+    when(this.code.getTests()).thenReturn(Collections.singletonList(fooTest));
+
+    createAndRunTestee();
+
+    final ArgumentCaptor<Collection> recorded = ArgumentCaptor
+        .forClass(Collection.class);
+    verify(this.code, atLeastOnce()).getClassInfo(recorded.capture());
+    assertThat(recorded.getAllValues())
+        .anyMatch(names -> names.contains(fooTest.getName()));
+  }
+
   @Test
   public void shouldCheckBuildSuitableForMutationTesting() {
     createAndRunTestee();
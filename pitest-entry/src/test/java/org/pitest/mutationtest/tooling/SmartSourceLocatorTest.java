@@ -0,0 +1,107 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SmartSourceLocatorTest {
+
+  @Rule
+  public TemporaryFolder testFolder = new TemporaryFolder();
+
+  @Test
+  public void shouldLocateSourceForClassesInDefaultPackage() throws IOException {
+    final File root = this.testFolder.newFolder("src");
+    write(root, "Foo.java", "default");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(read(testee.locate(Collections.singletonList("Foo"), "Foo.java"))).isEqualTo("default");
+  }
+
+  @Test
+  public void shouldLocateSourceForClassesInNamedPackages() throws IOException {
+    final File root = this.testFolder.newFolder("src");
+    write(root, "com/example/Foo.java", "named");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(read(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java"))).isEqualTo("named");
+  }
+
+  @Test
+  public void shouldLocateSourceInDirectoriesBeneathRoot() throws IOException {
+    final File root = this.testFolder.newFolder("project");
+    write(root, "module/src/main/java/com/example/Foo.java", "nested");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(read(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java"))).isEqualTo("nested");
+  }
+
+  @Test
+  public void shouldNotMatchFilesInTheWrongPackage() throws IOException {
+    final File root = this.testFolder.newFolder("src");
+    write(root, "com/other/Foo.java", "other");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnEmptyWhenNoFileOfMatchingNameExists() throws IOException {
+    final File root = this.testFolder.newFolder("src");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java")).isEmpty();
+  }
+
+  @Test
+  public void shouldPreferSubdirectoriesOverRootsAsProbingDid() throws IOException {
+    final File root = this.testFolder.newFolder("project");
+    write(root, "com/example/Foo.java", "root");
+    write(root, "a/com/example/Foo.java", "child");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Collections.singletonList(root));
+
+    assertThat(read(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java"))).isEqualTo("child");
+  }
+
+  @Test
+  public void shouldSearchAllRoots() throws IOException {
+    final File first = this.testFolder.newFolder("first");
+    final File second = this.testFolder.newFolder("second");
+    write(second, "com/example/Foo.java", "second");
+
+    final SmartSourceLocator testee = new SmartSourceLocator(Arrays.asList(first, second));
+
+    assertThat(read(testee.locate(Collections.singletonList("com.example.Foo"), "Foo.java"))).isEqualTo("second");
+  }
+
+  private static void write(File root, String path, String content) throws IOException {
+    final File f = new File(root, path.replace("/", File.separator));
+    f.getParentFile().mkdirs();
+    Files.write(f.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String read(Optional<Reader> reader) throws IOException {
+    assertThat(reader).isPresent();
+    try (BufferedReader r = new BufferedReader(reader.get())) {
+      return r.readLine();
+    }
+  }
+}
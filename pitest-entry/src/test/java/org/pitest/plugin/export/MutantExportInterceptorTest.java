@@ -2,9 +2,13 @@ package org.pitest.plugin.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -87,6 +91,29 @@ public class MutantExportInterceptorTest {
   }
 
 
+  @Test
+  public void shouldNotRewriteMutantsUnchangedSincePreviousExport() throws IOException {
+    executeFor(VeryMutable.class);
+    final Path dump = mutantBasePath(VeryMutable.class,0).resolve(ClassName.fromClass(VeryMutable.class).asJavaName() + ".txt");
+    Files.write(dump, Collections.singleton("previous"), StandardCharsets.UTF_8);
+
+    executeFor(VeryMutable.class);
+
+    assertThat(dump).hasContent("previous");
+  }
+
+  @Test
+  public void shouldRewriteMutantsChangedSincePreviousExport() throws IOException {
+    final Collection<MutationDetails> mutations = executeFor(VeryMutable.class);
+    final Path bytes = mutantBasePath(VeryMutable.class,0).resolve(ClassName.fromClass(VeryMutable.class).asJavaName() + ".class");
+    Files.write(bytes, new byte[] { 1, 2, 3 });
+
+    executeFor(VeryMutable.class);
+
+    final Mutant firstMutant = this.mutator.getMutation(mutations.iterator().next().getId());
+    assertThat(bytes).hasBinaryContent(firstMutant.getBytes());
+  }
+
   private Collection<MutationDetails> executeFor(Class<?> clazz) {
     final Collection<MutationDetails> mutations = this.mutator.findMutations(ClassName.fromClass(clazz));
 
@@ -0,0 +1,142 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classpath.ClassPath;
+import org.pitest.util.NullJavaAgent;
+
+public class ClassDataSharingTest {
+
+  @Rule
+  public final TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadMajorVersionOfLegacyJavaVersions() {
+    assertThat(ClassDataSharing
+        .majorVersion("openjdk version \"1.8.0_392\"\nOpenJDK Runtime"))
+            .isEqualTo(8);
+  }
+
+  @Test
+  public void shouldReadMajorVersionOfModernJavaVersions() {
+    assertThat(ClassDataSharing
+        .majorVersion("openjdk version \"17.0.9\" 2023-10-17")).isEqualTo(17);
+    assertThat(ClassDataSharing.majorVersion("java version \"21\" 2023-09-19"))
+        .isEqualTo(21);
+  }
+
+  @Test
+  public void shouldTreatUnrecognisedVersionsAsUnsupported() {
+    assertThat(ClassDataSharing.majorVersion("")).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldPreferSharingJarsFollowingNonEmptyDirectories()
+      throws IOException {
+    final File empty = this.folder.newFolder();
+    final File classes = this.folder.newFolder();
+    new File(classes, "Foo.class").createNewFile();
+    final String cp = String.join(File.pathSeparator, "a.jar",
+        empty.getAbsolutePath(), "b.jar", classes.getAbsolutePath(), "c.jar");
+
+    assertThat(ClassDataSharing.shareableClassPaths(cp)).containsExactly(
+        String.join(File.pathSeparator, "a.jar", empty.getAbsolutePath(),
+            "b.jar", "c.jar"),
+        String.join(File.pathSeparator, "a.jar", empty.getAbsolutePath(),
+            "b.jar"));
+  }
+
+  @Test
+  public void shouldFallBackToSharingNoClassPathWhenItStartsWithClasses()
+      throws IOException {
+    final File classes = this.folder.newFolder();
+    new File(classes, "Foo.class").createNewFile();
+
+    assertThat(ClassDataSharing.shareableClassPaths(
+        classes.getAbsolutePath() + File.pathSeparator + "a.jar"))
+        .containsExactly("a.jar", "");
+  }
+
+  @Test
+  public void shouldShareWholeClassPathWhenItHasNoClassDirectories() {
+    assertThat(ClassDataSharing.shareableClassPaths(String
+        .join(File.pathSeparator, "a.jar", "b.jar"))).containsExactly(
+            String.join(File.pathSeparator, "a.jar", "b.jar"));
+  }
+
+  @Test
+  public void shouldNotAddArgumentsWhenDisabled() {
+    assertThat(ClassDataSharing.none().argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(false))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotAddArgumentsWhenUsingClasspathJar() throws IOException {
+    final ClassDataSharing testee = new ClassDataSharing(
+        this.folder.newFolder());
+    assertThat(testee.argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(true))).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordFirstMinionOnlyWhenJavaSupportsSharing()
+      throws IOException {
+    final ClassDataSharing testee = new ClassDataSharing(
+        this.folder.newFolder());
+    final boolean supported = ClassDataSharing.majorVersion(
+        "version \"" + System.getProperty("java.version") + "\"") >= 11;
+
+    final List<String> first = testee.argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(false));
+    final List<String> second = testee.argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(false));
+
+    if (supported) {
+      assertThat(first).hasSize(1);
+      assertThat(first.get(0)).startsWith("-XX:DumpLoadedClassList=");
+    } else {
+      assertThat(first).isEmpty();
+    }
+    assertThat(second).isEmpty();
+  }
+
+  @Test
+  public void shouldNotShareArchiveWhileItIsDumped()
+      throws IOException, InterruptedException {
+    final ClassDataSharing testee = new ClassDataSharing(
+        this.folder.newFolder());
+
+    final List<String> recording = testee.argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(false));
+    final Process recorder = new ProcessBuilder(javaExecutable(), "-version")
+        .start();
+    recorder.waitFor();
+    testee.started(recording, recorder);
+
+    assertThat(testee.argumentsFor(javaExecutable(),
+        Collections.<String> emptyList(), processArgs(false))).isEmpty();
+  }
+
+  private static String javaExecutable() {
+    return new DefaultJavaExecutableLocator().javaExecutable();
+  }
+
+  private ProcessArgs processArgs(final boolean useClasspathJar) {
+    return ProcessArgs.withClassPath(new ClassPath().getLocalClassPath())
+        .andBaseDir(new File(System.getProperty("user.dir")))
+        .andLaunchOptions(new LaunchOptions(NullJavaAgent.instance(),
+            new DefaultJavaExecutableLocator(),
+            Collections.<String> emptyList(), new HashMap<String, String>(),
+            useClasspathJar));
+  }
+
+}
@@ -0,0 +1,82 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.pitest.util.Tracer.Span;
+import org.pitest.util.Tracer.TraceEvent;
+
+public class TracerTest {
+
+  private final Tracer testee = Tracer.enabled();
+
+  @Test
+  public void shouldRecordSpansWithArguments() {
+    try (Span span = this.testee.start(Tracer.UNIT, "com.example.Foo")) {
+      span.arg("mutations", 3);
+    }
+    final TraceEvent actual = this.testee.events().get(0);
+    assertThat(actual.getCategory()).isEqualTo(Tracer.UNIT);
+    assertThat(actual.getName()).isEqualTo("com.example.Foo");
+    assertThat(actual.getArgs()).containsEntry("mutations", "3");
+    assertThat(actual.getThread()).isEqualTo(Thread.currentThread().getId());
+  }
+
+  @Test
+  public void shouldRecordNothingWhenDisabled() {
+    final Tracer disabled = Tracer.disabled();
+    disabled.start(Tracer.UNIT, "foo").close();
+    disabled.record(Tracer.TEST, "bar", 0, 1, Collections.emptyMap());
+    assertThat(disabled.events()).isEmpty();
+  }
+
+  @Test
+  public void shouldRecordStagesFromTimings() {
+    final Timings timings = new Timings(this.testee);
+    timings.registerStart(Timings.Stage.COVERAGE);
+    timings.registerEnd(Timings.Stage.COVERAGE);
+    assertThat(this.testee.events()).extracting(TraceEvent::getName)
+        .containsExactly(Timings.Stage.COVERAGE.toString());
+  }
+
+  @Test
+  public void shouldWriteCompleteEventsInMicroseconds() throws IOException {
+    final long start = this.testee.now();
+    this.testee.record(Tracer.TEST, "a \"quoted\" test", start,
+        start + TimeUnit.MILLISECONDS.toNanos(2),
+        Collections.singletonMap("green", "true"));
+    final StringWriter out = new StringWriter();
+    this.testee.writeChromeTrace(out);
+    assertThat(out.toString()).startsWith("{\"traceEvents\":[")
+        .contains("\"name\":\"a \\\"quoted\\\" test\",\"cat\":\"test\",\"ph\":\"X\"")
+        .contains("\"dur\":2000,")
+        .contains("\"args\":{\"green\":\"true\"}}");
+  }
+
+  @Test
+  public void shouldReportSlowestClassesAcrossAllTheirMutants() {
+    recordMutant("com.example.Fast", 1);
+    recordMutant("com.example.Slow", 2000);
+    recordMutant("com.example.Slow", 2000);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    this.testee.reportSlowest(new PrintStream(bytes), 1);
+    assertThat(bytes.toString()).contains("> Slowest classes")
+        .contains(">> com.example.Slow : 4 seconds")
+        .doesNotContain("com.example.Fast");
+  }
+
+  private void recordMutant(final String clazz, final long millis) {
+    final long start = this.testee.now();
+    this.testee.record(Tracer.MUTANT, "mutant", start,
+        start + TimeUnit.MILLISECONDS.toNanos(millis),
+        Collections.singletonMap("class", clazz));
+  }
+
+}
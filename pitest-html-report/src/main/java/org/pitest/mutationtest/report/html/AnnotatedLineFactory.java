@@ -16,75 +16,79 @@ package org.pitest.mutationtest.report.html;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
-import java.util.function.Function;
-import java.util.function.Predicate;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.coverage.ClassLine;
 import org.pitest.coverage.CoverageDatabase;
-import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.util.StringUtil;
 
+/**
+ * Annotates each line of a source file with its coverage and mutations.
+ *
+ * Mutations are indexed by line, and the code and covered lines of the file
+ * found, once per file rather than once per line, so that large files render
+ * in time proportional to their length plus their number of mutations.
+ */
 public class AnnotatedLineFactory {
 
-  private final Collection<MutationResult>         mutations;
+  private final Map<Integer, List<MutationResult>> mutationsByLine;
   private final CoverageDatabase                   statistics;
   private final Collection<ClassInfo>              classesInFile;
 
   public AnnotatedLineFactory(
       final Collection<MutationResult> mutations,
       final CoverageDatabase statistics, final Collection<ClassInfo> classes) {
-    this.mutations = mutations;
+    this.mutationsByLine = mutations.stream()
+        .collect(Collectors.groupingBy(m -> m.getDetails().getLineNumber()));
     this.statistics = statistics;
     this.classesInFile = classes;
   }
 
   public List<Line> convert(final Reader source) throws IOException {
     try {
-      final InputStreamLineIterable lines = new InputStreamLineIterable(source);
-      return FCollection.map(lines, stringToAnnotatedLine());
+      final List<String> lines = new ArrayList<>();
+      for (final String each : new InputStreamLineIterable(source)) {
+        lines.add(each);
+      }
+      final BitSet codeLines = findCodeLines(lines.size());
+      final BitSet coveredLines = findCoveredLines(codeLines);
+
+      final List<Line> annotated = new ArrayList<>(lines.size());
+      for (int i = 0; i != lines.size(); i++) {
+        final int lineNumber = i + 1;
+        annotated.add(new Line(lineNumber,
+            StringUtil.escapeBasicHtmlChars(lines.get(i)),
+            lineStatus(lineNumber, codeLines, coveredLines),
+            getMutationsForLine(lineNumber)));
+      }
+      return annotated;
     } finally {
       source.close();
     }
 
   }
 
-  private Function<String, Line> stringToAnnotatedLine() {
-    return new Function<String, Line>() {
-      private int lineNumber = 1;
-
-      @Override
-      public Line apply(final String a) {
-        final Line l = new Line(this.lineNumber,
-            StringUtil.escapeBasicHtmlChars(a), lineCovered(this.lineNumber),
-            getMutationsForLine(this.lineNumber));
-        this.lineNumber++;
-        return l;
-      }
-
-    };
-  }
-
   private List<MutationResult> getMutationsForLine(final int lineNumber) {
-    return this.mutations.stream()
-        .filter(isAtLineNumber(lineNumber))
-        .collect(Collectors.toList());
-  }
-
-  private Predicate<MutationResult> isAtLineNumber(final int lineNumber) {
-    return result -> result.getDetails().getLineNumber() == lineNumber;
+    final List<MutationResult> mutations = this.mutationsByLine.get(lineNumber);
+    if (mutations == null) {
+      return new ArrayList<>();
+    }
+    return mutations;
   }
 
-  private LineStatus lineCovered(final int line) {
-
-    if (!isCodeLine(line)) {
+  private LineStatus lineStatus(final int line, final BitSet codeLines,
+      final BitSet coveredLines) {
+    if (!codeLines.get(line)) {
       return LineStatus.NotApplicable;
     } else {
-      if (isLineCovered(line)) {
+      if (coveredLines.get(line)) {
         return LineStatus.Covered;
       } else {
         return LineStatus.NotCovered;
@@ -92,15 +96,32 @@ public class AnnotatedLineFactory {
     }
   }
 
-  private boolean isCodeLine(final int line) {
-    return FCollection.contains(this.classesInFile, a -> a.isCodeLine(line));
+  private BitSet findCodeLines(final int numberOfLines) {
+    final BitSet codeLines = new BitSet(numberOfLines + 1);
+    for (final ClassInfo each : this.classesInFile) {
+      for (int line = 1; line <= numberOfLines; line++) {
+        if (each.isCodeLine(line)) {
+          codeLines.set(line);
+        }
+      }
+    }
+    return codeLines;
   }
 
-  private boolean isLineCovered(final int line) {
-    final Predicate<ClassInfo> predicate = a -> !AnnotatedLineFactory.this.statistics.getTestsForClassLine(
-        new ClassLine(a.getName().asInternalName(), line)).isEmpty();
-    return FCollection.contains(this.classesInFile, predicate);
-
+  private BitSet findCoveredLines(final BitSet codeLines) {
+    final BitSet coveredLines = new BitSet(codeLines.length());
+    for (final ClassInfo each : this.classesInFile) {
+      final String clazz = each.getName().asInternalName();
+      for (int line = codeLines.nextSetBit(0); line >= 0;
+          line = codeLines.nextSetBit(line + 1)) {
+        if (!coveredLines.get(line) && each.isCodeLine(line)
+            && !this.statistics
+                .getTestsForClassLine(new ClassLine(clazz, line)).isEmpty()) {
+          coveredLines.set(line);
+        }
+      }
+    }
+    return coveredLines;
   }
 
 }
@@ -52,6 +52,10 @@ public class LineStyle {
     }
 
     final DetectionStatus status = this.line.detectionStatus().get();
+    if (status == DetectionStatus.NOT_RUN) {
+      return "not_run";
+    }
+
     if (!status.isDetected()) {
       return "survived";
     }
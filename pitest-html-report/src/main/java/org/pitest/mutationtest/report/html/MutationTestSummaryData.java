@@ -17,6 +17,7 @@ package org.pitest.mutationtest.report.html;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 import java.util.ArrayList;
@@ -60,7 +61,7 @@ public class MutationTestSummaryData {
 
   private long getNumberOfMutationsWithCoverage() {
     return this.mutations.stream()
-            .filter(it -> it.getStatus().hasCoverage())
+            .filter(it -> it.getStatus().hasCoverage() && isRun(it))
             .count();
   }
 
@@ -116,8 +117,16 @@ public class MutationTestSummaryData {
     return (a, b) -> a + b.getNumberOfCodeLines();
   }
 
+  // mutations that were not run are left out of the totals, see
+  // DetectionStatus.NOT_RUN
   private long getNumberOfMutations() {
-    return this.mutations.size();
+    return this.mutations.stream()
+            .filter(MutationTestSummaryData::isRun)
+            .count();
+  }
+
+  private static boolean isRun(final MutationResult result) {
+    return result.getStatus() != DetectionStatus.NOT_RUN;
   }
 
   private long getNumberOfMutationsDetected() {
@@ -0,0 +1,112 @@
+package org.pitest.mutationtest.report.html;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.ClassLine;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class AnnotatedLineFactoryTest {
+
+  private static final String SOURCE = "class Foo {\n  int a;\n  int b;\n}\n";
+
+  @Mock
+  private CoverageDatabase    coverage;
+
+  @Mock
+  private ClassInfo           classInfo;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.classInfo.getName()).thenReturn(ClassName.fromString("Foo"));
+    when(this.classInfo.isCodeLine(anyInt())).thenReturn(false);
+    when(this.coverage.getTestsForClassLine(any(ClassLine.class)))
+        .thenReturn(Collections.<TestInfo> emptyList());
+  }
+
+  @Test
+  public void shouldCreateOneLinePerLineOfSource() throws IOException {
+    final List<Line> actual = convert();
+    assertThat(actual).extracting(Line::getNumber).containsExactly(1L, 2L, 3L,
+        4L);
+    assertThat(actual.get(1).getText()).isEqualTo("  int a;");
+  }
+
+  @Test
+  public void shouldAssignMutationsToTheirLines() throws IOException {
+    final MutationResult onTwo = aMutationOnLine(2, 0);
+    final MutationResult alsoOnTwo = aMutationOnLine(2, 1);
+    final MutationResult onThree = aMutationOnLine(3, 2);
+
+    final List<Line> actual = convert(onThree, onTwo, alsoOnTwo);
+
+    assertThat(actual.get(0).getMutations()).isEmpty();
+    assertThat(actual.get(1).getMutations()).containsOnly(onTwo, alsoOnTwo);
+    assertThat(actual.get(2).getMutations()).containsOnly(onThree);
+  }
+
+  @Test
+  public void shouldMarkLinesWithoutCodeAsNotApplicable() throws IOException {
+    assertThat(convert()).extracting(Line::getLineCovered)
+        .containsOnly(LineStatus.NotApplicable);
+  }
+
+  @Test
+  public void shouldMarkCodeLinesCoveredOnlyWhenTestsCoverThem()
+      throws IOException {
+    when(this.classInfo.isCodeLine(2)).thenReturn(true);
+    when(this.classInfo.isCodeLine(3)).thenReturn(true);
+    when(this.coverage.getTestsForClassLine(new ClassLine("Foo", 2)))
+        .thenReturn(Collections.singletonList(
+            new TestInfo("FooTest", "test", 1, Optional.<ClassName> empty(), 1)));
+
+    final List<Line> actual = convert();
+
+    assertThat(actual).extracting(Line::getLineCovered).containsExactly(
+        LineStatus.NotApplicable, LineStatus.Covered, LineStatus.NotCovered,
+        LineStatus.NotApplicable);
+  }
+
+  private List<Line> convert(final MutationResult... mutations)
+      throws IOException {
+    return new AnnotatedLineFactory(Arrays.asList(mutations), this.coverage,
+        Collections.singletonList(this.classInfo))
+        .convert(new StringReader(SOURCE));
+  }
+
+  private static MutationResult aMutationOnLine(final int line,
+      final int index) {
+    final MutationIdentifier id = new MutationIdentifier(
+        Location.location(ClassName.fromString("Foo"),
+            MethodName.fromString("foo"), "()V"),
+        index, "mutator");
+    return new MutationResult(
+        new MutationDetails(id, "Foo.java", "desc", line, 0),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "test"));
+  }
+
+}
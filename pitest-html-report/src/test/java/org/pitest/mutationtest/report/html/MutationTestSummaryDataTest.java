@@ -138,6 +138,21 @@ public class MutationTestSummaryDataTest {
     assertEquals(75, this.testee.getTotals().getTestStrength());
   }
 
+  @Test
+  public void shouldLeaveMutationsNotRunOutOfTotals() {
+    this.testee = buildSummaryDataWithMutationResults(makeClass(),
+            aMutationResult(DetectionStatus.NO_COVERAGE),
+            aMutationResult(DetectionStatus.KILLED),
+            aMutationResult(DetectionStatus.SURVIVED),
+            aMutationResult(DetectionStatus.NOT_RUN)
+    );
+    final MutationTotals actual = this.testee.getTotals();
+    assertEquals(3, actual.getNumberOfMutations());
+    assertEquals(1, actual.getNumberOfMutationsDetected());
+    assertEquals(2, actual.getNumberOfMutationsWithCoverage());
+    assertEquals(50, actual.getTestStrength());
+  }
+
   @Test
   public void shouldReturnSortedListOfMutators() {
     this.testee = buildSummaryDataMutators();
@@ -95,7 +95,9 @@ public class AbstractPitMojo extends AbstractMojo {
 
   /**
    * File to read history from for incremental analysis (can be same as output
-   * file)
+   * file). Coverage is only gathered for tests that previously reached the
+   * classes under test or a changed class recorded in the history. Changes to
+   * other classes, such as helpers or library classes, are not detected.
    */
   @Parameter(property = "historyInputFile")
   private File                        historyInputFile;
@@ -125,6 +127,31 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "1", property = "threads")
   private int                         threads;
 
+  /**
+   * Addresses, as host:port, of agents on which to launch minions
+   */
+  @Parameter(property = "agents")
+  private ArrayList<String>           agents;
+
+  /**
+   * Token shared with the agents, as set in their PIT_AGENT_TOKEN environment
+   * variable
+   */
+  @Parameter(property = "agentToken")
+  private String                      agentToken;
+
+  /**
+   * Percentage of mutants to analyse, sampled by class, method and mutator
+   */
+  @Parameter(defaultValue = "100", property = "sampleRate")
+  private int                         sampleRate;
+
+  /**
+   * Seed from which the sample of mutants is drawn
+   */
+  @Parameter(defaultValue = "0", property = "sampleSeed")
+  private int                         sampleSeed;
+
   /**
    * Mutate static initializers
    */
@@ -225,6 +252,26 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "fullMutationMatrix", defaultValue = "false")
 
   private boolean                     fullMutationMatrix;
+
+  /**
+   * When true mutants are switched between by setting an id within a single
+   * instrumented class rather than by redefining the class for each mutant.
+   * Mutants that cannot be expressed this way are still hot swapped.
+   */
+  @Parameter(property = "mutantSchemata", defaultValue = "false")
+  private boolean                     mutantSchemata;
+
+  /**
+   * When true minions are started with a class data sharing archive recorded
+   * by the first minion of an analysis and cached in the report directory.
+   * Requires Java 11 or later and is ignored when the classpath jar is used.
+   * Current JVMs only share dependencies placed before the test and code
+   * directories on the class path, so for most builds only classes from the
+   * JDK and PIT are shared.
+   */
+  @Parameter(property = "classDataSharing", defaultValue = "false")
+  private boolean                     classDataSharing;
+
   /**
    * Maximum number of mutations to include in a single analysis unit.
    * 
@@ -241,6 +288,12 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "false", property = "exportLineCoverage")
   private boolean                     exportLineCoverage;
 
+  /**
+   * Export a Chrome trace event file of where time was spent
+   */
+  @Parameter(defaultValue = "false", property = "exportTrace")
+  private boolean                     exportTrace;
+
   /**
    * Mutation score threshold at which to fail build
    */
@@ -258,6 +311,22 @@ public class AbstractPitMojo extends AbstractMojo {
    */
   @Parameter(defaultValue = "-1", property = "maxSurviving")
   private int                         maxSurviving = -1;
+
+  /**
+   * Time after the start of the analysis at which no further mutations are
+   * analysed, such as 15m or 90s. Mutations that are not analysed are
+   * reported with a status of NOT_RUN. Zero for no limit.
+   */
+  @Parameter(defaultValue = "0", property = "maxRunTime")
+  private String                      maxRunTime;
+
+  /**
+   * When true, analysis stops once the mutation threshold, test strength
+   * threshold and maximum surviving mutants are certain to pass or certain to
+   * fail. Mutations not analysed are reported with a status of NOT_RUN.
+   */
+  @Parameter(defaultValue = "false", property = "earlyTermination")
+  private boolean                     earlyTermination;
     
   /**
    * Line coverage threshold at which to fail build
@@ -543,6 +612,22 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.threads;
   }
 
+  public ArrayList<String> getAgents() {
+    return withoutNulls(this.agents);
+  }
+
+  public String getAgentToken() {
+    return this.agentToken;
+  }
+
+  public int getSampleRate() {
+    return this.sampleRate;
+  }
+
+  public int getSampleSeed() {
+    return this.sampleSeed;
+  }
+
   public boolean isMutateStaticInitializers() {
     return this.mutateStaticInitializers;
   }
@@ -611,6 +696,34 @@ public class AbstractPitMojo extends AbstractMojo {
     this.fullMutationMatrix = fullMutationMatrix;
 }
 
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public String getMaxRunTime() {
+    return this.maxRunTime;
+  }
+
+  public boolean isEarlyTermination() {
+    return this.earlyTermination;
+  }
+
+  public int getMutationThreshold() {
+    return this.mutationThreshold;
+  }
+
+  public int getTestStrengthThreshold() {
+    return this.testStrengthThreshold;
+  }
+
+  public int getMaxSurviving() {
+    return this.maxSurviving;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public int getMutationUnitSize() {
     return this.mutationUnitSize;
   }
@@ -639,6 +752,10 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.exportLineCoverage;
   }
 
+  public boolean isExportTrace() {
+    return this.exportTrace;
+  }
+
   protected RunDecision shouldRun() {
     RunDecision decision = new RunDecision();
 
@@ -35,6 +35,7 @@ import org.pitest.classpath.DirectoryClassPathRoot;
 import java.util.function.Function;
 import org.pitest.functional.FCollection;
 import java.util.function.Predicate;
+import org.pitest.mutationtest.config.Durations;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.Glob;
@@ -108,6 +109,12 @@ public class MojoToReportOptionsConverter {
     data.setExcludedTestClasses(globStringsToPredicates(this.mojo
         .getExcludedTestClasses()));
     data.setNumberOfThreads(this.mojo.getThreads());
+    if (this.mojo.getAgents() != null) {
+      data.setAgents(this.mojo.getAgents());
+    }
+    data.setAgentToken(this.mojo.getAgentToken());
+    data.setSampleRate(this.mojo.getSampleRate());
+    data.setSampleSeed(this.mojo.getSampleSeed());
     data.setExcludedRunners(this.mojo.getExcludedRunners());
 
     data.setReportDir(this.mojo.getReportsDirectory().getAbsolutePath());
@@ -135,14 +142,24 @@ public class MojoToReportOptionsConverter {
     setTestGroups(data);
 
     data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setClassDataSharing(this.mojo.isClassDataSharing());
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    data.setMutationThreshold(this.mojo.getMutationThreshold());
+    data.setTestStrengthThreshold(this.mojo.getTestStrengthThreshold());
+    data.setMaximumAllowedSurvivors(this.mojo.getMaxSurviving());
+    data.setEarlyTermination(this.mojo.isEarlyTermination());
+    if (this.mojo.getMaxRunTime() != null) {
+      data.setMaxRunTime(Durations.toMillis(this.mojo.getMaxRunTime()));
+    }
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setExportTrace(this.mojo.isExportTrace());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
@@ -287,6 +287,35 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(true, actual.isFullMutationMatrix());
   }
 
+  public void testParsesMutantSchemata() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertEquals(true, actual.isMutantSchemata());
+  }
+
+  public void testParsesClassDataSharing() {
+    final ReportOptions actual = parseConfig("<classDataSharing>true</classDataSharing>");
+    assertEquals(true, actual.isClassDataSharing());
+  }
+
+  public void testParsesMaxRunTime() {
+    final ReportOptions actual = parseConfig("<maxRunTime>90s</maxRunTime>");
+    assertEquals(90000, actual.getMaxRunTime());
+  }
+
+  public void testParsesEarlyTermination() {
+    final ReportOptions actual = parseConfig("<earlyTermination>true</earlyTermination>");
+    assertEquals(true, actual.isEarlyTermination());
+  }
+
+  public void testPassesThresholdsForEarlyTermination() {
+    final ReportOptions actual = parseConfig("<mutationThreshold>80</mutationThreshold>"
+        + "<testStrengthThreshold>70</testStrengthThreshold>"
+        + "<maxSurviving>3</maxSurviving>");
+    assertEquals(80, actual.getMutationThreshold());
+    assertEquals(70, actual.getTestStrengthThreshold());
+    assertEquals(3, actual.getMaximumAllowedSurvivors());
+  }
+
   public void testParsesMutationUnitSize() {
     final ReportOptions actual = parseConfig("<mutationUnitSize>50</mutationUnitSize>");
     assertEquals(50, actual.getMutationUnitSize());
@@ -333,6 +362,39 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesAgents() {
+    final ReportOptions actual = parseConfig(
+        "<agents><param>hosta:8123</param><param>hostb:8123</param></agents>");
+    assertThat(actual.getAgents()).containsExactly("hosta:8123", "hostb:8123");
+  }
+
+  public void testParsesAgentToken() {
+    final ReportOptions actual = parseConfig("<agentToken>secret</agentToken>");
+    assertEquals("secret", actual.getAgentToken());
+  }
+
+  public void testDefaultsToNoAgents() {
+    final ReportOptions actual = parseConfig("");
+    assertThat(actual.getAgents()).isEmpty();
+  }
+
+  public void testParsesSampleRateAndSeed() {
+    final ReportOptions actual = parseConfig(
+        "<sampleRate>10</sampleRate><sampleSeed>42</sampleSeed>");
+    assertEquals(10, actual.getSampleRate());
+    assertEquals(42, actual.getSampleSeed());
+  }
+
+  public void testParsesTraceExportFlagWhenSet() {
+    final ReportOptions actual = parseConfig("<exportTrace>true</exportTrace>");
+    assertTrue(actual.shouldExportTrace());
+  }
+
+  public void testParsesTraceExportFlagWhenNotSet() {
+    final ReportOptions actual = parseConfig("<exportTrace>false</exportTrace>");
+    assertFalse(actual.shouldExportTrace());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
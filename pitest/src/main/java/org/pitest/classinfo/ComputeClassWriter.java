@@ -31,13 +31,9 @@
  */
 package org.pitest.classinfo;
 
-import java.util.Map;
-
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
-import org.objectweb.asm.Opcodes;
-import java.util.Optional;
-import org.pitest.util.PitError;
+import org.pitest.classinfo.TypeHierarchy.TypeInfo;
 
 /**
  * A ClassWriter that computes the common super class of two classes without
@@ -46,44 +42,47 @@ import org.pitest.util.PitError;
  * @author Eric Bruneton
  *
  *         Modified to match behaviour of default ClassWriter and cache already
- *         calculated values
+ *         calculated values and the type hierarchy they are calculated from
  */
 public class ComputeClassWriter extends ClassWriter {
 
   private final ClassByteArraySource bytes;
-  private final Map<String, String>  cache;
+  private final TypeHierarchy        hierarchy;
 
   public ComputeClassWriter(final ClassByteArraySource bytes,
-      final Map<String, String> cache, final int flags) {
+      final TypeHierarchy hierarchy, final int flags) {
     super(flags);
     this.bytes = bytes;
-    this.cache = cache;
+    this.hierarchy = hierarchy;
+  }
+
+  /**
+   * Creates a writer that copies methods the class visitor chain passes
+   * through unchanged directly from the original bytes, without computing
+   * their frames again.
+   */
+  public ComputeClassWriter(final ClassReader reader,
+      final ClassByteArraySource bytes, final TypeHierarchy hierarchy,
+      final int flags) {
+    super(reader, flags);
+    this.bytes = bytes;
+    this.hierarchy = hierarchy;
   }
 
   @Override
   protected String getCommonSuperClass(final String type1, final String type2) {
-    final String key = type1 + "!_!" + type2;
-    final String previous = this.cache.get(key);
-    if (previous != null) {
-      return previous;
-    }
-
-    final ClassReader info1 = typeInfo(type1);
-    final ClassReader info2 = typeInfo(type2);
-
-    final String result = getCommonSuperClass(type1, info1, type2, info2);
-    this.cache.put(key, result);
-    return result;
-
+    return this.hierarchy.commonSuperClass(type1, type2,
+        () -> getCommonSuperClass(type1, typeInfo(type1), type2,
+            typeInfo(type2)));
   }
 
   private String getCommonSuperClass(final String type1,
-      final ClassReader info1, final String type2, final ClassReader info2) {
-    if (isInterface(info1)) {
+      final TypeInfo info1, final String type2, final TypeInfo info2) {
+    if (info1.isInterface()) {
       if (typeImplements(type2, info2, type1)) {
         return type1;
       } else {
-        if (isInterface(info2)) {
+        if (info2.isInterface()) {
           if (typeImplements(type1, info1, type2)) {
             return type2;
           } else {
@@ -119,24 +118,20 @@ public class ComputeClassWriter extends ClassWriter {
 
   }
 
-  private static boolean isInterface(final ClassReader info1) {
-    return (info1.getAccess() & Opcodes.ACC_INTERFACE) != 0;
-  }
-
   /**
    * Returns the internal names of the ancestor classes of the given type.
    *
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the TypeInfo corresponding to 'type'.
    * @return a StringBuilder containing the ancestor classes of 'type',
    *         separated by ';'. The returned string has the following format:
    *         ";type1;type2 ... ;typeN", where type1 is 'type', and typeN is a
    *         direct subclass of Object. If 'type' is Object, the returned string
    *         is empty.
    */
-  private StringBuilder typeAncestors(String type, ClassReader info) {
+  private StringBuilder typeAncestors(String type, TypeInfo info) {
     final StringBuilder b = new StringBuilder();
     while (!"java/lang/Object".equals(type)) {
       b.append(';').append(type);
@@ -152,12 +147,12 @@ public class ComputeClassWriter extends ClassWriter {
    * @param type
    *          the internal name of a class or interface.
    * @param info
-   *          the ClassReader corresponding to 'type'.
+   *          the TypeInfo corresponding to 'type'.
    * @param itf
    *          the internal name of a interface.
    * @return true if 'type' implements directly or indirectly 'itf'
    */
-  private boolean typeImplements(String type, ClassReader info, final String itf) {
+  private boolean typeImplements(String type, TypeInfo info, final String itf) {
     final String cleanItf = itf.replace(".", "/");
     while (!"java/lang/Object".equals(type)) {
       final String[] itfs = info.getInterfaces();
@@ -178,17 +173,13 @@ public class ComputeClassWriter extends ClassWriter {
   }
 
   /**
-   * Returns a ClassReader corresponding to the given class or interface.
+   * Returns the TypeInfo corresponding to the given class or interface.
    *
    * @param type
    *          the internal name of a class or interface.
-   * @return the ClassReader corresponding to 'type'.
+   * @return the TypeInfo corresponding to 'type'.
    */
-  private ClassReader typeInfo(final String type) {
-    final Optional<byte[]> maybeBytes = this.bytes.getBytes(type);
-    if (!maybeBytes.isPresent()) {
-      throw new PitError("Could not find class defintiion for " + type);
-    }
-    return new ClassReader(maybeBytes.get());
+  private TypeInfo typeInfo(final String type) {
+    return this.hierarchy.typeInfo(type, this.bytes);
   }
 }
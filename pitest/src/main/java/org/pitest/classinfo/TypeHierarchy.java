@@ -0,0 +1,78 @@
+package org.pitest.classinfo;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.pitest.util.PitError;
+
+/**
+ * Thread safe index of the super class, interfaces and access flags of types,
+ * and of the common super classes calculated from them, for use by
+ * {@link ComputeClassWriter}.
+ *
+ * Each type is read only once, however many classes are written that refer to
+ * it, so a single instance should be shared by all the writers in a JVM that
+ * read classes from the same class path.
+ */
+public class TypeHierarchy {
+
+  private final ConcurrentMap<String, TypeInfo> types              = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, String>   commonSuperClasses = new ConcurrentHashMap<>();
+
+  String commonSuperClass(final String type1, final String type2,
+      final Supplier<String> calculation) {
+    final String key = type1 + "!_!" + type2;
+    final String previous = this.commonSuperClasses.get(key);
+    if (previous != null) {
+      return previous;
+    }
+    final String result = calculation.get();
+    this.commonSuperClasses.put(key, result);
+    return result;
+  }
+
+  TypeInfo typeInfo(final String type, final ClassByteArraySource bytes) {
+    return this.types.computeIfAbsent(type, t -> read(t, bytes));
+  }
+
+  private static TypeInfo read(final String type,
+      final ClassByteArraySource bytes) {
+    final Optional<byte[]> maybeBytes = bytes.getBytes(type);
+    if (!maybeBytes.isPresent()) {
+      throw new PitError("Could not find class defintiion for " + type);
+    }
+    final ClassReader reader = new ClassReader(maybeBytes.get());
+    return new TypeInfo(reader.getAccess(), reader.getSuperName(),
+        reader.getInterfaces());
+  }
+
+  static final class TypeInfo {
+    private final int      access;
+    private final String   superName;
+    private final String[] interfaces;
+
+    TypeInfo(final int access, final String superName,
+        final String[] interfaces) {
+      this.access = access;
+      this.superName = superName;
+      this.interfaces = interfaces;
+    }
+
+    boolean isInterface() {
+      return (this.access & Opcodes.ACC_INTERFACE) != 0;
+    }
+
+    String getSuperName() {
+      return this.superName;
+    }
+
+    String[] getInterfaces() {
+      return this.interfaces;
+    }
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.pitest.classpath;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +27,10 @@ public class CodeSource implements ClassInfoSource {
   private final ProjectClassPaths   classPath;
   private final Repository          classRepository;
 
+  // the test classes do not change during an analysis, but finding them
+  // means scanning the test class path
+  private volatile List<ClassInfo>  tests;
+
   public CodeSource(final ProjectClassPaths classPath) {
     this(classPath, new Repository(new ClassPathByteArraySource(
         classPath.getClassPath())));
@@ -50,10 +55,15 @@ public class CodeSource implements ClassInfoSource {
   }
 
   public List<ClassInfo> getTests() {
-    return this.classPath.test().stream()
-        .flatMap(nameToClassInfo())
-        .filter(ClassInfo.matchIfAbstract().negate())
-        .collect(Collectors.toList());
+    List<ClassInfo> found = this.tests;
+    if (found == null) {
+      found = Collections.unmodifiableList(this.classPath.test().stream()
+          .flatMap(nameToClassInfo())
+          .filter(ClassInfo.matchIfAbstract().negate())
+          .collect(Collectors.toList()));
+      this.tests = found;
+    }
+    return found;
   }
 
   public ClassPath getClassPath() {
@@ -3,9 +3,12 @@ package org.pitest.coverage;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.engine.Location;
 
+import java.io.Serializable;
 import java.util.Objects;
 
-public final class BlockLocation {
+public final class BlockLocation implements Serializable {
+
+  private static final long serialVersionUID = 1L;
 
   private final Location location;
   private final int      block;
@@ -3,22 +3,21 @@ package org.pitest.coverage;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.security.ProtectionDomain;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.classpath.ClassloaderByteArraySource;
 
 import sun.pitest.CodeCoverageStore;
 
 public class CoverageTransformer implements ClassFileTransformer {
 
-  private final Predicate<String>   filter;
-  private final Map<String, String> computeCache = new ConcurrentHashMap<>();
+  private final Predicate<String> filter;
+  private final TypeHierarchy     hierarchy = new TypeHierarchy();
 
   public CoverageTransformer(final Predicate<String> filter) {
     this.filter = filter;
@@ -54,7 +53,7 @@ public class CoverageTransformer implements ClassFileTransformer {
     in which case we will just allow that previous coverage tracking to stand.
      */
     final ClassWriter writer = new ComputeClassWriter(
-        new ClassloaderByteArraySource(loader), this.computeCache,
+        new ClassloaderByteArraySource(loader), this.hierarchy,
         FrameOptions.pickFlags(classfileBuffer));
 
     final int id = CodeCoverageStore.registerClass(className);
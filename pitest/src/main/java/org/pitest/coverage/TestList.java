@@ -0,0 +1,67 @@
+package org.pitest.coverage;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, array backed list of tests. As instances cannot change they
+ * may be shared between all mutations covered by the same tests.
+ */
+public final class TestList extends AbstractList<TestInfo> implements
+    RandomAccess, Serializable {
+
+  private static final long     serialVersionUID = 1L;
+
+  private static final TestList EMPTY            = new TestList(
+      new TestInfo[0]);
+
+  private final TestInfo[]      tests;
+
+  private TestList(final TestInfo[] tests) {
+    this.tests = tests;
+  }
+
+  public static TestList empty() {
+    return EMPTY;
+  }
+
+  public static TestList of(final Collection<TestInfo> tests) {
+    if (tests instanceof TestList) {
+      return (TestList) tests;
+    }
+    if (tests.isEmpty()) {
+      return EMPTY;
+    }
+    return new TestList(tests.toArray(new TestInfo[tests.size()]));
+  }
+
+  public TestList append(final Collection<TestInfo> more) {
+    if (more.isEmpty()) {
+      return this;
+    }
+    if (isEmpty()) {
+      return of(more);
+    }
+    final TestInfo[] combined = new TestInfo[this.tests.length + more.size()];
+    System.arraycopy(this.tests, 0, combined, 0, this.tests.length);
+    int i = this.tests.length;
+    for (final TestInfo each : more) {
+      combined[i] = each;
+      i++;
+    }
+    return new TestList(combined);
+  }
+
+  @Override
+  public TestInfo get(final int index) {
+    return this.tests[index];
+  }
+
+  @Override
+  public int size() {
+    return this.tests.length;
+  }
+
+}
@@ -1,10 +1,11 @@
 package org.pitest.coverage.execute;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.FCollection;
@@ -26,35 +27,25 @@ class DependencyFilter {
     if (this.analyser.getMaxDistance() < 0) {
       return tus;
     } else {
-      return FCollection.filter(tus, isWithinReach());
+      final Map<String, Boolean> inReach = tus.stream()
+          .map(testUnit -> testUnit.getDescription().getFirstTestClass())
+          .distinct()
+          .parallel()
+          .collect(Collectors.toConcurrentMap(Function.identity(),
+              this::isWithinReach));
+      return FCollection.filter(tus, testUnit -> inReach
+          .get(testUnit.getDescription().getFirstTestClass()));
     }
   }
 
-  private Predicate<TestUnit> isWithinReach() {
-
-    return new Predicate<TestUnit>() {
-      private final Map<String, Boolean> cache = new HashMap<>();
-
-      @Override
-      public boolean test(final TestUnit testUnit) {
-        final String testClass = testUnit.getDescription().getFirstTestClass();
-        try {
-          if (this.cache.containsKey(testClass)) {
-            return this.cache.get(testClass);
-          } else {
-            final boolean inReach = !DependencyFilter.this.analyser
-                .extractCallDependenciesForPackages(testClass,
-                    DependencyFilter.this.filter).isEmpty();
-            this.cache.put(testClass, inReach);
-            return inReach;
-          }
-
-        } catch (final IOException e) {
-          throw Unchecked.translateCheckedException(e);
-        }
-      }
-
-    };
+  private boolean isWithinReach(final String testClass) {
+    try {
+      return !this.analyser
+          .extractCallDependenciesForPackages(testClass, this.filter)
+          .isEmpty();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
 }
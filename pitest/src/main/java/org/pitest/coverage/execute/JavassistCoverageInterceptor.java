@@ -17,13 +17,12 @@ package org.pitest.coverage.execute;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.AlreadyInstrumentedException;
 import org.pitest.coverage.CoverageClassVisitor;
@@ -35,7 +34,7 @@ import sun.pitest.CodeCoverageStore;
 
 public final class JavassistCoverageInterceptor {
 
-  private static final Map<String, String> COMPUTE_CACHE = new ConcurrentHashMap<>();
+  private static final TypeHierarchy HIERARCHY = new TypeHierarchy();
 
   private JavassistCoverageInterceptor() {
 
@@ -70,7 +69,7 @@ public final class JavassistCoverageInterceptor {
       final String className, final byte[] classfileBuffer) {
     final ClassReader reader = new ClassReader(classfileBuffer);
     final ClassWriter writer = new ComputeClassWriter(
-        new ClassloaderByteArraySource(loader), COMPUTE_CACHE,
+        new ClassloaderByteArraySource(loader), HIERARCHY,
         FrameOptions.pickFlags(classfileBuffer));
 
     // The transformed classes will be given a different id than the one already loaded.
@@ -0,0 +1,143 @@
+package org.pitest.dependency;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.bytecode.NullVisitor;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.util.Log;
+
+/**
+ * Lazily built graph of the call dependencies between classes.
+ *
+ * Each class is parsed at most once, the first time its dependencies are
+ * required, and its dependencies are stored as an array of integer ids. The
+ * graph is safe for concurrent use, so may be shared between threads querying
+ * from different starting classes.
+ */
+public class DependencyGraph {
+
+  private static final Logger               LOG   = Log.getLogger();
+
+  private static final int[]                NONE  = new int[0];
+
+  private final ClassByteArraySource        classToBytes;
+  private final Predicate<DependencyAccess> filter;
+
+  private final Map<String, Integer>        ids   = new ConcurrentHashMap<>();
+  private final List<String>                names = new ArrayList<>();
+  private final Map<Integer, int[]>         edges = new ConcurrentHashMap<>();
+
+  public DependencyGraph(final ClassByteArraySource classToBytes,
+      final Predicate<DependencyAccess> filter) {
+    this.classToBytes = classToBytes;
+    this.filter = filter;
+  }
+
+  /**
+   * Returns the internal names of all classes reachable from the supplied
+   * class within the given number of steps. The supplied class is not included.
+   *
+   * @param clazz
+   *          name of class to start from, in internal or java form
+   * @param maxDistance
+   *          maximum number of steps to take, or 0 for no limit
+   */
+  public Set<String> reachableFrom(final String clazz, final int maxDistance) {
+    final int start = idFor(clazz.replace('.', '/'));
+    final BitSet visited = new BitSet();
+    visited.set(start);
+
+    int[] frontier = new int[] { start };
+    int distance = 0;
+    final Set<String> reached = new HashSet<>();
+    while ((frontier.length != 0) && ((maxDistance == 0) || (distance < maxDistance))) {
+      int[] next = new int[16];
+      int size = 0;
+      for (final int each : frontier) {
+        for (final int dependency : dependenciesOf(each)) {
+          if (!visited.get(dependency)) {
+            visited.set(dependency);
+            reached.add(nameOf(dependency));
+            if (size == next.length) {
+              next = Arrays.copyOf(next, size * 2);
+            }
+            next[size] = dependency;
+            size++;
+          }
+        }
+      }
+      frontier = Arrays.copyOf(next, size);
+      distance++;
+    }
+    return reached;
+  }
+
+  private int[] dependenciesOf(final int id) {
+    final int[] known = this.edges.get(id);
+    if (known != null) {
+      return known;
+    }
+    // classes may occasionally be parsed twice by racing threads, which is
+    // harmless as both will produce the same result
+    final int[] parsed = parse(nameOf(id));
+    this.edges.putIfAbsent(id, parsed);
+    return parsed;
+  }
+
+  private int[] parse(final String clazz) {
+    final Optional<byte[]> bytes = this.classToBytes.getBytes(clazz);
+    if (!bytes.isPresent()) {
+      LOG.warning("No bytes found for " + clazz);
+      return NONE;
+    }
+
+    final Set<String> owners = new HashSet<>();
+    final DependencyClassVisitor dcv = new DependencyClassVisitor(
+        new NullVisitor(), a -> {
+          final String owner = a.getDest().getOwner();
+          if (!owner.equals(clazz) && this.filter.test(a)) {
+            owners.add(owner);
+          }
+        });
+    new ClassReader(bytes.get()).accept(dcv, ClassReader.EXPAND_FRAMES);
+
+    final int[] dependencies = new int[owners.size()];
+    int i = 0;
+    for (final String each : owners) {
+      dependencies[i] = idFor(each);
+      i++;
+    }
+    return dependencies;
+  }
+
+  private int idFor(final String name) {
+    final Integer id = this.ids.get(name);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this.names) {
+      return this.ids.computeIfAbsent(name, n -> {
+        this.names.add(n);
+        return this.names.size() - 1;
+      });
+    }
+  }
+
+  private String nameOf(final int id) {
+    synchronized (this.names) {
+      return this.names.get(id);
+    }
+  }
+
+}
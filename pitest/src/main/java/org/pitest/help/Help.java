@@ -35,7 +35,11 @@ public enum Help {
   UNKNOWN_MUTATOR(
       "Mutator or group %s is unknown. Check PIT configuration and try again."),
   NO_JUNIT_EXCLUDE_RUNNERS(
-      "Exclude Runners option requires JUnit 4.6 or above.");
+      "Exclude Runners option requires JUnit 4.6 or above."),
+  BAD_DURATION(
+      "Duration %s could not be understood. Give a whole number followed by an optional unit of ms, s, m or h, such as 15m. Numbers without a unit are minutes."),
+  BAD_SAMPLE_RATE(
+      "Sample rate %s is not a percentage. Give a whole number from 1 to 100.");
 
   private static final String URL = "http://pitest.org";
   private final String        text;
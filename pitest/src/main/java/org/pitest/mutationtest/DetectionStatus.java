@@ -65,7 +65,15 @@ public enum DetectionStatus {
   /**
    * Mutation is not covered by any test.
    */
-  NO_COVERAGE(false);
+  NO_COVERAGE(false),
+
+  /**
+   * Mutation was not analysed because analysis stopped early, either as the
+   * time allowed for the run had been spent or as the outcome of the run
+   * against its thresholds had already been decided. Not running a mutation
+   * says nothing about the tests, so these are left out of scores and totals.
+   */
+  NOT_RUN(false);
 
   private final boolean detected;
 
@@ -15,14 +15,15 @@
 package org.pitest.mutationtest.engine;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.ClassLine;
 import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestList;
 import org.pitest.util.StringUtil;
 
 /**
@@ -32,14 +33,16 @@ public final class MutationDetails implements Serializable {
 
   private static final long serialVersionUID = 1L;
 
-  private final MutationIdentifier  id;
-  private final String              filename;
-  private final int                 block;
-  private final int                 lineNumber;
-  private final String              description;
-  private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
-  private final boolean             isInFinallyBlock;
-  private final PoisonStatus        poison;
+  private final MutationIdentifier    id;
+  private final String                filename;
+  private final int                   block;
+  private final int                   lineNumber;
+  private final String                description;
+  private TestList                    testsInOrder = TestList.empty();
+  private final boolean               isInFinallyBlock;
+  private final PoisonStatus          poison;
+  private final List<MutationDetails> duplicates;
+  private final List<MutationDetails> subsumed;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -49,6 +52,16 @@ public final class MutationDetails implements Serializable {
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block,
       final boolean isInFinallyBlock, final PoisonStatus poison) {
+    this(id, filename, description, lineNumber, block, isInFinallyBlock,
+        poison, Collections.<MutationDetails> emptyList(),
+        Collections.<MutationDetails> emptyList());
+  }
+
+  private MutationDetails(final MutationIdentifier id, final String filename,
+      final String description, final int lineNumber, final int block,
+      final boolean isInFinallyBlock, final PoisonStatus poison,
+      final List<MutationDetails> duplicates,
+      final List<MutationDetails> subsumed) {
     this.id = id;
     this.description = Objects.requireNonNull(description);
     this.filename = defaultFilenameIfNotSupplued(filename);
@@ -56,6 +69,8 @@ public final class MutationDetails implements Serializable {
     this.block = block;
     this.isInFinallyBlock = isInFinallyBlock;
     this.poison = poison;
+    this.duplicates = duplicates;
+    this.subsumed = subsumed;
   }
 
   @Override
@@ -67,11 +82,19 @@ public final class MutationDetails implements Serializable {
   }
 
   public MutationDetails withDescription(String desc) {
-    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison);
+    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, this.duplicates, this.subsumed);
   }
 
   public MutationDetails withPoisonStatus(PoisonStatus poisonStatus) {
-    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus);
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus, this.duplicates, this.subsumed);
+  }
+
+  public MutationDetails withDuplicates(List<MutationDetails> duplicates) {
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, duplicates, this.subsumed);
+  }
+
+  public MutationDetails withSubsumed(List<MutationDetails> subsumed) {
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, this.duplicates, subsumed);
   }
 
   /**
@@ -172,14 +195,56 @@ public final class MutationDetails implements Serializable {
   }
 
   /**
-   * Adds tests to the list of covering tests
+   * Adds tests to the list of covering tests. If no tests have yet been added
+   * and a TestList is supplied it is shared rather than copied.
    *
    * @param testNames
    *          The tests to add
    */
   public void addTestsInOrder(final Collection<TestInfo> testNames) {
-    this.testsInOrder.addAll(testNames);
-    this.testsInOrder.trimToSize();
+    this.testsInOrder = this.testsInOrder.append(testNames);
+  }
+
+  /**
+   * Returns mutants known to behave identically to this one, which are not run
+   * but are given its result
+   *
+   * @return mutants duplicating this one
+   */
+  public List<MutationDetails> getDuplicates() {
+    return this.duplicates;
+  }
+
+  /**
+   * Returns mutants that are assumed to be killed whenever this one is. They
+   * are run only if this mutant is not killed.
+   *
+   * @return mutants subsumed by this one
+   */
+  public List<MutationDetails> getSubsumed() {
+    return this.subsumed;
+  }
+
+  /**
+   * Returns the number of mutants a result will be reported for once this one
+   * is analysed
+   *
+   * @return one for this mutant, plus those of its duplicates and of the
+   *         mutants it subsumes
+   */
+  public int getNumberOfMutants() {
+    int count = 1;
+    for (final MutationDetails each : this.duplicates) {
+      count += each.getNumberOfMutants();
+    }
+    for (final MutationDetails each : this.subsumed) {
+      count += each.getNumberOfMutants();
+    }
+    return count;
+  }
+
+  public PoisonStatus getPoisonStatus() {
+    return this.poison;
   }
 
   /**
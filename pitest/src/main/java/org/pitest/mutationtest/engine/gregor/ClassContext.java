@@ -86,6 +86,11 @@ class ClassContext implements BlockCounter {
   }
 
   public void addMutation(final MutationDetails details) {
+    // when a single mutant is being created, the details of the other
+    // mutations found along the way are not needed
+    if (this.target.isPresent() && !details.matchesId(this.target.get())) {
+      return;
+    }
     this.mutations.add(details);
 
   }
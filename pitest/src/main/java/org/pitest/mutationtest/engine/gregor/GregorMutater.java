@@ -19,10 +19,8 @@ import static org.pitest.functional.prelude.Prelude.and;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
@@ -35,6 +33,7 @@ import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
@@ -43,7 +42,7 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public class GregorMutater implements Mutater {
 
-  private final Map<String, String>       computeCache   = new HashMap<>();
+  private final TypeHierarchy             hierarchy      = new TypeHierarchy();
   private final Predicate<MethodInfo>     filter;
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<>();
@@ -98,8 +97,9 @@ public class GregorMutater implements Mutater {
         .asJavaName());
 
     final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    // methods other than the one containing the mutant are copied unchanged
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
+        this.hierarchy, FrameOptions.pickFlags(bytes.get()));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
@@ -62,14 +62,20 @@ class MutatingClassVisitor extends ClassVisitor {
       final String methodDescriptor, final String signature,
       final String[] exceptions) {
 
-    final MethodMutationContext methodContext = new MethodMutationContext(
-        this.context, Location.location(
-            ClassName.fromString(this.context.getClassInfo().getName()),
-            MethodName.fromString(methodName), methodDescriptor));
+    final Location location = Location.location(
+        ClassName.fromString(this.context.getClassInfo().getName()),
+        MethodName.fromString(methodName), methodDescriptor);
 
     final MethodVisitor methodVisitor = this.cv.visitMethod(access, methodName,
         methodDescriptor, signature, exceptions);
 
+    if (!isTargeted(location)) {
+      return methodVisitor;
+    }
+
+    final MethodMutationContext methodContext = new MethodMutationContext(
+        this.context, location);
+
     final MethodInfo info = new MethodInfo()
     .withOwner(this.context.getClassInfo()).withAccess(access)
     .withMethodName(methodName).withMethodDescriptor(methodDescriptor);
@@ -82,6 +88,14 @@ class MutatingClassVisitor extends ClassVisitor {
 
   }
 
+  // when a single mutant is being created only the method containing it needs
+  // to be tracked and mutated, as instruction and block counts start afresh
+  // in each method
+  private boolean isTargeted(final Location location) {
+    return this.context.getTargetMutation()
+        .map(id -> id.getLocation().equals(location)).orElse(true);
+  }
+
   private static MethodVisitor wrapWithDecorators(
       MethodMutationContext methodContext, final MethodVisitor mv, final MethodInfo methodInfo) {
     return wrapWithBlockTracker(methodContext,
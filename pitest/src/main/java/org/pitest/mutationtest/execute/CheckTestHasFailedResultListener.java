@@ -81,7 +81,10 @@ public class CheckTestHasFailedResultListener implements TestListener {
 
   @Override
   public void onRunStart() {
-
+    // allow the listener to be reused for several runs
+    this.succeedingTests.clear();
+    this.failingTests.clear();
+    this.testsRun = 0;
   }
 
 }
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 
@@ -26,16 +27,20 @@ import org.pitest.util.SafeDataOutputStream;
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
+  private final MinionDataWriter     data;
 
   DefaultReporter(final OutputStream w) {
-    this.w = new SafeDataOutputStream(w);
+    this.w = new SafeDataOutputStream(new BufferedOutputStream(w));
+    this.data = new MinionDataWriter(this.w);
   }
 
   @Override
   public synchronized void describe(final MutationIdentifier i)
       throws IOException {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    this.data.writeMutationIdentifier(i);
+    // the parent must know which mutant is running in case the minion dies.
+    // Flushing here also sends the report for the previous mutant
     this.w.flush();
   }
 
@@ -43,9 +48,8 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) throws IOException {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
-    this.w.flush();
+    this.data.writeMutationIdentifier(i);
+    this.data.writeStatus(mutationDetected);
   }
 
   @Override
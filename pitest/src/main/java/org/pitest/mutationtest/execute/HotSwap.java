@@ -31,6 +31,21 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  /**
+   * Puts back the original of the last class mutated, if any.
+   */
+  void restore() {
+    if (this.lastMutatedClass == null) {
+      return;
+    }
+    try {
+      restoreForLoader(this.lastUsedLoader);
+      this.lastMutatedClass = null;
+    } catch (final ClassNotFoundException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Finds the test units for a minion's test classes as they are first needed,
+ * rather than discovering every test class before the first mutant is run.
+ *
+ * Tests are looked for in the class that defines them. If a test is not found
+ * there, or its defining class is not known, every class not yet searched is
+ * searched.
+ */
+class LazyTestUnits implements Function<TestInfo, Optional<TestUnit>> {
+
+  private final Function<Collection<ClassName>, List<TestUnit>> finder;
+  private final Runnable                                        beforeDiscovery;
+  private final Set<ClassName>                                  undiscovered;
+  private final Map<String, TestUnit>                           units = new HashMap<>();
+
+  /**
+   * @param testClasses
+   *          classes that may contain tests
+   * @param finder
+   *          discovers the test units within classes
+   * @param beforeDiscovery
+   *          run before classes are discovered, so that discovery does not
+   *          see a mutant left in place by an earlier test run
+   */
+  LazyTestUnits(final Collection<ClassName> testClasses,
+      final Function<Collection<ClassName>, List<TestUnit>> finder,
+      final Runnable beforeDiscovery) {
+    this.undiscovered = new LinkedHashSet<>(testClasses);
+    this.finder = finder;
+    this.beforeDiscovery = beforeDiscovery;
+  }
+
+  @Override
+  public Optional<TestUnit> apply(final TestInfo test) {
+    TestUnit unit = this.units.get(test.getName());
+    if (unit != null) {
+      return Optional.of(unit);
+    }
+
+    final ClassName definingClass = test.getDefiningClass() == null ? null
+        : ClassName.fromString(test.getDefiningClass());
+    if (definingClass != null && this.undiscovered.contains(definingClass)) {
+      discover(Collections.singletonList(definingClass));
+      unit = this.units.get(test.getName());
+    }
+
+    if (unit == null && !this.undiscovered.isEmpty()) {
+      discover(new ArrayList<>(this.undiscovered));
+      unit = this.units.get(test.getName());
+    }
+    return Optional.ofNullable(unit);
+  }
+
+  int undiscoveredClasses() {
+    return this.undiscovered.size();
+  }
+
+  private void discover(final List<ClassName> classes) {
+    this.beforeDiscovery.run();
+    this.undiscovered.removeAll(classes);
+    for (final TestUnit each : this.finder.apply(classes)) {
+      this.units.put(each.getDescription().getQualifiedName(), each);
+    }
+  }
+
+}
@@ -34,12 +34,13 @@ public class MinionArguments implements Serializable {
   final TimeoutLengthStrategy       timeoutStrategy;
   final boolean                     verbose;
   final boolean                     fullMutationMatrix;
+  final boolean                     mutantSchemata;
   final TestPluginArguments         pitConfig;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
-      final TestPluginArguments pitConfig) {
+      final boolean mutantSchemata, final TestPluginArguments pitConfig) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -47,6 +48,7 @@ public class MinionArguments implements Serializable {
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.mutantSchemata = mutantSchemata;
     this.pitConfig = pitConfig;
   }
 
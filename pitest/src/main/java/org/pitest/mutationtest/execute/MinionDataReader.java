@@ -0,0 +1,172 @@
+package org.pitest.mutationtest.execute;
+
+import static org.pitest.mutationtest.execute.MinionDataWriter.FIRST_REF;
+import static org.pitest.mutationtest.execute.MinionDataWriter.LITERAL;
+import static org.pitest.mutationtest.execute.MinionDataWriter.NULL;
+import static org.pitest.mutationtest.execute.MinionDataWriter.VERSION;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestList;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads data written by a {@link MinionDataWriter}.
+ */
+public class MinionDataReader {
+
+  private static final DetectionStatus[] STATUSES  = DetectionStatus.values();
+  private static final PoisonStatus[]    POISON    = PoisonStatus.values();
+
+  private final SafeDataInputStream      in;
+  private final List<String>             strings   = new ArrayList<>();
+  private final List<TestInfo>           tests     = new ArrayList<>();
+  private final List<TestList>           testLists = new ArrayList<>();
+
+  public MinionDataReader(final SafeDataInputStream in) {
+    this.in = in;
+  }
+
+  public MinionArguments readArguments() {
+    final int version = this.in.readInt();
+    if (version != VERSION) {
+      throw new PitError("Received minion data in format " + version
+          + " but expected " + VERSION
+          + ". Check that only one version of pitest is on the classpath.");
+    }
+    final int numberOfMutations = this.in.readVarInt();
+    final List<MutationDetails> mutations = new ArrayList<>(numberOfMutations);
+    for (int i = 0; i != numberOfMutations; i++) {
+      mutations.add(readMutationDetails());
+    }
+    final int numberOfTestClasses = this.in.readVarInt();
+    final List<ClassName> testClasses = new ArrayList<>(numberOfTestClasses);
+    for (int i = 0; i != numberOfTestClasses; i++) {
+      testClasses.add(ClassName.fromString(readString()));
+    }
+    final String engine = readString();
+    final EngineArguments engineArgs = EngineArguments.arguments()
+        .withMutators(readStrings()).withExcludedMethods(readStrings());
+    final TimeoutLengthStrategy timeoutStrategy = this.in
+        .read(TimeoutLengthStrategy.class);
+    final boolean verbose = this.in.readBoolean();
+    final boolean fullMutationMatrix = this.in.readBoolean();
+    final boolean mutantSchemata = this.in.readBoolean();
+    final TestPluginArguments pitConfig = this.in
+        .read(TestPluginArguments.class);
+    return new MinionArguments(mutations, testClasses, engine, engineArgs,
+        timeoutStrategy, verbose, fullMutationMatrix, mutantSchemata,
+        pitConfig);
+  }
+
+  public MutationIdentifier readMutationIdentifier() {
+    final Location location = Location.location(
+        ClassName.fromString(readString()),
+        MethodName.fromString(readString()), readString());
+    final int numberOfIndexes = this.in.readVarInt();
+    final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+    for (int i = 0; i != numberOfIndexes; i++) {
+      indexes.add(this.in.readVarInt());
+    }
+    return new MutationIdentifier(location, indexes, readString());
+  }
+
+  public MutationStatusTestPair readStatus() {
+    final int numberOfTestsRun = this.in.readVarInt();
+    final DetectionStatus status = STATUSES[this.in.readByte()];
+    return new MutationStatusTestPair(numberOfTestsRun, status, readStrings(),
+        readStrings());
+  }
+
+  private MutationDetails readMutationDetails() {
+    final MutationIdentifier id = readMutationIdentifier();
+    final String filename = readString();
+    final String description = readString();
+    final int lineNumber = this.in.readVarInt();
+    final int block = this.in.readVarInt();
+    final boolean isInFinallyBlock = this.in.readBoolean();
+    final PoisonStatus poison = POISON[this.in.readByte()];
+    final MutationDetails details = new MutationDetails(id, filename,
+        description, lineNumber, block, isInFinallyBlock, poison);
+    details.addTestsInOrder(readTestList());
+    return details;
+  }
+
+  private TestList readTestList() {
+    final int marker = this.in.readVarInt();
+    if (marker != LITERAL) {
+      return this.testLists.get(marker - FIRST_REF);
+    }
+    final int numberOfTests = this.in.readVarInt();
+    final List<TestInfo> testsInOrder = new ArrayList<>(numberOfTests);
+    for (int i = 0; i != numberOfTests; i++) {
+      testsInOrder.add(readTest());
+    }
+    final TestList list = TestList.of(testsInOrder);
+    this.testLists.add(list);
+    return list;
+  }
+
+  private TestInfo readTest() {
+    final int marker = this.in.readVarInt();
+    if (marker != LITERAL) {
+      return this.tests.get(marker - FIRST_REF);
+    }
+    final String definingClass = readString();
+    final String name = readString();
+    final int time = this.in.readVarInt();
+    final Optional<ClassName> testee = Optional.ofNullable(readString())
+        .map(ClassName::fromString);
+    final int blocks = this.in.readVarInt();
+    final TestInfo test = new TestInfo(definingClass, name, time, testee,
+        blocks);
+    this.tests.add(test);
+    return test;
+  }
+
+  private List<String> readStrings() {
+    final int marker = this.in.readVarInt();
+    if (marker == NULL) {
+      return null;
+    }
+    final int size = marker - 1;
+    if (size == 0) {
+      return Collections.emptyList();
+    }
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(readString());
+    }
+    return values;
+  }
+
+  private String readString() {
+    final int marker = this.in.readVarInt();
+    if (marker == NULL) {
+      return null;
+    }
+    if (marker == LITERAL) {
+      final String value = this.in.readString();
+      this.strings.add(value);
+      return value;
+    }
+    return this.strings.get(marker - FIRST_REF);
+  }
+
+}
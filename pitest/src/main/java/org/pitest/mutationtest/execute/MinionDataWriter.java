@@ -0,0 +1,150 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Writes the data exchanged with mutation minions in a compact binary form.
+ *
+ * Strings, tests and shared lists of tests are sent in full the first time they are seen and by
+ * reference afterwards, so must be read back by a single
+ * {@link MinionDataReader} in the same order they were written.
+ */
+public class MinionDataWriter {
+
+  static final int                           VERSION   = 2;
+
+  // markers preceding each string, test or list of tests. Values from
+  // FIRST_REF onwards refer to a value sent earlier
+  static final int                           NULL      = 0;
+  static final int                           LITERAL   = 1;
+  static final int                           FIRST_REF = 2;
+
+  private final SafeDataOutputStream         out;
+  private final Map<String, Integer>         strings   = new HashMap<>();
+  private final Map<TestInfo, Integer>       tests     = new HashMap<>();
+  // test lists are pooled by the test prioritiser so are compared by identity
+  private final Map<List<TestInfo>, Integer> testLists = new IdentityHashMap<>();
+
+  public MinionDataWriter(final SafeDataOutputStream out) {
+    this.out = out;
+  }
+
+  public void writeArguments(final MinionArguments args) {
+    this.out.writeInt(VERSION);
+    this.out.writeVarInt(args.mutations.size());
+    for (final MutationDetails each : args.mutations) {
+      writeMutationDetails(each);
+    }
+    this.out.writeVarInt(args.testClasses.size());
+    for (final ClassName each : args.testClasses) {
+      writeString(each.asJavaName());
+    }
+    writeString(args.engine);
+    writeStrings(args.engineArgs.mutators());
+    writeStrings(args.engineArgs.excludedMethods());
+    this.out.write(args.timeoutStrategy);
+    this.out.writeBoolean(args.verbose);
+    this.out.writeBoolean(args.fullMutationMatrix);
+    this.out.writeBoolean(args.mutantSchemata);
+    this.out.write(args.pitConfig);
+  }
+
+  public void writeMutationIdentifier(final MutationIdentifier id) {
+    final Location location = id.getLocation();
+    writeString(location.getClassName().asJavaName());
+    writeString(location.getMethodName().name());
+    writeString(location.getMethodDesc());
+    final List<Integer> indexes = id.getIndexes();
+    this.out.writeVarInt(indexes.size());
+    for (final Integer each : indexes) {
+      this.out.writeVarInt(each);
+    }
+    writeString(id.getMutator());
+  }
+
+  public void writeStatus(final MutationStatusTestPair status) {
+    this.out.writeVarInt(status.getNumberOfTestsRun());
+    this.out.writeByte((byte) status.getStatus().ordinal());
+    writeStrings(status.getKillingTests());
+    writeStrings(status.getSucceedingTests());
+  }
+
+  private void writeMutationDetails(final MutationDetails details) {
+    writeMutationIdentifier(details.getId());
+    writeString(details.getFilename());
+    writeString(details.getDescription());
+    this.out.writeVarInt(details.getLineNumber());
+    this.out.writeVarInt(details.getBlock());
+    this.out.writeBoolean(details.isInFinallyBlock());
+    this.out.writeByte((byte) details.getPoisonStatus().ordinal());
+    writeTestList(details.getTestsInOrder());
+  }
+
+  private void writeTestList(final List<TestInfo> testList) {
+    final Integer ref = this.testLists.get(testList);
+    if (ref != null) {
+      this.out.writeVarInt(ref);
+      return;
+    }
+    this.out.writeVarInt(LITERAL);
+    this.out.writeVarInt(testList.size());
+    for (final TestInfo each : testList) {
+      writeTest(each);
+    }
+    this.testLists.put(testList, this.testLists.size() + FIRST_REF);
+  }
+
+  private void writeTest(final TestInfo test) {
+    final Integer ref = this.tests.get(test);
+    if (ref != null) {
+      this.out.writeVarInt(ref);
+      return;
+    }
+    this.out.writeVarInt(LITERAL);
+    writeString(test.getDefiningClass());
+    writeString(test.getName());
+    this.out.writeVarInt(test.getTime());
+    writeString(test.getTestee().map(ClassName::asJavaName).orElse(null));
+    this.out.writeVarInt(test.getNumberOfBlocksCovered());
+    this.tests.put(test, this.tests.size() + FIRST_REF);
+  }
+
+  private void writeStrings(final Collection<String> values) {
+    if (values == null) {
+      this.out.writeVarInt(NULL);
+      return;
+    }
+    this.out.writeVarInt(values.size() + 1);
+    for (final String each : values) {
+      writeString(each);
+    }
+  }
+
+  private void writeString(final String value) {
+    if (value == null) {
+      this.out.writeVarInt(NULL);
+      return;
+    }
+    final Integer ref = this.strings.get(value);
+    if (ref != null) {
+      this.out.writeVarInt(ref);
+      return;
+    }
+    this.out.writeVarInt(LITERAL);
+    this.out.writeString(value);
+    this.strings.put(value, this.strings.size() + FIRST_REF);
+  }
+
+}
@@ -0,0 +1,264 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.SortedMap;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.TypePath;
+import org.pitest.bytecode.ASMVersion;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+
+import sun.pitest.MutantSwitch;
+
+/**
+ * Combines the mutants of a class into a single class. The mutated version of
+ * each method is added to the class as a private copy, and the original method
+ * is prefixed with a check that calls the copy when its mutant is the one
+ * active in {@link MutantSwitch}.
+ *
+ * Mutants of constructors and static initializers cannot be delegated to a
+ * copy, so no schema is built for classes that contain them.
+ */
+class MutantSchemaBuilder {
+
+  static final String               COPY_PREFIX  = "pit$mutant$";
+
+  private final ClassByteArraySource byteSource;
+  private final TypeHierarchy        hierarchy    = new TypeHierarchy();
+
+  MutantSchemaBuilder(final ClassByteArraySource byteSource) {
+    this.byteSource = byteSource;
+  }
+
+  Optional<byte[]> build(final byte[] original,
+      final SortedMap<Integer, Mutant> mutants) {
+    final ClassReader reader = new ClassReader(original);
+    if (((reader.getAccess() & Opcodes.ACC_INTERFACE) != 0)
+        || mutants.values().stream().anyMatch(m -> isInitializer(location(m)))) {
+      return Optional.empty();
+    }
+
+    final Map<String, List<Integer>> idsByMethod = new HashMap<>();
+    for (final Entry<Integer, Mutant> each : mutants.entrySet()) {
+      final Location l = location(each.getValue());
+      idsByMethod.computeIfAbsent(key(l.getMethodName().name(), l.getMethodDesc()),
+          k -> new ArrayList<>()).add(each.getKey());
+    }
+
+    try {
+      final ClassWriter w = new ComputeClassWriter(this.byteSource,
+          this.hierarchy, FrameOptions.pickFlags(original));
+      final SchemaVisitor schema = new SchemaVisitor(w, reader.getClassName(),
+          idsByMethod, mutants);
+      reader.accept(schema, ClassReader.SKIP_FRAMES);
+      if (!schema.allCopied) {
+        return Optional.empty();
+      }
+      return Optional.of(w.toByteArray());
+    } catch (final RuntimeException ex) {
+      // most likely a method or class that has grown too large
+      return Optional.empty();
+    }
+  }
+
+  private static Location location(final Mutant mutant) {
+    return mutant.getDetails().getId().getLocation();
+  }
+
+  private static boolean isInitializer(final Location location) {
+    final String name = location.getMethodName().name();
+    return name.equals("<init>") || name.equals("<clinit>");
+  }
+
+  private static String key(final String name, final String desc) {
+    return name + desc;
+  }
+
+  private static class SchemaVisitor extends ClassVisitor {
+
+    private final String                     owner;
+    private final Map<String, List<Integer>> idsByMethod;
+    private final SortedMap<Integer, Mutant> mutants;
+    private boolean                          allCopied = true;
+
+    SchemaVisitor(final ClassVisitor cv, final String owner,
+        final Map<String, List<Integer>> idsByMethod,
+        final SortedMap<Integer, Mutant> mutants) {
+      super(ASMVersion.ASM_VERSION, cv);
+      this.owner = owner;
+      this.idsByMethod = idsByMethod;
+      this.mutants = mutants;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      final MethodVisitor mv = super.visitMethod(access, name, desc, signature,
+          exceptions);
+      final List<Integer> ids = this.idsByMethod.get(key(name, desc));
+      if (ids == null) {
+        return mv;
+      }
+      return new SwitchingMethodVisitor(mv, this.owner, access, desc, ids);
+    }
+
+    @Override
+    public void visitEnd() {
+      for (final Entry<Integer, Mutant> each : this.mutants.entrySet()) {
+        final Location l = location(each.getValue());
+        final MethodCopier copier = new MethodCopier(this.cv,
+            l.getMethodName().name(), l.getMethodDesc(),
+            COPY_PREFIX + each.getKey());
+        new ClassReader(each.getValue().getBytes()).accept(copier,
+            ClassReader.SKIP_FRAMES);
+        this.allCopied = this.allCopied && copier.copied;
+      }
+      super.visitEnd();
+    }
+
+  }
+
+  private static class SwitchingMethodVisitor extends MethodVisitor {
+
+    private final String        owner;
+    private final int           access;
+    private final String        desc;
+    private final List<Integer> ids;
+
+    SwitchingMethodVisitor(final MethodVisitor mv, final String owner,
+        final int access, final String desc, final List<Integer> ids) {
+      super(ASMVersion.ASM_VERSION, mv);
+      this.owner = owner;
+      this.access = access;
+      this.desc = desc;
+      this.ids = ids;
+    }
+
+    @Override
+    public void visitCode() {
+      super.visitCode();
+      final Label unmutated = new Label();
+      readActiveId();
+      this.mv.visitJumpInsn(Opcodes.IFEQ, unmutated);
+      for (final Integer id : this.ids) {
+        final Label next = new Label();
+        readActiveId();
+        this.mv.visitLdcInsn(id);
+        this.mv.visitJumpInsn(Opcodes.IF_ICMPNE, next);
+        callCopy(COPY_PREFIX + id);
+        this.mv.visitLabel(next);
+      }
+      this.mv.visitLabel(unmutated);
+    }
+
+    private void readActiveId() {
+      this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, MutantSwitch.CLASS_NAME,
+          MutantSwitch.METHOD_NAME, "()I", false);
+    }
+
+    private void callCopy(final String copyName) {
+      final boolean isStatic = (this.access & Opcodes.ACC_STATIC) != 0;
+      int slot = 0;
+      if (!isStatic) {
+        this.mv.visitVarInsn(Opcodes.ALOAD, 0);
+        slot = 1;
+      }
+      for (final Type each : Type.getArgumentTypes(this.desc)) {
+        this.mv.visitVarInsn(each.getOpcode(Opcodes.ILOAD), slot);
+        slot = slot + each.getSize();
+      }
+      this.mv.visitMethodInsn(isStatic ? Opcodes.INVOKESTATIC
+          : Opcodes.INVOKESPECIAL, this.owner, copyName, this.desc, false);
+      this.mv.visitInsn(Type.getReturnType(this.desc).getOpcode(
+          Opcodes.IRETURN));
+    }
+
+  }
+
+  /**
+   * Copies a single method from a mutant class into the schema under a new
+   * name. Annotations are dropped so the copy is not mistaken for the original
+   * by frameworks that scan for them.
+   */
+  private static class MethodCopier extends ClassVisitor {
+
+    private final ClassVisitor target;
+    private final String       name;
+    private final String       desc;
+    private final String       copyName;
+    private boolean            copied;
+
+    MethodCopier(final ClassVisitor target, final String name,
+        final String desc, final String copyName) {
+      super(ASMVersion.ASM_VERSION);
+      this.target = target;
+      this.name = name;
+      this.desc = desc;
+      this.copyName = copyName;
+    }
+
+    @Override
+    public MethodVisitor visitMethod(final int access, final String name,
+        final String desc, final String signature, final String[] exceptions) {
+      if (!this.name.equals(name) || !this.desc.equals(desc)) {
+        return null;
+      }
+      this.copied = true;
+      final int copyAccess = Opcodes.ACC_PRIVATE | Opcodes.ACC_SYNTHETIC
+          | (access & Opcodes.ACC_STATIC);
+      return new WithoutAnnotations(this.target.visitMethod(copyAccess,
+          this.copyName, desc, signature, exceptions));
+    }
+
+  }
+
+  private static class WithoutAnnotations extends MethodVisitor {
+
+    WithoutAnnotations(final MethodVisitor mv) {
+      super(ASMVersion.ASM_VERSION, mv);
+    }
+
+    @Override
+    public AnnotationVisitor visitAnnotation(final String desc,
+        final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitTypeAnnotation(final int typeRef,
+        final TypePath typePath, final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public AnnotationVisitor visitParameterAnnotation(final int parameter,
+        final String desc, final boolean visible) {
+      return null;
+    }
+
+    @Override
+    public void visitAnnotableParameterCount(final int parameterCount,
+        final boolean visible) {
+      // dropped along with the parameter annotations
+    }
+
+  }
+
+}
@@ -0,0 +1,148 @@
+package org.pitest.mutationtest.execute;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.MutantSwitch;
+
+/**
+ * Allows mutants to be switched on and off by id rather than by redefining
+ * the mutated class for each one.
+ *
+ * A schema containing all the mutants of a class is swapped in when that class
+ * is first loaded. Classes for which no schema could be built, or which were
+ * loaded before the transformer was installed, must still be hot swapped.
+ */
+public class MutantSchemata implements ClassFileTransformer {
+
+  private static final Logger                  LOG       = Log.getLogger();
+
+  private final Map<String, byte[]>            schemas;
+  private final Map<MutationIdentifier, Integer> ids;
+  // the classes given a schema, by the loader that defined them
+  private final Map<ClassLoader, Set<String>>  installed = Collections
+      .synchronizedMap(new WeakHashMap<>());
+
+  MutantSchemata(final Map<String, byte[]> schemas,
+      final Map<MutationIdentifier, Integer> ids) {
+    this.schemas = schemas;
+    this.ids = ids;
+  }
+
+  public static MutantSchemata none() {
+    return new MutantSchemata(Collections.<String, byte[]> emptyMap(),
+        Collections.<MutationIdentifier, Integer> emptyMap());
+  }
+
+  public static MutantSchemata forMutations(final Mutater mutater,
+      final ClassByteArraySource byteSource,
+      final Collection<MutationDetails> mutations) {
+    final MutantSchemaBuilder builder = new MutantSchemaBuilder(byteSource);
+    final Map<String, byte[]> schemas = new HashMap<>();
+    final Map<MutationIdentifier, Integer> ids = new HashMap<>();
+
+    final Map<ClassName, List<MutationDetails>> byClass = mutations.stream()
+        .collect(Collectors.groupingBy(MutationDetails::getClassName,
+            LinkedHashMap::new, Collectors.toList()));
+
+    int nextId = 1;
+    for (final Entry<ClassName, List<MutationDetails>> each : byClass
+        .entrySet()) {
+      final SortedMap<Integer, Mutant> mutants = new TreeMap<>();
+      for (final MutationDetails mutation : each.getValue()) {
+        mutants.put(nextId, mutater.getMutation(mutation.getId()));
+        nextId++;
+      }
+
+      final Optional<byte[]> schema = byteSource
+          .getBytes(each.getKey().asJavaName())
+          .flatMap(bytes -> builder.build(bytes, mutants));
+      if (schema.isPresent()) {
+        schemas.put(each.getKey().asInternalName(), schema.get());
+        for (final Entry<Integer, Mutant> mutant : mutants.entrySet()) {
+          ids.put(mutant.getValue().getDetails().getId(), mutant.getKey());
+        }
+      } else {
+        LOG.fine("Could not create mutant schema for " + each.getKey()
+            + ". Mutants will be hot swapped.");
+      }
+    }
+
+    return new MutantSchemata(schemas, ids);
+  }
+
+  @Override
+  public byte[] transform(final ClassLoader loader, final String className,
+      final Class<?> classBeingRedefined,
+      final ProtectionDomain protectionDomain, final byte[] classfileBuffer) {
+    if (classBeingRedefined != null) {
+      return null;
+    }
+    final byte[] schema = this.schemas.get(className);
+    if (schema != null) {
+      this.installed
+          .computeIfAbsent(loader, l -> ConcurrentHashMap.newKeySet())
+          .add(className);
+    }
+    return schema;
+  }
+
+  /**
+   * Activates the given mutant if it is contained in a schema that is in use
+   * within the supplied loader.
+   *
+   * @return true if the mutant was activated, false if it must be hot swapped
+   */
+  public boolean activate(final MutationIdentifier id,
+      final ClassLoader loader) {
+    final Integer schemaId = this.ids.get(id);
+    if ((schemaId == null) || !isInstalled(id.getClassName(), loader)) {
+      return false;
+    }
+    MutantSwitch.activate(schemaId);
+    return true;
+  }
+
+  public void deactivate() {
+    MutantSwitch.reset();
+  }
+
+  // the class seen from the loader may have been defined by a different
+  // loader than the one its schema was installed in
+  private boolean isInstalled(final ClassName clazz, final ClassLoader loader) {
+    final Class<?> loaded;
+    try {
+      // ensure the class has been through the transformer. This does not
+      // initialise the class
+      loaded = Class.forName(clazz.asJavaName(), false, loader);
+    } catch (final ClassNotFoundException ex) {
+      return false;
+    }
+    final Set<String> names = this.installed.get(loaded.getClassLoader());
+    return (names != null) && names.contains(clazz.asInternalName());
+  }
+
+}
@@ -31,12 +31,12 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
@@ -72,8 +72,8 @@ public class MutationTestMinion {
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
-          .read(MinionArguments.class);
+      final MinionArguments paramsFromParent = new MinionDataReader(this.dis)
+          .readArguments();
 
       Log.setVerbose(paramsFromParent.isVerbose());
 
@@ -82,17 +82,27 @@ public class MutationTestMinion {
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
           loader), CACHE_SIZE);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
+      final HotSwap hotswap = new HotSwap(byteSource);
 
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
 
+      final Mutater mutater = engine.createMutator(byteSource);
+
+      final MutantSchemata schemata = createSchemata(paramsFromParent,
+          mutater, byteSource);
+
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+          mutater, loader, paramsFromParent.fullMutationMatrix, schemata);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      // test classes are only discovered once a mutant needs them. Any mutant
+      // left in place is first removed so discovery sees the original code
+      final FindTestUnits finder = new FindTestUnits(
+          createTestPlugin(paramsFromParent.pitConfig));
+      final LazyTestUnits tests = new LazyTestUnits(
+          paramsFromParent.testClasses,
+          classes -> findTestsForTestClasses(loader, classes, finder),
+          hotswap::restore);
 
       worker.run(paramsFromParent.mutations, this.reporter,
           new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
@@ -107,6 +117,19 @@ public class MutationTestMinion {
 
   }
 
+  private static MutantSchemata createSchemata(final MinionArguments args,
+      final Mutater mutater, final ClassByteArraySource byteSource) {
+    if (!args.mutantSchemata) {
+      return MutantSchemata.none();
+    }
+    // must be installed before the tests are discovered so the schemas
+    // replace the classes as they are first loaded
+    final MutantSchemata schemata = MutantSchemata.forMutations(mutater,
+        byteSource, args.mutations);
+    HotSwapAgent.addTransformer(schemata);
+    return schemata;
+  }
+
   private MutationEngine createEngine(String engine, EngineArguments args) {
     return this.plugins.createEngine(engine).createEngine(args);
   }
@@ -122,10 +145,12 @@ public class MutationTestMinion {
     enablePowerMockSupport();
 
     final int port = Integer.valueOf(args[0]);
+    // minions launched by a remote agent connect back to the parent's host
+    final String host = args.length > 1 ? args[1] : "localhost";
 
     Socket s = null;
     try {
-      s = new Socket("localhost", port);
+      s = new Socket(host, port);
       final SafeDataInputStream dis = new SafeDataInputStream(
           s.getInputStream());
 
@@ -148,9 +173,8 @@ public class MutationTestMinion {
 
   private static List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
-      final Configuration pitConfig) {
+      final FindTestUnits finder) {
     final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
-    final FindTestUnits finder = new FindTestUnits(pitConfig);
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
 
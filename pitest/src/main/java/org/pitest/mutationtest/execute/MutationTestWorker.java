@@ -23,7 +23,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F3;
@@ -34,6 +33,7 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestResult;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
@@ -57,14 +57,32 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final MutantSchemata                              schemata;
+
+  // reused for every mutant. The listener resets its state at the start of
+  // each run
+  private final Container                                   container;
+  private final CheckTestHasFailedResultListener            listener;
+  private final Pitest                                      pit;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, fullMutationMatrix, MutantSchemata.none());
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean fullMutationMatrix, final MutantSchemata schemata) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.schemata = schemata;
+    this.container = createContainer();
+    this.listener = new CheckTestHasFailedResultListener(fullMutationMatrix);
+    this.pit = new Pitest(this.listener);
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
@@ -89,6 +107,17 @@ public class MutationTestWorker {
       final MutationDetails mutationDetails) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
+
+    // tests may be discovered on first use, which can run test code, so
+    // must be found before any mutant is active
+    final List<TestUnit> relevantTests = testSource
+        .translateTests(mutationDetails.getTestsInOrder());
+
+    if (this.schemata.activate(mutationId, this.loader)) {
+      processSchemaMutation(r, relevantTests, mutationDetails);
+      return;
+    }
+
     final Mutant mutatedClass = this.mutater.getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
@@ -99,8 +128,6 @@ public class MutationTestWorker {
     if (DEBUG) {
       LOG.fine("mutating method " + mutatedClass.getDetails().getMethod());
     }
-    final List<TestUnit> relevantTests = testSource
-        .translateTests(mutationDetails.getTestsInOrder());
 
     r.describe(mutationId);
 
@@ -113,6 +140,32 @@ public class MutationTestWorker {
     }
   }
 
+  private void processSchemaMutation(final Reporter r,
+      final List<TestUnit> relevantTests,
+      final MutationDetails mutationDetails) throws IOException {
+    final MutationIdentifier mutationId = mutationDetails.getId();
+    try {
+      r.describe(mutationId);
+
+      final MutationStatusTestPair mutationDetected;
+      if ((relevantTests == null) || relevantTests.isEmpty()) {
+        LOG.info("No test coverage for mutation  " + mutationId + " in "
+            + mutationDetails.getMethod());
+        mutationDetected = MutationStatusTestPair.notAnalysed(0,
+            DetectionStatus.RUN_ERROR);
+      } else {
+        mutationDetected = doTestsDetectMutation(relevantTests);
+      }
+
+      r.report(mutationId, mutationDetected);
+      if (DEBUG) {
+        LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
+      }
+    } finally {
+      this.schemata.deactivate();
+    }
+  }
+
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
       final List<TestUnit> relevantTests) {
@@ -138,7 +191,6 @@ public class MutationTestWorker {
           + mutatedClass.getDetails().getMethod());
     }
 
-    final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
     if (this.hotswap.apply(mutationId.getClassName(), this.loader,
         mutatedClass.getBytes())) {
@@ -146,7 +198,7 @@ public class MutationTestWorker {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
       }
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      mutationDetected = doTestsDetectMutation(relevantTests);
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = MutationStatusTestPair.notAnalysed(0,
@@ -155,7 +207,7 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
-  private static Container createNewContainer() {
+  private static Container createContainer() {
     final Container c = new UnContainer() {
       @Override
       public List<TestResult> execute(final TestUnit group) {
@@ -177,20 +229,15 @@ public class MutationTestWorker {
         + this.loader + ", hotswap=" + this.hotswap + "]";
   }
 
-  private MutationStatusTestPair doTestsDetectMutation(final Container c,
-      final List<TestUnit> tests) {
+  private MutationStatusTestPair doTestsDetectMutation(final List<TestUnit> tests) {
     try {
-      final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener(fullMutationMatrix);
-
-      final Pitest pit = new Pitest(listener);
-      
       if (this.fullMutationMatrix) {
-        pit.run(c, tests);
+        this.pit.run(this.container, tests);
       } else {
-        pit.run(c, createEarlyExitTestGroup(tests));
+        this.pit.run(this.container, createEarlyExitTestGroup(tests));
       }
 
-      return createStatusTestPair(listener);
+      return createStatusTestPair(this.listener);
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
     }
@@ -199,15 +246,29 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair createStatusTestPair(
       final CheckTestHasFailedResultListener listener) {
-    List<String> failingTests = listener.getFailingTests().stream()
-        .map(description -> description.getQualifiedName()).collect(Collectors.toList());
-    List<String> succeedingTests = listener.getSucceedingTests().stream()
-        .map(description -> description.getQualifiedName()).collect(Collectors.toList());
+    final List<String> failingTests = toQualifiedNames(listener.getFailingTests());
+    final List<String> succeedingTests;
+    if (this.fullMutationMatrix) {
+      succeedingTests = toQualifiedNames(listener.getSucceedingTests());
+    } else {
+      succeedingTests = Collections.emptyList();
+    }
 
     return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
         listener.status(), failingTests, succeedingTests);
   }
 
+  private static List<String> toQualifiedNames(final List<Description> descriptions) {
+    if (descriptions.isEmpty()) {
+      return Collections.emptyList();
+    }
+    final List<String> names = new ArrayList<>(descriptions.size());
+    for (final Description each : descriptions) {
+      names.add(each.getQualifiedName());
+    }
+    return names;
+  }
+
   private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
     return Collections.<TestUnit> singletonList(new MultipleTestGroup(tests));
   }
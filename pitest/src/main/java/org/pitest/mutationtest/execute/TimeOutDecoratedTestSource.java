@@ -15,54 +15,72 @@
 
 package org.pitest.mutationtest.execute;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.pitest.coverage.TestInfo;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.TestUnit;
 
 public class TimeOutDecoratedTestSource {
 
-  private final Map<String, TestUnit> allTests = new HashMap<>();
-  private final TimeoutLengthStrategy timeoutStrategy;
-  private final Reporter              r;
+  private final Function<TestInfo, Optional<TestUnit>> allTests;
+  // tests are decorated once and reused for every mutant they are relevant to
+  private final Map<String, TestUnit>                 decoratedTests = new HashMap<>();
+  private final TimeoutLengthStrategy                 timeoutStrategy;
+  private final SideEffect                            timeOutSideEffect;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, mapTests(allTests), r);
+  }
+
+  TimeOutDecoratedTestSource(final TimeoutLengthStrategy timeoutStrategy,
+      final Function<TestInfo, Optional<TestUnit>> allTests, final Reporter r) {
     this.timeoutStrategy = timeoutStrategy;
-    mapTests(allTests);
-    this.r = r;
+    this.allTests = allTests;
+    this.timeOutSideEffect = new TimeOutSystemExitSideEffect(r);
   }
 
-  private void mapTests(final List<TestUnit> tests) {
+  private static Function<TestInfo, Optional<TestUnit>> mapTests(
+      final List<TestUnit> tests) {
+    final Map<String, TestUnit> byName = new HashMap<>();
     for (final TestUnit each : tests) {
-      this.allTests.put(each.getDescription().getQualifiedName(), each);
+      byName.put(each.getDescription().getQualifiedName(), each);
     }
+    return test -> Optional.ofNullable(byName.get(test.getName()));
   }
 
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
-    return testsInOrder.stream().flatMap(testToTestUnit()).collect(Collectors.toList());
-  }
-
-  private Function<TestInfo, Stream<TestUnit>> testToTestUnit() {
-    return a -> {
-      final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
-          .getName());
+    final List<TestUnit> tests = new ArrayList<>(testsInOrder.size());
+    for (final TestInfo each : testsInOrder) {
+      final TestUnit tu = decorate(each);
       if (tu != null) {
-        return Stream
-            .<TestUnit> of(new MutationTimeoutDecorator(tu,
-                new TimeOutSystemExitSideEffect(
-                    TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+        tests.add(tu);
       }
-      return Stream.empty();
-    };
+    }
+    return tests;
+  }
+
+  private TestUnit decorate(final TestInfo test) {
+    final TestUnit decorated = this.decoratedTests.get(test.getName());
+    if (decorated != null) {
+      return decorated;
+    }
+    final TestUnit tu = this.allTests.apply(test).orElse(null);
+    if (tu == null) {
+      return null;
+    }
+    final TestUnit created = new MutationTimeoutDecorator(tu,
+        this.timeOutSideEffect, this.timeoutStrategy, test.getTime());
+    this.decoratedTests.put(test.getName(), created);
+    return created;
   }
 
 }
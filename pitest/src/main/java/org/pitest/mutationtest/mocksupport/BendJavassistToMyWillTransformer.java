@@ -3,8 +3,6 @@ package org.pitest.mutationtest.mocksupport;
 import java.lang.instrument.ClassFileTransformer;
 import java.lang.instrument.IllegalClassFormatException;
 import java.security.ProtectionDomain;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -13,13 +11,14 @@ import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classinfo.TypeHierarchy;
 import org.pitest.classpath.ClassloaderByteArraySource;
 
 public class BendJavassistToMyWillTransformer implements ClassFileTransformer {
 
   private final Predicate<String> filter;
   private final Function<ClassWriter,ClassVisitor> transformation;
-  private final Map<String, String> computeCache = new ConcurrentHashMap<>();
+  private final TypeHierarchy hierarchy = new TypeHierarchy();
 
   public BendJavassistToMyWillTransformer(final Predicate<String> filter, Function<ClassWriter,ClassVisitor> transformation) {
     this.filter = filter;
@@ -36,7 +35,7 @@ public class BendJavassistToMyWillTransformer implements ClassFileTransformer {
 
       final ClassReader reader = new ClassReader(classfileBuffer);
       final ClassWriter writer = new ComputeClassWriter(
-              new ClassloaderByteArraySource(loader), this.computeCache,
+              new ClassloaderByteArraySource(loader), this.hierarchy,
               FrameOptions.pickFlags(classfileBuffer));
 
 
@@ -38,6 +38,22 @@ public class SafeDataInputStream {
     }
   }
 
+  public int readVarInt() {
+    try {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = this.dis.readByte();
+        value = value | ((b & 0x7F) << shift);
+        shift = shift + 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public String readString() {
     try {
       return new String(readBytes(), "UTF-8");
@@ -38,6 +38,23 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes an int using between one and five bytes, with small non negative
+   * values taking the least space.
+   */
+  public void writeVarInt(final int value) {
+    try {
+      int remaining = value;
+      while ((remaining & ~0x7F) != 0) {
+        this.dos.writeByte((remaining & 0x7F) | 0x80);
+        remaining = remaining >>> 7;
+      }
+      this.dos.writeByte(remaining);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public void writeString(final String str) {
     try {
       final byte[] data = str.getBytes("UTF-8");
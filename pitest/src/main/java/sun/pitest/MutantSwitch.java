@@ -0,0 +1,34 @@
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Holds the id of the mutant that is currently active within classes that
+ * contain a mutant schema. An id of 0 means no mutant is active and the
+ * unmutated code runs.
+ */
+public final class MutantSwitch {
+
+  public static final String CLASS_NAME  = MutantSwitch.class.getName()
+                                             .replace('.', '/');
+  public static final String METHOD_NAME = "active";
+
+  // read by code under test on any thread, including pooled ones
+  private static volatile int active;
+
+  private MutantSwitch() {
+  }
+
+  public static int active() {
+    return active;
+  }
+
+  public static void activate(final int id) {
+    active = id;
+  }
+
+  public static void reset() {
+    active = 0;
+  }
+
+}
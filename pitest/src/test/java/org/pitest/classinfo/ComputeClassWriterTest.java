@@ -2,8 +2,6 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 
-import java.util.HashMap;
-
 import org.junit.Test;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.util.IsolationUtils;
@@ -14,7 +12,7 @@ public class ComputeClassWriterTest {
       new ClassloaderByteArraySource(
           IsolationUtils
           .getContextClassLoader()),
-          new HashMap<String, String>(), 0);
+          new TypeHierarchy(), 0);
 
   @Test
   public void shouldResolveObjectAsSuperClassWhenNoCommonParentExists() {
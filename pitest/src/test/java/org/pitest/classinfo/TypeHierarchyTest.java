@@ -0,0 +1,81 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.TypeHierarchy.TypeInfo;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.util.PitError;
+
+public class TypeHierarchyTest {
+
+  private final TypeHierarchy testee = new TypeHierarchy();
+
+  private final List<String>  read   = new ArrayList<>();
+
+  private final ClassByteArraySource source = clazz -> {
+    this.read.add(clazz);
+    return ClassloaderByteArraySource.fromContext().getBytes(clazz);
+  };
+
+  static class Foo implements Serializable {
+    private static final long serialVersionUID = 1L;
+  }
+
+  @Test
+  public void shouldRecordSuperClassInterfacesAndAccess() {
+    final TypeInfo actual = this.testee.typeInfo(internalName(Foo.class),
+        this.source);
+    assertThat(actual.getSuperName()).isEqualTo("java/lang/Object");
+    assertThat(actual.getInterfaces()).containsExactly("java/io/Serializable");
+    assertThat(actual.isInterface()).isFalse();
+    assertThat(this.testee.typeInfo("java/io/Serializable", this.source)
+        .isInterface()).isTrue();
+  }
+
+  @Test
+  public void shouldReadEachTypeOnce() {
+    this.testee.typeInfo(internalName(Foo.class), this.source);
+    this.testee.typeInfo(internalName(Foo.class), this.source);
+    assertThat(this.read).containsExactly(internalName(Foo.class));
+  }
+
+  @Test
+  public void shouldShareTypesBetweenWriters() {
+    final ComputeClassWriter first = new ComputeClassWriter(this.source,
+        this.testee, 0);
+    final ComputeClassWriter second = new ComputeClassWriter(this.source,
+        this.testee, 0);
+    first.getCommonSuperClass("java/lang/Integer", "java/lang/Long");
+    final int typesRead = this.read.size();
+    second.getCommonSuperClass("java/lang/Integer", "java/lang/Double");
+    assertThat(this.read).hasSize(typesRead + 1).endsWith("java/lang/Double");
+  }
+
+  @Test
+  public void shouldCalculateCommonSuperClassOnce() {
+    final List<String> calculated = new ArrayList<>();
+    this.testee.commonSuperClass("a", "b", () -> {
+      calculated.add("a");
+      return "c";
+    });
+    assertThat(this.testee.commonSuperClass("a", "b", () -> "d"))
+        .isEqualTo("c");
+    assertThat(calculated).hasSize(1);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldThrowErrorWhenTypeCannotBeFound() {
+    this.testee.typeInfo("com/example/Missing", clazz -> Optional.empty());
+  }
+
+  private static String internalName(final Class<?> clazz) {
+    return ClassName.fromClass(clazz).asInternalName();
+  }
+
+}
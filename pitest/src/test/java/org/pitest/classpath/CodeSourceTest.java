@@ -2,6 +2,7 @@ package org.pitest.classpath;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +54,15 @@ public class CodeSourceTest {
     assertThat(this.testee.getTests()).containsExactly(this.foo, this.bar);
   }
 
+  @Test
+  public void shouldScanTestPathOnlyOnce() {
+    when(this.classPath.test()).thenReturn(
+        Arrays.asList(this.foo.getName(), this.bar.getName()));
+    this.testee.getTests();
+    assertThat(this.testee.getTests()).containsExactly(this.foo, this.bar);
+    verify(this.classPath, times(1)).test();
+  }
+
   @Test
   public void shouldProvideNamesOfCodeClasses() {
     final ClassInfo foo = makeClassInfo("Foo");
@@ -0,0 +1,58 @@
+package org.pitest.coverage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+
+public class TestListTest {
+
+  private final TestInfo one = aTest("one");
+  private final TestInfo two = aTest("two");
+
+  @Test
+  public void shouldContainSuppliedTestsInOrder() {
+    assertThat(TestList.of(Arrays.asList(this.two, this.one)))
+        .containsExactly(this.two, this.one);
+  }
+
+  @Test
+  public void shouldReturnSameInstanceWhenSuppliedATestList() {
+    final TestList list = TestList.of(Arrays.asList(this.one));
+    assertThat(TestList.of(list)).isSameAs(list);
+  }
+
+  @Test
+  public void shouldReturnSameInstanceWhenAppendingToEmptyList() {
+    final TestList list = TestList.of(Arrays.asList(this.one));
+    assertThat(TestList.empty().append(list)).isSameAs(list);
+  }
+
+  @Test
+  public void shouldReturnSameInstanceWhenAppendingNothing() {
+    final TestList list = TestList.of(Arrays.asList(this.one));
+    assertThat(list.append(Collections.<TestInfo> emptyList())).isSameAs(list);
+  }
+
+  @Test
+  public void shouldNotModifyOriginalWhenAppending() {
+    final TestList list = TestList.of(Arrays.asList(this.one));
+    final TestList appended = list.append(Arrays.asList(this.two));
+    assertThat(list).containsExactly(this.one);
+    assertThat(appended).containsExactly(this.one, this.two);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldNotBeModifiable() {
+    TestList.of(Arrays.asList(this.one)).add(this.two);
+  }
+
+  private static TestInfo aTest(final String name) {
+    return new TestInfo("Foo", name, 1, Optional.<ClassName> empty(), 0);
+  }
+
+}
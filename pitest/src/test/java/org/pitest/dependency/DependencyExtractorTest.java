@@ -19,12 +19,15 @@ import static org.junit.Assert.assertEquals;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classpath.ClassPathByteArraySource;
 
 public class DependencyExtractorTest {
@@ -137,6 +140,41 @@ public class DependencyExtractorTest {
 
   }
 
+  @Test
+  public void shouldParseEachClassOnceAcrossQueriesWithDefaultFilter()
+      throws Exception {
+    final Map<String, Integer> reads = new HashMap<>();
+    this.testee = new DependencyExtractor(counting(reads), 0);
+    this.testee.extractCallDependenciesForPackages(Foo.class.getName(),
+        s -> true);
+    this.testee.extractCallDependenciesForPackages(Foo.class.getName(),
+        s -> true);
+    assertEquals(Integer.valueOf(1), reads.get(Bar.class.getName()));
+  }
+
+  @Test
+  public void shouldNotKeepGraphsForSuppliedFilters() throws Exception {
+    final Map<String, Integer> reads = new HashMap<>();
+    this.testee = new DependencyExtractor(counting(reads), 0);
+    final Collection<String> first = this.testee
+        .extractCallDependenciesForPackages(Foo.class.getName(), s -> true,
+            a -> true);
+    final Collection<String> second = this.testee
+        .extractCallDependenciesForPackages(Foo.class.getName(), s -> true,
+            a -> true);
+    assertCollectionEquals(first, second);
+    assertEquals(Integer.valueOf(2), reads.get(Bar.class.getName()));
+  }
+
+  private static ClassByteArraySource counting(
+      final Map<String, Integer> reads) {
+    final ClassByteArraySource source = new ClassPathByteArraySource();
+    return name -> {
+      reads.merge(name.replace('/', '.'), 1, Integer::sum);
+      return source.getBytes(name);
+    };
+  }
+
   private Predicate<String> includeOnlyThingsCalled(final String subString) {
     return a -> a.contains(subString);
   }
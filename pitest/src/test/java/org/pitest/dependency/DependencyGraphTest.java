@@ -0,0 +1,82 @@
+package org.pitest.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
+
+public class DependencyGraphTest {
+
+  private final CountingSource source = new CountingSource(new ClassPathByteArraySource());
+
+  private final DependencyGraph testee = new DependencyGraph(this.source, a -> !a.getDest().getOwner().startsWith("java"));
+
+  public static class Start {
+    void a() {
+      new Near();
+      new Long1();
+    }
+  }
+
+  public static class Long1 {
+    Long2 l = new Long2();
+  }
+
+  public static class Long2 {
+    Near n = new Near();
+  }
+
+  public static class Near {
+    Far f = new Far();
+  }
+
+  public static class Far {
+
+  }
+
+  @Test
+  public void shouldMeasureDistanceByShortestPath() {
+    assertThat(this.testee.reachableFrom(Start.class.getName(), 2))
+      .contains(jvmName(Near.class), jvmName(Far.class), jvmName(Long1.class), jvmName(Long2.class));
+  }
+
+  @Test
+  public void shouldNotIncludeStartingClass() {
+    assertThat(this.testee.reachableFrom(Start.class.getName(), 0))
+      .doesNotContain(jvmName(Start.class));
+  }
+
+  @Test
+  public void shouldParseEachClassOnlyOnce() {
+    this.testee.reachableFrom(Start.class.getName(), 0);
+    this.testee.reachableFrom(Long1.class.getName(), 0);
+    this.testee.reachableFrom(Near.class.getName(), 0);
+
+    assertThat(this.source.requests.values()).containsOnly(1);
+  }
+
+  private static String jvmName(Class<?> clazz) {
+    return clazz.getName().replace('.', '/');
+  }
+
+  private static class CountingSource implements ClassByteArraySource {
+    private final ClassByteArraySource child;
+    private final Map<String, Integer> requests = new HashMap<>();
+
+    CountingSource(ClassByteArraySource child) {
+      this.child = child;
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(String clazz) {
+      this.requests.merge(clazz.replace('.', '/'), 1, Integer::sum);
+      return this.child.getBytes(clazz);
+    }
+  }
+
+}
@@ -2,6 +2,8 @@ package org.pitest.mutationtest.engine;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+
 import org.junit.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -36,6 +38,17 @@ public class MutationDetailsTest {
     assertThat(testee.getFilename()).isEqualTo("unknown_source");
   }
 
+  @Test
+  public void shouldCountDuplicatesAndSubsumedMutantsAmongMutants() {
+    final MutationDetails subsumed = MutationDetailsMother.aMutationDetail()
+        .build().withDuplicates(MutationDetailsMother.aMutationDetail().build(2));
+    final MutationDetails testee = MutationDetailsMother.aMutationDetail()
+        .build().withDuplicates(MutationDetailsMother.aMutationDetail().build(1))
+        .withSubsumed(Collections.singletonList(subsumed));
+
+    assertThat(testee.getNumberOfMutants()).isEqualTo(5);
+  }
+
   @Test
   public void shouldObeyHashcodeEqualsContract() {
     EqualsVerifier.forClass(MutationDetails.class).verify();
@@ -24,7 +24,14 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -207,6 +214,38 @@ public class TestGregorMutater extends MutatorTestBase {
     }
   }
 
+  @Test
+  public void shouldCreateMutantInOneMethodWithoutChangingOthers() {
+    createTesteeWith(Mutator.byName("INCREMENTS"));
+    final List<MutationDetails> found = findMutationsFor(TwoMethods.class);
+    final MutationDetails inB = FCollection
+        .filter(found, d -> d.getMethod().name().equals("b")).get(0);
+
+    final Mutant mutant = this.engine.getMutation(inB.getId());
+
+    assertEquals(inB, mutant.getDetails());
+    final ClassNode original = classNode(ClassloaderByteArraySource
+        .fromContext().getBytes(TwoMethods.class.getName()).get());
+    final ClassNode mutated = classNode(mutant.getBytes());
+    assertEquals(instructions(original, "a"), instructions(mutated, "a"));
+    assertFalse(instructions(original, "b").equals(instructions(mutated, "b")));
+  }
+
+  private static ClassNode classNode(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, 0);
+    return node;
+  }
+
+  private static String instructions(final ClassNode clazz,
+      final String method) {
+    final Textifier text = new Textifier();
+    final MethodNode node = FCollection
+        .filter(clazz.methods, m -> m.name.equals(method)).get(0);
+    node.accept(new TraceMethodVisitor(text));
+    return text.getText().toString();
+  }
+
   public static class SwitchStatement {
     public void a(int i, final int b) {
       switch (b) {
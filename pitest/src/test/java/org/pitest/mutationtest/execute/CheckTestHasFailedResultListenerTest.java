@@ -78,5 +78,19 @@ public class CheckTestHasFailedResultListenerTest {
     assertThat(testee.getSucceedingTests()).hasSize(1);
   }
 
-}
+  @Test
+  public void shouldResetStateWhenNewRunStarts() {
+    this.testee = new CheckTestHasFailedResultListener(true);
+    this.testee.onTestStart(this.description);
+    this.testee.onTestFailure(new TestResult(this.description, null));
+    this.testee.onTestSuccess(new TestResult(this.description, null));
+
+    this.testee.onRunStart();
 
+    assertEquals(0, this.testee.getNumberOfTestsRun());
+    assertThat(this.testee.getFailingTests()).isEmpty();
+    assertThat(this.testee.getSucceedingTests()).isEmpty();
+    assertEquals(DetectionStatus.SURVIVED, this.testee.status());
+  }
+
+}
@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
@@ -35,7 +36,7 @@ public class DefaultReporterTest {
     this.testee.describe(mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(new MinionDataReader(is).readMutationIdentifier(), mi);
   }
 
   @Test
@@ -45,10 +46,26 @@ public class DefaultReporterTest {
     final MutationStatusTestPair ms = new MutationStatusTestPair(2,
         DetectionStatus.KILLED, "foo");
     this.testee.report(mi, ms);
+    this.testee.done(ExitCode.OK);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    final MinionDataReader reader = new MinionDataReader(is);
+    assertEquals(reader.readMutationIdentifier(), mi);
+    assertEquals(reader.readStatus(), ms);
+  }
+
+  @Test
+  public void shouldSendReportWithDescriptionOfNextMutation()
+      throws IOException {
+    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
+        .build();
+    this.testee.report(mi, new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, "foo"));
+    assertEquals(0, this.os.size());
+
+    this.testee.describe(aMutationId().withIndex(1).withMutator("foo")
+        .build());
+    assertThat(this.os.size()).isGreaterThan(0);
   }
 
   private SafeDataInputStream resultToStream() {
@@ -0,0 +1,104 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+
+public class LazyTestUnitsTest {
+
+  private static final ClassName           FOO        = ClassName
+      .fromString("com.example.FooTest");
+  private static final ClassName           BAR        = ClassName
+      .fromString("com.example.BarTest");
+
+  private final List<Collection<ClassName>> discovered = new ArrayList<>();
+  private int                               restores;
+
+  private final LazyTestUnits               testee     = new LazyTestUnits(
+      Arrays.asList(FOO, BAR), this::find, () -> this.restores++);
+
+  @Test
+  public void shouldNotDiscoverAnyClassesUntilATestIsNeeded() {
+    assertThat(this.discovered).isEmpty();
+    assertThat(this.testee.undiscoveredClasses()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDiscoverOnlyTheDefiningClassOfATest() {
+    final Optional<TestUnit> actual = this.testee.apply(aTest(FOO, "one"));
+    assertThat(actual.get().getDescription().getQualifiedName())
+        .isEqualTo(FOO.asJavaName() + ".one");
+    assertThat(this.discovered).containsExactly(Arrays.asList(FOO));
+  }
+
+  @Test
+  public void shouldNotDiscoverAClassTwice() {
+    this.testee.apply(aTest(FOO, "one"));
+    this.testee.apply(aTest(FOO, "two"));
+    assertThat(this.discovered).hasSize(1);
+    assertThat(this.restores).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReturnTheSameUnitEachTime() {
+    assertThat(this.testee.apply(aTest(BAR, "one")).get())
+        .isSameAs(this.testee.apply(aTest(BAR, "one")).get());
+  }
+
+  @Test
+  public void shouldSearchRemainingClassesWhenDefiningClassUnknown() {
+    final TestInfo test = new TestInfo(null, BAR.asJavaName() + ".one", 0,
+        Optional.<ClassName> empty(), 0);
+    assertThat(this.testee.apply(test)).isPresent();
+    assertThat(this.testee.undiscoveredClasses()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReturnEmptyWhenTestCannotBeFound() {
+    assertThat(this.testee.apply(aTest(FOO, "missing")).isPresent()).isFalse();
+    assertThat(this.testee.undiscoveredClasses()).isEqualTo(0);
+  }
+
+  private List<TestUnit> find(final Collection<ClassName> classes) {
+    this.discovered.add(new ArrayList<>(classes));
+    final List<TestUnit> units = new ArrayList<>();
+    for (final ClassName each : classes) {
+      units.add(makeTestUnit(each.asJavaName() + ".one"));
+      units.add(makeTestUnit(each.asJavaName() + ".two"));
+    }
+    return units;
+  }
+
+  private static TestInfo aTest(final ClassName clazz, final String method) {
+    return new TestInfo(clazz.asJavaName(), clazz.asJavaName() + "." + method,
+        0, Optional.<ClassName> empty(), 0);
+  }
+
+  private static TestUnit makeTestUnit(final String name) {
+    return new TestUnit() {
+      private final Description description = new Description(name);
+
+      @Override
+      public void execute(final ResultCollector rc) {
+      }
+
+      @Override
+      public Description getDescription() {
+        return this.description;
+      }
+
+    };
+  }
+
+}
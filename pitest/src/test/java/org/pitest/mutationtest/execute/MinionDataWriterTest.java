@@ -0,0 +1,172 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.coverage.TestList;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MinionDataWriterTest {
+
+  private final ByteArrayOutputStream bos     = new ByteArrayOutputStream();
+  private final MinionDataWriter      testee  = new MinionDataWriter(
+      new SafeDataOutputStream(this.bos));
+
+  private final TestInfo              aTest   = new TestInfo("com.example.ATest",
+      "com.example.ATest.one", 42, Optional.of(ClassName.fromString("com.example.A")), 3);
+  private final TestInfo              another = new TestInfo(null,
+      "another", 1, Optional.<ClassName> empty(), 0);
+
+  @Test
+  public void shouldRoundTripMinionArguments() {
+    final MutationDetails one = makeMutation(1, this.aTest, this.another);
+    final MutationDetails two = new MutationDetails(
+        aMutationId().withIndex(2).withMutator("bar").build(), "Foo.java",
+        "desc two", 7, 2, true, PoisonStatus.IS_STATIC_INITIALIZER_CODE);
+    two.addTestsInOrder(Arrays.asList(this.another));
+
+    this.testee.writeArguments(new MinionArguments(Arrays.asList(one, two),
+        Arrays.asList(ClassName.fromString("com.example.ATest")), "gregor",
+        EngineArguments.arguments().withMutators(Arrays.asList("MATH"))
+            .withExcludedMethods(Arrays.asList("toString")),
+        new PercentAndConstantTimeoutStrategy(1.5f, 3000), true, true, false,
+        TestPluginArguments.defaults()));
+
+    final MinionArguments actual = reader().readArguments();
+
+    final List<MutationDetails> mutations = new ArrayList<>(actual.mutations);
+    assertThat(mutations).containsExactly(one, two);
+    assertThat(mutations.get(0).getTestsInOrder()).containsExactly(this.aTest,
+        this.another);
+    assertThat(mutations.get(0).getTestsInOrder().get(0).getTime())
+        .isEqualTo(42);
+    assertThat(mutations.get(0).getTestsInOrder().get(0)
+        .directlyHits(ClassName.fromString("com.example.A"))).isTrue();
+    assertThat(mutations.get(1).getTestsInOrder().get(0))
+        .isSameAs(mutations.get(0).getTestsInOrder().get(1));
+    assertThat(mutations.get(1).getLineNumber()).isEqualTo(7);
+    assertThat(mutations.get(1).getDescription()).isEqualTo("desc two");
+    assertThat(mutations.get(1).isInFinallyBlock()).isTrue();
+    assertThat(mutations.get(1).isInStaticInitializer()).isTrue();
+
+    assertThat(actual.testClasses)
+        .containsExactly(ClassName.fromString("com.example.ATest"));
+    assertThat(actual.engine).isEqualTo("gregor");
+    assertThat(actual.engineArgs.mutators()).containsExactly("MATH");
+    assertThat(actual.engineArgs.excludedMethods()).containsExactly("toString");
+    assertThat(actual.timeoutStrategy.getAllowedTime(1000)).isEqualTo(4500);
+    assertThat(actual.verbose).isTrue();
+    assertThat(actual.fullMutationMatrix).isTrue();
+    assertThat(actual.mutantSchemata).isFalse();
+  }
+
+  @Test
+  public void shouldRoundTripStatusesAndIdentifiers() {
+    final MutationIdentifier id = aMutationId()
+        .withLocation(aLocation().withMethod("foo")).withIndex(3)
+        .withMutator("mutator").build();
+    final MutationStatusTestPair killed = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("a", "b"),
+        Arrays.asList("c"));
+    final MutationStatusTestPair survived = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, Collections.<String> emptyList(),
+        Arrays.asList("a"));
+
+    this.testee.writeMutationIdentifier(id);
+    this.testee.writeStatus(killed);
+    this.testee.writeMutationIdentifier(id);
+    this.testee.writeStatus(survived);
+
+    final MinionDataReader reader = reader();
+    assertThat(reader.readMutationIdentifier()).isEqualTo(id);
+    assertThat(reader.readStatus()).isEqualTo(killed);
+    assertThat(reader.readMutationIdentifier()).isEqualTo(id);
+    assertThat(reader.readStatus()).isEqualTo(survived);
+  }
+
+  @Test
+  public void shouldSendRepeatedTestsByReference() {
+    final List<MutationDetails> mutations = new ArrayList<>();
+    for (int i = 0; i != 100; i++) {
+      mutations.add(makeMutation(i, this.aTest, this.another));
+    }
+    final MinionArguments args = new MinionArguments(mutations,
+        Collections.<ClassName> emptyList(), "gregor",
+        EngineArguments.arguments(),
+        new PercentAndConstantTimeoutStrategy(1, 0), false, false, false,
+        TestPluginArguments.defaults());
+
+    this.testee.writeArguments(args);
+
+    final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    new SafeDataOutputStream(serialized).write(args);
+    assertThat(this.bos.size()).isLessThan(serialized.size() / 4);
+  }
+
+  @Test
+  public void shouldShareTestListsThatWereSharedBeforeSending() {
+    final TestList shared = TestList.of(Arrays.asList(this.aTest, this.another));
+    final MutationDetails one = makeMutation(1);
+    one.addTestsInOrder(shared);
+    final MutationDetails two = makeMutation(2);
+    two.addTestsInOrder(shared);
+    final MutationDetails three = makeMutation(3, this.aTest, this.another);
+
+    this.testee.writeArguments(new MinionArguments(
+        Arrays.asList(one, two, three), Collections.<ClassName> emptyList(),
+        "gregor", EngineArguments.arguments(),
+        new PercentAndConstantTimeoutStrategy(1, 0), false, false, false,
+        TestPluginArguments.defaults()));
+
+    final List<MutationDetails> actual = new ArrayList<>(
+        reader().readArguments().mutations);
+    assertThat(actual.get(1).getTestsInOrder())
+        .isSameAs(actual.get(0).getTestsInOrder());
+    assertThat(actual.get(2).getTestsInOrder())
+        .isNotSameAs(actual.get(0).getTestsInOrder())
+        .containsExactly(this.aTest, this.another);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectArgumentsInUnknownFormat() {
+    new SafeDataOutputStream(this.bos).writeInt(MinionDataWriter.VERSION + 1);
+    reader().readArguments();
+  }
+
+  private MinionDataReader reader() {
+    return new MinionDataReader(new SafeDataInputStream(
+        new ByteArrayInputStream(this.bos.toByteArray())));
+  }
+
+  private static MutationDetails makeMutation(final int index,
+      final TestInfo... tests) {
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withIndex(index).withMutator("foo").build(), "Foo.java", "desc", 42,
+        1);
+    md.addTestsInOrder(Arrays.asList(tests));
+    return md;
+  }
+
+}
@@ -0,0 +1,192 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+
+public class MutantSchemataTest {
+
+  private final ClassPathByteArraySource source  = new ClassPathByteArraySource();
+
+  private final GregorMutater            mutater = new GregorMutater(
+      this.source, m -> true, Arrays.<MethodMutatorFactory> asList(
+          MathMutator.MATH_MUTATOR,
+          NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR));
+
+  @After
+  public void resetSwitch() {
+    sun.pitest.MutantSwitch.reset();
+  }
+
+  @Test
+  public void shouldRunUnmutatedCodeWhenNoMutantActive() throws Exception {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+
+    final Class<?> clazz = loadThroughTransformer(testee, HasMutants.class);
+
+    assertThat(callAdd(clazz, 2, 3)).isEqualTo(5);
+    assertThat(callIsPositive(clazz, 1)).isTrue();
+  }
+
+  @Test
+  public void shouldRunMutatedInstanceMethodWhenItsMutantIsActive()
+      throws Exception {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+    final ClassLoader loader = loaderUsing(testee, HasMutants.class);
+    final Class<?> clazz = loader.loadClass(HasMutants.class.getName());
+
+    assertThat(testee.activate(mutationIn("add", mutations).getId(), loader))
+        .isTrue();
+    assertThat(callAdd(clazz, 2, 3)).isEqualTo(-1);
+    assertThat(callIsPositive(clazz, 1)).isTrue();
+
+    testee.deactivate();
+    assertThat(callAdd(clazz, 2, 3)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldRunMutatedStaticMethodWhenItsMutantIsActive()
+      throws Exception {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+    final ClassLoader loader = loaderUsing(testee, HasMutants.class);
+    final Class<?> clazz = loader.loadClass(HasMutants.class.getName());
+
+    assertThat(testee.activate(mutationIn("isPositive", mutations).getId(),
+        loader)).isTrue();
+    assertThat(callIsPositive(clazz, 1)).isFalse();
+    assertThat(callAdd(clazz, 2, 3)).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldNotActivateMutantsInConstructors() throws Exception {
+    final List<MutationDetails> mutations = findMutations(
+        HasConstructorMutant.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+    final ClassLoader loader = loaderUsing(testee, HasConstructorMutant.class);
+
+    assertThat(testee.activate(mutations.get(0).getId(), loader)).isFalse();
+  }
+
+  @Test
+  public void shouldNotActivateMutantsWhenClassLoadedWithoutSchema() {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+
+    assertThat(testee.activate(mutations.get(0).getId(),
+        HasMutants.class.getClassLoader())).isFalse();
+  }
+
+  @Test
+  public void shouldNotActivateMutantsWhenSchemaInstalledOnlyInAnotherLoader()
+      throws Exception {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    final MutantSchemata testee = MutantSchemata.forMutations(this.mutater,
+        this.source, mutations);
+    loadThroughTransformer(testee, HasMutants.class);
+
+    assertThat(testee.activate(mutations.get(0).getId(),
+        HasMutants.class.getClassLoader())).isFalse();
+  }
+
+  @Test
+  public void shouldNotActivateAnythingWhenNoSchemata() {
+    final List<MutationDetails> mutations = findMutations(HasMutants.class);
+    assertThat(MutantSchemata.none().activate(mutations.get(0).getId(),
+        HasMutants.class.getClassLoader())).isFalse();
+  }
+
+  private List<MutationDetails> findMutations(final Class<?> clazz) {
+    return this.mutater.findMutations(ClassName.fromClass(clazz));
+  }
+
+  private static MutationDetails mutationIn(final String method,
+      final List<MutationDetails> mutations) {
+    return mutations.stream().filter(m -> m.getMethod().name().equals(method))
+        .findFirst().get();
+  }
+
+  private Class<?> loadThroughTransformer(final MutantSchemata schemata,
+      final Class<?> clazz) throws ClassNotFoundException {
+    return loaderUsing(schemata, clazz).loadClass(clazz.getName());
+  }
+
+  private ClassLoader loaderUsing(final MutantSchemata schemata,
+      final Class<?> target) {
+    final byte[] original = this.source.getBytes(target.getName()).get();
+    return new ClassLoader(getClass().getClassLoader()) {
+      @Override
+      protected synchronized Class<?> loadClass(final String name,
+          final boolean resolve) throws ClassNotFoundException {
+        if (!name.equals(target.getName())) {
+          return super.loadClass(name, resolve);
+        }
+        Class<?> c = findLoadedClass(name);
+        if (c == null) {
+          byte[] bytes = schemata.transform(this, name.replace('.', '/'),
+              null, null, original);
+          if (bytes == null) {
+            bytes = original;
+          }
+          c = defineClass(name, bytes, 0, bytes.length);
+        }
+        return c;
+      }
+    };
+  }
+
+  private static int callAdd(final Class<?> clazz, final int a, final int b)
+      throws Exception {
+    final Object instance = clazz.newInstance();
+    final Method m = clazz.getMethod("add", int.class, int.class);
+    return (Integer) m.invoke(instance, a, b);
+  }
+
+  private static boolean callIsPositive(final Class<?> clazz, final int i)
+      throws Exception {
+    final Method m = clazz.getMethod("isPositive", int.class);
+    return (Boolean) m.invoke(null, i);
+  }
+
+  public static class HasMutants {
+    public int add(final int a, final int b) {
+      return a + b;
+    }
+
+    public static boolean isPositive(final int i) {
+      return i > 0;
+    }
+  }
+
+  public static class HasConstructorMutant {
+    private final int value;
+
+    public HasConstructorMutant(final int a) {
+      this.value = a + 1;
+    }
+
+    public int value() {
+      return this.value;
+    }
+  }
+
+}
@@ -5,6 +5,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -17,7 +19,7 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationEngineFactory;
-import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.Mutater;
@@ -28,6 +30,7 @@ import org.pitest.testapi.Configuration;
 import org.pitest.util.ExitCode;
 import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 
 public class MutationTestMinionTest {
 
@@ -36,15 +39,9 @@ public class MutationTestMinionTest {
   @Mock
   private Reporter                    reporter;
 
-  @Mock
-  private SafeDataInputStream         is;
-
   @Mock
   private MutationEngine              engine;
 
-  @Mock
-  private TimeoutLengthStrategy       timeoutStrategy;
-
   @Mock
   private Configuration               testConfig;
 
@@ -67,9 +64,9 @@ public class MutationTestMinionTest {
     this.tests = new ArrayList<>();
 
     this.args = new MinionArguments(this.mutations, this.tests,  "anEgine", EngineArguments.arguments(),
-        this.timeoutStrategy, false, false, TestPluginArguments.defaults());
+        new PercentAndConstantTimeoutStrategy(1, 0), false, false, false,
+        TestPluginArguments.defaults());
 
-    when(this.is.read(MinionArguments.class)).thenReturn(this.args);
     when(this.engine.createMutator(any(ClassByteArraySource.class)))
     .thenReturn(this.mutater);
 
@@ -78,11 +75,20 @@ public class MutationTestMinionTest {
 
     when(this.settings.createEngine(any(String.class))).thenReturn(factory);
 
-    this.testee = new MutationTestMinion(this.settings, this.is, this.reporter);
+  }
+
+  private void createTestee() {
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    new MinionDataWriter(new SafeDataOutputStream(bos))
+        .writeArguments(this.args);
+    this.testee = new MutationTestMinion(this.settings,
+        new SafeDataInputStream(new ByteArrayInputStream(bos.toByteArray())),
+        this.reporter);
   }
 
   @Test
   public void shouldReportNoErrorWhenNoMutationsSupplied() {
+    createTestee();
     this.testee.run();
     verify(this.reporter).done(ExitCode.OK);
   }
@@ -93,6 +99,7 @@ public class MutationTestMinionTest {
         .withMutator("foo").build(), "file", "desc", 0, 0));
     when(this.mutater.getMutation(any(MutationIdentifier.class))).thenThrow(
         new PitError("foo"));
+    createTestee();
     this.testee.run();
     verify(this.reporter).done(ExitCode.UNKNOWN_ERROR);
   }
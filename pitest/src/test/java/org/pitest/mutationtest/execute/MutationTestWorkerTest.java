@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -51,6 +52,9 @@ public class MutationTestWorkerTest {
   @Mock
   private Reporter                                    reporter;
 
+  @Mock
+  private MutantSchemata                              schemata;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -128,6 +132,30 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldActivateSchemaMutantsWithoutHotSwapping()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final Collection<MutationDetails> range = Arrays.asList(mutantOne);
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(this.schemata.activate(mutantOne.getId(), this.loader))
+        .thenReturn(true);
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, this.schemata);
+
+    this.testee.run(range, this.reporter, this.testSource);
+
+    verify(this.reporter).report(
+        mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, tu
+            .getDescription().getName()));
+    verify(this.hotswapper, never()).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+    verify(this.schemata).deactivate();
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 